@@ -0,0 +1,88 @@
+package com.scms.common.dto;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 키셋 커서 인코더 (불투명 + 서명)
+ *
+ * 커서 = base64url("{at}|{id}") + "." + base64url(HMAC-SHA256(secret, scope + payload) 앞 16바이트)
+ *
+ * - 클라이언트는 커서 내용을 해석하거나 조작할 수 없음 (조작 시 InvalidCursorException)
+ * - scope(예: "notifications:{userId}")를 서명에 포함하여 다른 목록/사용자의 커서 재사용 방지
+ * - 같은 서비스의 모든 인스턴스가 같은 secret을 사용해야 함 (app.cursor.secret)
+ */
+public class CursorCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_BYTES = 16;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+
+    public CursorCodec(String secret) {
+        if (secret == null || secret.length() < 16) {
+            throw new IllegalArgumentException("커서 서명 키는 16자 이상이어야 합니다");
+        }
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    /**
+     * 커서 인코딩
+     */
+    public String encode(String scope, KeysetCursor cursor) {
+        String payload = cursor.at() + "|" + cursor.id();
+        return ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + "." + ENCODER.encodeToString(sign(scope, payload));
+    }
+
+    /**
+     * 커서 디코딩 (null/빈 문자열이면 첫 페이지)
+     *
+     * @throws InvalidCursorException 형식 오류 또는 서명 불일치
+     */
+    public KeysetCursor decode(String scope, String token) {
+        if (token == null || token.isBlank()) {
+            return KeysetCursor.FIRST;
+        }
+        int dot = token.indexOf('.');
+        if (dot <= 0) {
+            throw new InvalidCursorException("잘못된 커서입니다.");
+        }
+        try {
+            String payload = new String(DECODER.decode(token.substring(0, dot)), StandardCharsets.UTF_8);
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(signature, sign(scope, payload))) {
+                throw new InvalidCursorException("잘못된 커서입니다.");
+            }
+            int bar = payload.indexOf('|');
+            return new KeysetCursor(
+                    LocalDateTime.parse(payload.substring(0, bar)),
+                    Long.parseLong(payload.substring(bar + 1)));
+        } catch (InvalidCursorException e) {
+            throw e;
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new InvalidCursorException("잘못된 커서입니다.");
+        }
+    }
+
+    private byte[] sign(String scope, String payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            mac.update(scope.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) '\n');
+            return Arrays.copyOf(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)), SIGNATURE_BYTES);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("커서 서명 실패", e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.scms.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(키셋) 페이지네이션 응답 DTO
+ *
+ * PageResponse(OFFSET)와 달리 전체 개수를 세지 않고, 다음 페이지 커서만 내려줍니다.
+ * 다음 페이지는 ?cursor={nextCursor}&size={size}로 요청합니다.
+ *
+ * 사용 예 (서비스):
+ * <pre>
+ * int size = CursorPage.pageSize(requestedSize);
+ * KeysetCursor after = cursorCodec.decode(scope, cursor);
+ * List&lt;Notification&gt; rows = repository.findPage(userId, after.at(), after.id(), PageRequest.ofSize(size + 1));
+ * return CursorPage.of(rows, size, NotificationResponse::from,
+ *         n -&gt; new KeysetCursor(n.getCreatedAt(), n.getNotificationId()), cursorCodec, scope);
+ * </pre>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * 데이터 리스트
+     */
+    private List<T> content;
+
+    /**
+     * 요청한 페이지 크기
+     */
+    private int size;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private boolean hasNext;
+
+    /**
+     * 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+
+    /**
+     * 요청 페이지 크기 보정 (기본 20, 최대 100)
+     */
+    public static int pageSize(Integer requested) {
+        if (requested == null || requested < 1) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(requested, MAX_SIZE);
+    }
+
+    /**
+     * size + 1개까지 조회한 결과로 페이지 생성 (초과분 1개로 다음 페이지 존재 여부 판단)
+     */
+    public static <E, T> CursorPage<T> of(List<E> fetched, int size, Function<E, T> mapper,
+                                          Function<E, KeysetCursor> keyOf, CursorCodec codec, String scope) {
+        boolean hasNext = fetched.size() > size;
+        List<E> rows = hasNext ? fetched.subList(0, size) : fetched;
+        return CursorPage.<T>builder()
+                .content(rows.stream().map(mapper).toList())
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? codec.encode(scope, keyOf.apply(rows.get(rows.size() - 1))) : null)
+                .build();
+    }
+}
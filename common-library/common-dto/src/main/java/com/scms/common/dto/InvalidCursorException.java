@@ -0,0 +1,12 @@
+package com.scms.common.dto;
+
+/**
+ * 커서 형식이 잘못되었거나 서명이 일치하지 않는 경우
+ * (GlobalExceptionHandler에서 400 BAD_REQUEST로 응답)
+ */
+public class InvalidCursorException extends IllegalArgumentException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,25 @@
+package com.scms.common.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 키셋(Keyset) 페이지네이션 위치
+ *
+ * (정렬 시각, ID) 내림차순 목록에서 마지막으로 반환한 행의 키입니다.
+ * 다음 페이지는 "at < :at OR (at = :at AND id < :id)" 조건으로 조회하므로
+ * OFFSET처럼 앞 페이지 행을 건너뛰며 읽지 않습니다.
+ *
+ * @param at 정렬 기준 시각 (보통 createdAt)
+ * @param id 같은 시각의 행을 구분하는 ID
+ */
+public record KeysetCursor(LocalDateTime at, Long id) {
+
+    /**
+     * 첫 페이지 (모든 행보다 뒤의 위치)
+     */
+    public static final KeysetCursor FIRST = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    public boolean isFirst() {
+        return FIRST.equals(this);
+    }
+}
@@ -0,0 +1,76 @@
+package com.scms.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 알림 도메인 이벤트 메시지
+ * 다른 서비스가 알림 REST API를 동기 호출하는 대신 RabbitMQ로 발행하면
+ * notification-service가 템플릿으로 렌더링하여 일괄 저장합니다.
+ *
+ * 발행: exchange = EXCHANGE (topic), routingKey = 이벤트 종류 (예: program.approved), 본문 = JSON
+ * 발행 측은 자신의 트랜잭션 커밋 후(afterCommit) 발행하여 알림 저장을 기다리지 않습니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationEvent {
+
+    /**
+     * 알림 이벤트 exchange (topic)
+     */
+    public static final String EXCHANGE = "scms.notification.events";
+
+    /**
+     * 이벤트 ID (재전송 시 중복 저장 방지, 발행 측에서 UUID 등으로 생성)
+     */
+    private String eventId;
+
+    /**
+     * 이벤트 종류 (예: PROGRAM_APPROVED, APPLICATION_STATUS_CHANGED, CONSULTATION_REQUESTED)
+     */
+    private String eventType;
+
+    /**
+     * 알림 템플릿 코드 (없으면 eventType을 템플릿 코드로 사용)
+     */
+    private String templateCode;
+
+    /**
+     * 수신자 ID
+     */
+    private Long userId;
+
+    /**
+     * 수신 이메일 주소 (이메일 채널 템플릿일 때 발송에 사용, 선택)
+     */
+    private String recipientEmail;
+
+    /**
+     * 템플릿 변수
+     */
+    private Map<String, String> variables;
+
+    /**
+     * 관련 엔티티 (예: PROGRAM / 12)
+     */
+    private String relatedEntityType;
+
+    private Long relatedEntityId;
+
+    /**
+     * 알림 만료 일시 (선택)
+     */
+    private LocalDateTime expiresAt;
+
+    /**
+     * 이벤트 발생 일시
+     */
+    private LocalDateTime occurredAt;
+}
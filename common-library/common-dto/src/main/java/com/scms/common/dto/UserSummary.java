@@ -0,0 +1,60 @@
+package com.scms.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 요약 DTO
+ * 다른 서비스가 목록 화면에 표시할 사용자 정보(이름 등)를 채울 때 사용
+ *
+ * 일괄 조회: POST /api/users/batch {"userIds": [...]} → { userId: UserSummary }
+ * (호출 측은 BatchLookupUtils로 ID 중복 제거 및 MAX_BATCH_SIZE 단위 분할)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSummary {
+
+    /**
+     * 일괄 조회 엔드포인트 경로 (user-service)
+     */
+    public static final String BATCH_LOOKUP_PATH = "/api/users/batch";
+
+    /**
+     * 일괄 조회 1회 요청당 최대 ID 개수
+     */
+    public static final int MAX_BATCH_SIZE = 200;
+
+    /**
+     * 사용자 ID
+     */
+    private Integer userId;
+
+    /**
+     * 학번 (관리자 호출에만 포함, 그 외 null)
+     */
+    private Integer studentNum;
+
+    /**
+     * 이름
+     */
+    private String name;
+
+    /**
+     * 학과/부서 (관리자 호출에만 포함, 그 외 null)
+     */
+    private String department;
+
+    /**
+     * 사용자 역할 (관리자 호출에만 포함, 그 외 null)
+     */
+    private String role;
+
+    /**
+     * 삭제된 사용자 여부 (과거 데이터의 작성자/확인자 표시용으로 함께 반환)
+     */
+    private boolean deleted;
+}
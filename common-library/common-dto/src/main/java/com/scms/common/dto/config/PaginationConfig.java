@@ -0,0 +1,24 @@
+package com.scms.common.dto.config;
+
+import com.scms.common.dto.CursorCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 커서 페이지네이션 설정 (커서 목록 API를 제공하는 서비스에서 공통으로 사용)
+ *
+ * 목록 API의 다음 페이지 커서를 서명하는 CursorCodec 등록
+ * (모든 인스턴스가 같은 app.cursor.secret을 사용해야 다른 인스턴스가 발급한 커서를 검증 가능)
+ *
+ * 서명 키는 기본값이 없습니다. CURSOR_SECRET이 없으면 시작에 실패합니다.
+ * (공개된 기본 키로는 누구나 커서를 위조할 수 있으므로)
+ */
+@Configuration
+public class PaginationConfig {
+
+    @Bean
+    public CursorCodec cursorCodec(@Value("${app.cursor.secret}") String secret) {
+        return new CursorCodec(secret);
+    }
+}
@@ -19,6 +19,8 @@ public enum ErrorCode {
     FORBIDDEN(HttpStatus.FORBIDDEN, "E1002", "접근 권한이 없습니다."),
     NOT_FOUND(HttpStatus.NOT_FOUND, "E1003", "요청한 리소스를 찾을 수 없습니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "E1004", "서버 내부 오류가 발생했습니다."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "E1005", "요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "E1006", "일시적으로 요청을 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // 사용자 관련 에러 (2000번대)
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "E2000", "사용자를 찾을 수 없습니다."),
@@ -63,6 +65,8 @@ public enum ErrorCode {
 
     // 알림 관련 에러 (8000번대)
     NOTIFICATION_NOT_FOUND(HttpStatus.NOT_FOUND, "E8000", "알림을 찾을 수 없습니다."),
+    NOTIFICATION_TEMPLATE_NOT_FOUND(HttpStatus.NOT_FOUND, "E8001", "알림 템플릿을 찾을 수 없습니다."),
+    NOTIFICATION_BROADCAST_NOT_FOUND(HttpStatus.NOT_FOUND, "E8002", "일괄 알림 작업을 찾을 수 없습니다."),
 
     // 파일 관련 에러 (9000번대)
     FILE_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "E9000", "파일 업로드에 실패했습니다."),
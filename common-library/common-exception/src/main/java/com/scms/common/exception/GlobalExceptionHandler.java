@@ -1,8 +1,10 @@
 package com.scms.common.exception;
 
 import com.scms.common.dto.ErrorResponse;
+import com.scms.common.dto.InvalidCursorException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -122,6 +124,28 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
     }
 
+    /**
+     * 재시도 가능한 API 예외 처리 (Retry-After 헤더 포함)
+     */
+    @ExceptionHandler(RetryableApiException.class)
+    public ResponseEntity<ErrorResponse> handleRetryableApiException(
+            RetryableApiException ex,
+            HttpServletRequest request) {
+
+        log.warn("RetryableApiException: {} - {}", ex.getErrorCode().getCode(), ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .errorCode(ex.getErrorCode().getCode())
+                .message(ex.getDisplayMessage())
+                .timestamp(LocalDateTime.now())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(ex.getErrorCode().getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
     /**
      * API 예외 처리 (ErrorCode 사용)
      */
@@ -162,6 +186,26 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
     }
 
+    /**
+     * 잘못된 페이지 커서 처리
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(
+            InvalidCursorException ex,
+            HttpServletRequest request) {
+
+        log.warn("InvalidCursorException: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .errorCode(ErrorCode.BAD_REQUEST.getCode())
+                .message(ex.getMessage())
+                .timestamp(LocalDateTime.now())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
     /**
      * 유효성 검증 실패 예외 처리
      */
@@ -0,0 +1,35 @@
+package com.scms.common.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 재시도 가능한 API 예외 클래스
+ *
+ * 과부하 등 일시적인 사유로 요청을 거절할 때 사용합니다.
+ * GlobalExceptionHandler가 retryAfter를 Retry-After 헤더(초)로 내려줍니다.
+ */
+@Getter
+public class RetryableApiException extends ApiException {
+
+    private final Duration retryAfter;
+
+    public RetryableApiException(ErrorCode errorCode, Duration retryAfter) {
+        super(errorCode);
+        this.retryAfter = retryAfter;
+    }
+
+    public RetryableApiException(ErrorCode errorCode, String customMessage, Duration retryAfter) {
+        super(errorCode, customMessage);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Retry-After 헤더 값 (초 단위, 최소 1초)
+     */
+    public long getRetryAfterSeconds() {
+        long millis = retryAfter != null ? retryAfter.toMillis() : 0;
+        return Math.max(1, (millis + 999) / 1000);
+    }
+}
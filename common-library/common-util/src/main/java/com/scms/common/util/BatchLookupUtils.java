@@ -0,0 +1,97 @@
+package com.scms.common.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 일괄 조회 유틸리티 클래스
+ *
+ * 목록의 각 행마다 단건 조회(N+1)를 하는 대신, 필요한 ID를 모아 한 번에 조회할 때 사용합니다.
+ * - null 제거 및 중복 제거
+ * - batchSize 단위로 나눠 loader 호출 (서버의 1회 최대 개수 제한 대응)
+ *
+ * 사용 예:
+ * <pre>
+ * // 작성자 + 확인자 ID를 한 번에 모아 POST /api/users/batch 호출
+ * Map&lt;Integer, UserSummary&gt; users = BatchLookupUtils.lookup(
+ *         rows, UserSummary.MAX_BATCH_SIZE, userClient::getUsers,
+ *         Row::getUserId, Row::getVerifiedBy);
+ * rows.forEach(row -&gt; row.setUserName(users.get(row.getUserId()).getName()));
+ * </pre>
+ */
+public class BatchLookupUtils {
+
+    private BatchLookupUtils() {
+    }
+
+    /**
+     * ID 목록 일괄 조회 (중복 제거 + 분할)
+     *
+     * @param ids       조회할 ID (null, 중복 허용)
+     * @param batchSize loader 1회 호출당 최대 ID 개수
+     * @param loader    ID 목록 → (ID → 값) 조회 함수. 없는 ID는 결과에서 빠져도 됨
+     * @return ID → 값 (조회되지 않은 ID는 포함되지 않음)
+     */
+    public static <K, V> Map<K, V> lookup(Collection<K> ids, int batchSize,
+                                          Function<List<K>, Map<K, V>> loader) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        Set<K> unique = new LinkedHashSet<>();
+        for (K id : ids) {
+            if (id != null) {
+                unique.add(id);
+            }
+        }
+        if (unique.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<K, V> result = new HashMap<>(unique.size() * 2);
+        List<K> chunk = new ArrayList<>(Math.min(batchSize, unique.size()));
+        for (K id : unique) {
+            chunk.add(id);
+            if (chunk.size() == batchSize) {
+                putAll(result, loader.apply(List.copyOf(chunk)));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            putAll(result, loader.apply(List.copyOf(chunk)));
+        }
+        return result;
+    }
+
+    /**
+     * 행 목록에서 ID를 추출하여 일괄 조회 (한 행에 ID가 여러 개면 각각 추출 함수를 넘김)
+     */
+    @SafeVarargs
+    public static <T, K, V> Map<K, V> lookup(Collection<T> rows, int batchSize,
+                                             Function<List<K>, Map<K, V>> loader,
+                                             Function<T, K>... idExtractors) {
+        List<K> ids = new ArrayList<>(rows.size() * idExtractors.length);
+        for (T row : rows) {
+            for (Function<T, K> extractor : idExtractors) {
+                ids.add(extractor.apply(row));
+            }
+        }
+        return lookup(ids, batchSize, loader);
+    }
+
+    private static <K, V> void putAll(Map<K, V> result, Map<K, V> loaded) {
+        if (loaded != null) {
+            loaded.forEach((key, value) -> {
+                if (value != null) {
+                    result.put(Objects.requireNonNull(key), value);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.scms.common.util.identity;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 신뢰 헤더(X-User-*) 서명/검증
+ *
+ * API Gateway가 JWT 검증 후 전달하는 사용자 식별 헤더에 HMAC 서명을 붙이고,
+ * 하위 서비스는 서명이 맞는 경우에만 헤더를 신뢰합니다.
+ * (서비스 포트에 직접 접근한 호출자가 X-User-Id / X-User-Role을 위조하지 못하도록)
+ *
+ * 서명 = base64url(HMAC-SHA256(secret, "{timestamp}|{userId}|{studentNum}|{role}"))
+ * - timestamp: 서명 시각 (epoch 초, X-User-Timestamp) - maxAge보다 오래되었거나 앞선 서명은 거부 (재사용 방지)
+ * - 값이 없는 헤더는 빈 문자열로 서명
+ * - 게이트웨이와 서명 키(app.identity.secret)를 가진 내부 서비스만 서명 가능
+ */
+public class IdentityHeaderSigner {
+
+    public static final String USER_ID_HEADER = "X-User-Id";
+    public static final String STUDENT_NUM_HEADER = "X-User-Student-Num";
+    public static final String ROLE_HEADER = "X-User-Role";
+    public static final String TIMESTAMP_HEADER = "X-User-Timestamp";
+    public static final String SIGNATURE_HEADER = "X-User-Signature";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_LENGTH = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final long maxAgeSeconds;
+    private final Clock clock;
+
+    public IdentityHeaderSigner(String secret, Duration maxAge) {
+        this(secret, maxAge, Clock.systemUTC());
+    }
+
+    public IdentityHeaderSigner(String secret, Duration maxAge, Clock clock) {
+        if (secret == null || secret.length() < MIN_SECRET_LENGTH) {
+            throw new IllegalArgumentException("신뢰 헤더 서명 키는 " + MIN_SECRET_LENGTH + "자 이상이어야 합니다");
+        }
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.maxAgeSeconds = maxAge.toSeconds();
+        this.clock = clock;
+    }
+
+    /**
+     * 신뢰 헤더 설정 (식별 헤더 + 서명 시각 + 서명)
+     *
+     * @param header 헤더 설정 함수 (예: HttpHeaders::set)
+     */
+    public void sign(Long userId, String studentNum, String role, BiConsumer<String, String> header) {
+        String timestamp = String.valueOf(clock.instant().getEpochSecond());
+        String id = userId != null ? String.valueOf(userId) : null;
+        if (id != null) {
+            header.accept(USER_ID_HEADER, id);
+        }
+        if (studentNum != null) {
+            header.accept(STUDENT_NUM_HEADER, studentNum);
+        }
+        if (role != null) {
+            header.accept(ROLE_HEADER, role);
+        }
+        header.accept(TIMESTAMP_HEADER, timestamp);
+        header.accept(SIGNATURE_HEADER, ENCODER.encodeToString(mac(timestamp, id, studentNum, role)));
+    }
+
+    /**
+     * 신뢰 헤더 서명 검증
+     *
+     * @param header 헤더 조회 함수 (예: HttpServletRequest::getHeader)
+     * @return 서명이 맞고 maxAge 이내이면 true
+     */
+    public boolean verify(Function<String, String> header) {
+        String timestamp = header.apply(TIMESTAMP_HEADER);
+        String signature = header.apply(SIGNATURE_HEADER);
+        if (timestamp == null || signature == null) {
+            return false;
+        }
+        try {
+            long signedAt = Long.parseLong(timestamp);
+            if (Math.abs(clock.instant().getEpochSecond() - signedAt) > maxAgeSeconds) {
+                return false;
+            }
+            byte[] expected = mac(timestamp, header.apply(USER_ID_HEADER),
+                    header.apply(STUDENT_NUM_HEADER), header.apply(ROLE_HEADER));
+            return MessageDigest.isEqual(expected, DECODER.decode(signature));
+        } catch (IllegalArgumentException e) {
+            // 숫자가 아닌 timestamp, base64가 아닌 서명
+            return false;
+        }
+    }
+
+    private byte[] mac(String timestamp, String userId, String studentNum, String role) {
+        String payload = timestamp + "|" + nullToEmpty(userId) + "|" + nullToEmpty(studentNum) + "|" + nullToEmpty(role);
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("신뢰 헤더 서명 실패", e);
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
@@ -0,0 +1,31 @@
+package com.scms.common.util.identity;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 신뢰 헤더 검증 설정 (게이트웨이 뒤의 서블릿 서비스에서 공통으로 사용)
+ *
+ * 설정:
+ * - app.identity.secret   게이트웨이와 같은 서명 키 (필수, 기본값 없음 - IDENTITY_SIGNING_SECRET)
+ * - app.identity.max-age  서명 유효 시간 (게이트웨이/서비스 간 시계 차이 포함)
+ */
+@Configuration
+public class TrustedIdentityConfig {
+
+    @Bean
+    public IdentityHeaderSigner identityHeaderSigner(
+            @Value("${app.identity.secret}") String secret,
+            @Value("${app.identity.max-age:60s}") Duration maxAge
+    ) {
+        return new IdentityHeaderSigner(secret, maxAge);
+    }
+
+    @Bean
+    public TrustedUserHeaderFilter trustedUserHeaderFilter(IdentityHeaderSigner identityHeaderSigner) {
+        return new TrustedUserHeaderFilter(identityHeaderSigner);
+    }
+}
@@ -0,0 +1,63 @@
+package com.scms.common.util.identity;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 신뢰 헤더 → 요청 속성 변환 필터
+ *
+ * API Gateway가 JWT 검증 후 서명하여 전달하는 X-User-Id / X-User-Role 헤더를
+ * Controller에서 사용하는 @RequestAttribute("userId") / @RequestAttribute("userRole")로 설정합니다.
+ *
+ * 신뢰 경계:
+ * - 게이트웨이는 클라이언트가 보낸 X-User-* 헤더를 항상 제거하지만, 서비스 포트에 직접 접근하면 그대로 도달함
+ * - 따라서 헤더 자체가 아니라 서명(IdentityHeaderSigner)을 신뢰함. 서명 키는 게이트웨이와 내부 서비스만 보유
+ * - X-User-* 헤더가 있는데 서명이 없거나 틀리면(위조/만료) 401로 거부
+ * - 헤더가 없으면 인증되지 않은 요청으로 그대로 전달 (인가는 각 Controller가 담당)
+ */
+@Slf4j
+public class TrustedUserHeaderFilter extends OncePerRequestFilter {
+
+    public static final String USER_ID_ATTRIBUTE = "userId";
+    public static final String ROLE_ATTRIBUTE = "userRole";
+
+    private final IdentityHeaderSigner signer;
+
+    public TrustedUserHeaderFilter(IdentityHeaderSigner signer) {
+        this.signer = signer;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String userId = request.getHeader(IdentityHeaderSigner.USER_ID_HEADER);
+        String role = request.getHeader(IdentityHeaderSigner.ROLE_HEADER);
+        if (userId == null && role == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!signer.verify(request::getHeader)) {
+            log.warn("서명되지 않은 신뢰 헤더 거부: uri={}, remote={}", request.getRequestURI(), request.getRemoteAddr());
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+
+        if (userId != null) {
+            try {
+                request.setAttribute(USER_ID_ATTRIBUTE, Long.valueOf(userId));
+            } catch (NumberFormatException ignored) {
+                // 잘못된 헤더는 무시 (인증되지 않은 요청으로 처리)
+            }
+        }
+        if (role != null && !role.isBlank()) {
+            request.setAttribute(ROLE_ATTRIBUTE, role);
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,105 @@
+package com.scms.common.util.identity;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * IdentityHeaderSigner / TrustedUserHeaderFilter 단위 테스트
+ */
+class IdentityHeaderSignerTest {
+
+    private static final String SECRET = "scms-identity-signing-secret-for-tests-0123456789";
+    private static final Instant NOW = Instant.parse("2026-03-02T09:00:00Z");
+    private static final Duration MAX_AGE = Duration.ofSeconds(60);
+
+    private final IdentityHeaderSigner signer = new IdentityHeaderSigner(SECRET, MAX_AGE, Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    void verifiesHeadersSignedWithSameSecret() {
+        Map<String, String> headers = new HashMap<>();
+        signer.sign(7L, "20260001", "STUDENT", headers::put);
+
+        assertThat(headers).containsEntry(IdentityHeaderSigner.USER_ID_HEADER, "7")
+                .containsEntry(IdentityHeaderSigner.ROLE_HEADER, "STUDENT")
+                .containsEntry(IdentityHeaderSigner.TIMESTAMP_HEADER, String.valueOf(NOW.getEpochSecond()))
+                .containsKey(IdentityHeaderSigner.SIGNATURE_HEADER);
+        assertThat(signer.verify(headers::get)).isTrue();
+    }
+
+    @Test
+    void rejectsTamperedIdentity() {
+        Map<String, String> headers = new HashMap<>();
+        signer.sign(7L, null, "STUDENT", headers::put);
+
+        headers.put(IdentityHeaderSigner.ROLE_HEADER, "ADMIN");
+        assertThat(signer.verify(headers::get)).isFalse();
+
+        headers.put(IdentityHeaderSigner.ROLE_HEADER, "STUDENT");
+        headers.put(IdentityHeaderSigner.USER_ID_HEADER, "1");
+        assertThat(signer.verify(headers::get)).isFalse();
+
+        headers.put(IdentityHeaderSigner.USER_ID_HEADER, "7");
+        headers.put(IdentityHeaderSigner.SIGNATURE_HEADER, "not base64!");
+        assertThat(signer.verify(headers::get)).isFalse();
+    }
+
+    @Test
+    void rejectsOtherSecretAndExpiredSignature() {
+        Map<String, String> headers = new HashMap<>();
+        new IdentityHeaderSigner(SECRET + "-other", MAX_AGE, Clock.fixed(NOW, ZoneOffset.UTC))
+                .sign(7L, null, "ADMIN", headers::put);
+        assertThat(signer.verify(headers::get)).isFalse();
+
+        Map<String, String> old = new HashMap<>();
+        new IdentityHeaderSigner(SECRET, MAX_AGE, Clock.fixed(NOW.minusSeconds(61), ZoneOffset.UTC))
+                .sign(7L, null, "ADMIN", old::put);
+        assertThat(signer.verify(old::get)).isFalse();
+    }
+
+    @Test
+    void requiresLongSecret() {
+        assertThatThrownBy(() -> new IdentityHeaderSigner("short", MAX_AGE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void filterSetsAttributesOnlyForSignedHeaders() throws Exception {
+        TrustedUserHeaderFilter filter = new TrustedUserHeaderFilter(signer);
+
+        MockHttpServletRequest signed = new MockHttpServletRequest("GET", "/api/notifications");
+        signer.sign(7L, null, "ADMIN", signed::addHeader);
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(signed, new MockHttpServletResponse(), chain);
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(signed.getAttribute(TrustedUserHeaderFilter.USER_ID_ATTRIBUTE)).isEqualTo(7L);
+        assertThat(signed.getAttribute(TrustedUserHeaderFilter.ROLE_ATTRIBUTE)).isEqualTo("ADMIN");
+
+        MockHttpServletRequest forged = new MockHttpServletRequest("GET", "/api/notifications");
+        forged.addHeader(IdentityHeaderSigner.USER_ID_HEADER, "1");
+        forged.addHeader(IdentityHeaderSigner.ROLE_HEADER, "ADMIN");
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        MockFilterChain rejectedChain = new MockFilterChain();
+        filter.doFilter(forged, rejected, rejectedChain);
+        assertThat(rejected.getStatus()).isEqualTo(HttpServletResponse.SC_UNAUTHORIZED);
+        assertThat(rejectedChain.getRequest()).isNull();
+        assertThat(forged.getAttribute(TrustedUserHeaderFilter.USER_ID_ATTRIBUTE)).isNull();
+
+        MockHttpServletRequest anonymous = new MockHttpServletRequest("GET", "/actuator/health");
+        MockFilterChain anonymousChain = new MockFilterChain();
+        filter.doFilter(anonymous, new MockHttpServletResponse(), anonymousChain);
+        assertThat(anonymousChain.getRequest()).isNotNull();
+    }
+}
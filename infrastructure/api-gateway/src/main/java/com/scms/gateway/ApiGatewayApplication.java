@@ -11,10 +11,11 @@ import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
  * 역할:
  * - 라우팅: 요청을 적절한 마이크로서비스로 전달
  * - 로드 밸런싱: 서비스 인스턴스 간 부하 분산
- * - 인증/인가: JWT 토큰 검증 (추후 구현)
+ * - 인증: 엣지 JWT 토큰 검증 및 신뢰 헤더(X-User-*) 전달
  * - Rate Limiting: 요청 속도 제한
  * - CORS 처리
  * - Circuit Breaker: 장애 격리
+ * - 관측: 라우트/인스턴스별 지연 시간 분포 (/actuator/routelatency)
  */
 @EnableDiscoveryClient
 @SpringBootApplication
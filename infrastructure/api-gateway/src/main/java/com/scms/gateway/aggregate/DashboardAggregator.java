@@ -0,0 +1,117 @@
+package com.scms.gateway.aggregate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.scms.common.util.identity.IdentityHeaderSigner;
+import com.scms.gateway.security.VerifiedClaims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 학생 대시보드 병렬 집계기 (BFF)
+ *
+ * user / notification / program / portfolio 서비스를 동시에 호출하여 하나의 응답으로 합칩니다.
+ * - 섹션별 타임아웃(gateway.dashboard.section-timeout)으로 전체 지연이 가장 느린 백엔드 1개로 제한
+ * - 실패하거나 시간 초과된 섹션은 DEGRADED로 표시하고 나머지 섹션은 정상 반환
+ *
+ * 각 섹션은 학생 본인 권한으로 호출 가능한 엔드포인트만 사용합니다. (프로필은 관리자 전용 /api/users/{id} 대신 /api/users/me)
+ *
+ * 백엔드 호출은 lb:// 서비스 ID로 로드밸런싱(PeakEwmaLoadBalancer)하며,
+ * 게이트웨이가 검증한 사용자 정보를 서명된 신뢰 헤더(X-User-*)로 전달합니다.
+ */
+@Slf4j
+@Component
+public class DashboardAggregator {
+
+    private final WebClient webClient;
+    private final IdentityHeaderSigner identityHeaderSigner;
+    private final Duration sectionTimeout;
+
+    public DashboardAggregator(
+            WebClient.Builder webClientBuilder,
+            ReactorLoadBalancerExchangeFilterFunction loadBalancerFunction,
+            IdentityHeaderSigner identityHeaderSigner,
+            @Value("${gateway.dashboard.section-timeout:800ms}") Duration sectionTimeout
+    ) {
+        this.webClient = webClientBuilder.filter(loadBalancerFunction).build();
+        this.identityHeaderSigner = identityHeaderSigner;
+        this.sectionTimeout = sectionTimeout;
+    }
+
+    /**
+     * 대시보드 섹션 병렬 조회
+     *
+     * @return 섹션 이름 -> 결과 (정의 순서 유지)
+     */
+    public Mono<Map<String, DashboardSection>> aggregate(VerifiedClaims claims, String authorization) {
+        List<Section> sections = List.of(
+                new Section("profile", "user-service", "/api/users/me"),
+                new Section("unreadNotificationCount", "notification-service", "/api/notifications/unread-count"),
+                new Section("availablePrograms", "program-service", "/api/programs/available"),
+                new Section("recommendedPortfolios", "portfolio-service", "/api/portfolios/recommended")
+        );
+
+        return Flux.fromIterable(sections)
+                .flatMap(section -> fetch(section, claims, authorization)
+                        .map(result -> Map.entry(section.name(), result)))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .map(results -> {
+                    Map<String, DashboardSection> ordered = new LinkedHashMap<>();
+                    sections.forEach(section -> ordered.put(section.name(), results.get(section.name())));
+                    return ordered;
+                });
+    }
+
+    private Mono<DashboardSection> fetch(Section section, VerifiedClaims claims, String authorization) {
+        return webClient.get()
+                .uri("http://" + section.serviceId() + section.path())
+                .headers(headers -> {
+                    headers.set(HttpHeaders.AUTHORIZATION, authorization);
+                    identityHeaderSigner.sign(claims.userId(), claims.studentNum(), claims.role(), headers::set);
+                })
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .timeout(sectionTimeout)
+                .map(body -> DashboardSection.ok(unwrap(body)))
+                .onErrorResume(e -> {
+                    String reason = reason(e);
+                    log.debug("대시보드 섹션 실패: section={}, reason={}", section.name(), reason);
+                    return Mono.just(DashboardSection.degraded(reason));
+                });
+    }
+
+    /**
+     * 공통 ApiResponse 형식({success, message, data})이면 data만 사용
+     */
+    private static JsonNode unwrap(JsonNode body) {
+        if (body.has("success") && body.has("data")) {
+            return body.get("data");
+        }
+        return body;
+    }
+
+    private static String reason(Throwable e) {
+        if (e instanceof TimeoutException) {
+            return "TIMEOUT";
+        }
+        if (e instanceof WebClientResponseException responseException) {
+            return "HTTP_" + responseException.getStatusCode().value();
+        }
+        return "UNAVAILABLE";
+    }
+
+    private record Section(String name, String serviceId, String path) {
+    }
+}
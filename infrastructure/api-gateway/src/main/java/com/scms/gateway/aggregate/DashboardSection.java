@@ -0,0 +1,29 @@
+package com.scms.gateway.aggregate;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 대시보드 섹션 결과
+ *
+ * @param status OK 또는 DEGRADED
+ * @param data   백엔드 응답 데이터 (ApiResponse 형식이면 data 필드만)
+ * @param reason DEGRADED 사유 (TIMEOUT, HTTP_503, UNAVAILABLE 등)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DashboardSection(String status, Object data, String reason) {
+
+    public static final String OK = "OK";
+    public static final String DEGRADED = "DEGRADED";
+
+    public static DashboardSection ok(Object data) {
+        return new DashboardSection(OK, data, null);
+    }
+
+    public static DashboardSection degraded(String reason) {
+        return new DashboardSection(DEGRADED, null, reason);
+    }
+
+    public boolean isDegraded() {
+        return DEGRADED.equals(status);
+    }
+}
@@ -0,0 +1,19 @@
+package com.scms.gateway.cache;
+
+import org.springframework.http.HttpHeaders;
+
+/**
+ * 게이트웨이 응답 캐시 엔트리
+ *
+ * @param headers  캐시 가능한 응답 헤더 (읽기 전용 사본)
+ * @param body     응답 본문
+ * @param etag     본문 기반 Strong ETag (따옴표 포함)
+ * @param ttlNanos 라우트별 TTL (나노초)
+ */
+public record CachedResponse(
+        HttpHeaders headers,
+        byte[] body,
+        String etag,
+        long ttlNanos
+) {
+}
@@ -0,0 +1,127 @@
+package com.scms.gateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게이트웨이 응답 캐시 저장소
+ *
+ * 키 형식: {routeId} {path}?{query}
+ *
+ * - 크기 제한: 본문 바이트 합계 기준 (gateway.cache.max-size)
+ * - 만료: 엔트리별 TTL (라우트 설정)
+ * - 무효화: 라우트 단위 또는 경로 접두사 단위 (서비스 쓰기 시 호출)
+ */
+@Slf4j
+@Component
+public class ResponseCacheStore {
+
+    private final Cache<String, CachedResponse> cache;
+
+    public ResponseCacheStore(@Value("${gateway.cache.max-size:64MB}") DataSize maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((String key, CachedResponse value) -> key.length() + value.body().length)
+                .expireAfter(new Expiry<String, CachedResponse>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedResponse value, long currentTime) {
+                        return value.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedResponse value, long currentTime, long currentDuration) {
+                        return value.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedResponse value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    public static String key(String routeId, String path, String query) {
+        return query == null || query.isEmpty()
+                ? routeId + " " + path
+                : routeId + " " + path + "?" + query;
+    }
+
+    public CachedResponse get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    public void put(String key, CachedResponse response) {
+        cache.put(key, response);
+    }
+
+    /**
+     * 라우트 전체 무효화
+     *
+     * @return 제거된 엔트리 수
+     */
+    public int invalidateRoute(String routeId) {
+        String prefix = routeId + " ";
+        return removeIf(prefix);
+    }
+
+    /**
+     * 경로 접두사 단위 무효화 (예: /api/programs/12)
+     *
+     * @return 제거된 엔트리 수
+     */
+    public int invalidatePath(String routeId, String pathPrefix) {
+        return removeIf(routeId + " " + pathPrefix);
+    }
+
+    /**
+     * 전체 무효화
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public double hitRate() {
+        return cache.stats().hitRate();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private int removeIf(String keyPrefix) {
+        AtomicInteger removed = new AtomicInteger();
+        cache.asMap().keySet().removeIf(key -> {
+            if (key.startsWith(keyPrefix)) {
+                removed.incrementAndGet();
+                return true;
+            }
+            return false;
+        });
+        log.debug("응답 캐시 무효화: prefix={}, removed={}", keyPrefix, removed.get());
+        return removed.get();
+    }
+
+    /**
+     * 본문 SHA-256 기반 Strong ETag 생성
+     */
+    public static String strongETag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
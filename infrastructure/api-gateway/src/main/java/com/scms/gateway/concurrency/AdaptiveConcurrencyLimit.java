@@ -0,0 +1,130 @@
+package com.scms.gateway.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 적응형 동시 요청 한도 (Gradient 방식)
+ *
+ * 장기 RTT(기준선)와 단기 RTT를 비교하여 한도를 조정합니다.
+ * - 단기 RTT가 기준선보다 커지면(백엔드 큐잉 시작) gradient < 1 이 되어 한도 감소
+ * - 단기 RTT가 기준선 수준이면 sqrt(limit) 만큼 여유를 두고 한도 증가
+ * - 5xx/오류 응답은 한도를 backoffRatio 배로 즉시 감소
+ * - 진행 중 요청이 한도의 절반 미만이면(여유 상태) 한도를 올리지 않음
+ *
+ * 요청 허용 판단(tryAcquire)은 CAS 기반으로 락이 없고,
+ * 한도 갱신(onSample)만 짧게 동기화합니다.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    /**
+     * 단기 RTT 평활 계수 (약 10개 샘플)
+     */
+    private static final double SHORT_ALPHA = 0.1;
+
+    /**
+     * 장기 RTT 평활 계수 (약 600개 샘플)
+     */
+    private static final double LONG_ALPHA = 1.0 / 600;
+
+    /**
+     * 기준선 대비 허용 RTT 증가율
+     */
+    private static final double TOLERANCE = 1.5;
+
+    /**
+     * 새 한도 반영 비율
+     */
+    private static final double SMOOTHING = 0.2;
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double shortRtt;
+    private double longRtt;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * 한도 내이면 진행 중 요청 수를 증가시키고 true 반환
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 측정 없이 반환 (클라이언트 취소 등)
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * 요청 완료: 진행 중 요청 수를 감소시키고 RTT 샘플로 한도 갱신
+     *
+     * @param rttNanos 백엔드 응답까지 걸린 시간
+     * @param dropped  5xx/오류 응답 여부
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        onSample(rttNanos, dropped, inFlightAtCompletion);
+    }
+
+    private synchronized void onSample(long rttNanos, boolean dropped, int inFlightAtCompletion) {
+        double current = limit;
+        double next;
+
+        if (dropped) {
+            next = current * BACKOFF_RATIO;
+        } else {
+            double rtt = rttNanos;
+            shortRtt = shortRtt == 0 ? rtt : shortRtt + SHORT_ALPHA * (rtt - shortRtt);
+            longRtt = longRtt == 0 ? rtt : longRtt + LONG_ALPHA * (rtt - longRtt);
+
+            // 부하가 줄어 단기 RTT가 기준선보다 크게 낮아지면 기준선을 빠르게 따라 내려감
+            if (longRtt > shortRtt * 2) {
+                longRtt *= 0.95;
+            }
+
+            if (inFlightAtCompletion < current / 2) {
+                return;
+            }
+
+            double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+            next = current * gradient + Math.sqrt(current);
+        }
+
+        next = current * (1 - SMOOTHING) + next * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 장기 RTT 기준선 (밀리초)
+     */
+    public synchronized double getBaselineRttMillis() {
+        return longRtt / 1_000_000.0;
+    }
+}
@@ -0,0 +1,71 @@
+package com.scms.gateway.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 하위 서비스(lb://)별 적응형 동시 요청 한도 저장소
+ *
+ * 같은 서비스로 향하는 라우트(user-service-auth, user-service 등)는 하나의 한도를 공유합니다.
+ *
+ * 미터:
+ * - gateway.concurrency.limit    {service}  현재 한도
+ * - gateway.concurrency.inflight {service}  진행 중 요청 수
+ * - gateway.concurrency.rejected {service}  한도 초과로 거절된 요청 수
+ */
+@Component
+public class ConcurrencyLimiterRegistry {
+
+    private final MeterRegistry meterRegistry;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final ConcurrentMap<String, Limiter> limiters = new ConcurrentHashMap<>();
+
+    public ConcurrencyLimiterRegistry(
+            MeterRegistry meterRegistry,
+            @Value("${gateway.concurrency.initial-limit:20}") int initialLimit,
+            @Value("${gateway.concurrency.min-limit:4}") int minLimit,
+            @Value("${gateway.concurrency.max-limit:200}") int maxLimit
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    public Limiter limiter(String serviceId) {
+        return limiters.computeIfAbsent(serviceId, this::register);
+    }
+
+    private Limiter register(String serviceId) {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit);
+
+        Gauge.builder("gateway.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .description("적응형 동시 요청 한도")
+                .tag("service", serviceId)
+                .register(meterRegistry);
+        Gauge.builder("gateway.concurrency.inflight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                .description("진행 중 요청 수")
+                .tag("service", serviceId)
+                .register(meterRegistry);
+        Counter rejected = Counter.builder("gateway.concurrency.rejected")
+                .description("동시 요청 한도 초과로 거절된 요청 수")
+                .tag("service", serviceId)
+                .register(meterRegistry);
+
+        return new Limiter(limit, rejected);
+    }
+
+    /**
+     * 서비스별 한도와 거절 카운터
+     */
+    public record Limiter(AdaptiveConcurrencyLimit limit, Counter rejected) {
+    }
+}
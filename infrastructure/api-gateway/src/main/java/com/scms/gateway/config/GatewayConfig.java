@@ -1,56 +1,128 @@
 package com.scms.gateway.config;
 
+import com.scms.gateway.filter.AdaptiveConcurrencyLimitGatewayFilterFactory;
+import com.scms.gateway.filter.HedgedRequestGatewayFilterFactory;
+import com.scms.gateway.filter.RequestCoalescingGatewayFilterFactory;
+import com.scms.gateway.filter.ResponseCacheGatewayFilterFactory;
+import com.scms.gateway.filter.RetryBudgetGatewayFilterFactory;
+import com.scms.gateway.filter.TokenBucketRateLimiterGatewayFilterFactory;
 import org.springframework.cloud.gateway.route.RouteLocator;
 import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 /**
  * API Gateway 라우팅 설정
  *
  * 각 마이크로서비스로의 라우팅 규칙을 정의합니다.
  * Eureka를 통한 동적 라우팅을 사용합니다.
+ *
+ * Rate Limit은 라우트별로 TokenBucketRateLimiter 필터로 설정합니다.
+ * (재시도보다 먼저 적용되도록 필터 목록의 맨 앞에 둡니다)
+ *
+ * 공개 카탈로그성 GET 라우트(프로그램, 포트폴리오, 설문)는 ResponseCache 필터로
+ * 익명 요청 응답을 라우트별 TTL 동안 캐시합니다.
+ *
+ * 동시 조회가 몰리는 라우트(프로그램, 포트폴리오)는 RequestCoalescing 필터로
+ * 동일한 GET 요청을 하나의 백엔드 호출로 병합합니다.
+ *
+ * 모든 lb:// 라우트는 AdaptiveConcurrencyLimit 필터로 서비스별 동시 요청 수를 제한합니다.
+ * (Circuit Breaker/재시도보다 앞에 두어 한도 초과 503이 실패나 재시도로 이어지지 않도록 함)
+ *
+ * 재시도는 고정 횟수 대신 RetryBudget 필터로 라우트별 최근 트래픽의 20% 이내에서만 수행합니다.
+ *
+ * 알림 SSE 구독(/api/notifications/stream)은 일반 알림 라우트보다 앞에 별도 라우트로 두어
+ * 스트림이 동시 요청 한도와 Circuit Breaker 시간 제한에 걸리지 않도록 합니다.
+ *
+ * 조회 위주 라우트(프로그램, 포트폴리오)는 HedgedRequest 필터로 p95 안에 응답이 없으면
+ * 다른 인스턴스로 헤지 요청을 보냅니다. (백엔드 호출을 대신하므로 필터 목록의 마지막)
  */
 @Configuration
 public class GatewayConfig {
 
     @Bean
-    public RouteLocator customRouteLocator(RouteLocatorBuilder builder) {
+    public RouteLocator customRouteLocator(RouteLocatorBuilder builder,
+                                           TokenBucketRateLimiterGatewayFilterFactory rateLimiter,
+                                           ResponseCacheGatewayFilterFactory responseCache,
+                                           RequestCoalescingGatewayFilterFactory coalescing,
+                                           AdaptiveConcurrencyLimitGatewayFilterFactory concurrencyLimiter,
+                                           RetryBudgetGatewayFilterFactory retryBudget,
+                                           HedgedRequestGatewayFilterFactory hedging) {
         return builder.routes()
+                // User Service 인증 라우팅 (로그인/회원가입 - BCrypt 경로 보호를 위해 엄격한 제한)
+                .route("user-service-auth", r -> r
+                        .path("/api/auth/**")
+                        .filters(f -> f
+                                .filter(rateLimiter.apply(c -> c
+                                        .setReplenishRate(2)
+                                        .setBurstCapacity(10)))
+                                .filter(concurrencyLimiter.apply(c -> c.setServiceId("user-service")))
+                                .circuitBreaker(config -> config
+                                        .setName("userServiceCircuitBreaker")
+                                        .setFallbackUri("forward:/fallback/user-service"))
+                                .filter(retryBudget.apply(c -> c.setRetries(3))))
+                        .uri("lb://user-service"))
+
                 // User Service 라우팅
                 .route("user-service", r -> r
-                        .path("/api/users/**", "/api/auth/**")
+                        .path("/api/users/**")
                         .filters(f -> f
+                                .filter(rateLimiter.apply(c -> c
+                                        .setReplenishRate(20)
+                                        .setBurstCapacity(40)))
+                                .filter(concurrencyLimiter.apply(c -> c.setServiceId("user-service")))
                                 .circuitBreaker(config -> config
                                         .setName("userServiceCircuitBreaker")
                                         .setFallbackUri("forward:/fallback/user-service"))
-                                .retry(retryConfig -> retryConfig.setRetries(3)))
+                                .filter(retryBudget.apply(c -> c.setRetries(3))))
                         .uri("lb://user-service"))
 
+                // Notification Service 실시간 구독 (SSE)
+                // 장시간 유지되는 스트림이므로 동시 요청 한도/Circuit Breaker 시간 제한/재시도를 적용하지 않음
+                // (연결 시도만 Rate Limit, 연결 수 한도는 notification-service에서 관리)
+                .route("notification-service-stream", r -> r
+                        .path("/api/notifications/stream")
+                        .filters(f -> f
+                                .filter(rateLimiter.apply(c -> c
+                                        .setReplenishRate(1)
+                                        .setBurstCapacity(10))))
+                        .uri("lb://notification-service"))
+
                 // Notification Service 라우팅
                 .route("notification-service", r -> r
                         .path("/api/notifications/**")
                         .filters(f -> f
+                                .filter(rateLimiter.apply(c -> c
+                                        .setReplenishRate(20)
+                                        .setBurstCapacity(40)))
+                                .filter(concurrencyLimiter.apply(c -> c.setServiceId("notification-service")))
                                 .circuitBreaker(config -> config
                                         .setName("notificationServiceCircuitBreaker")
                                         .setFallbackUri("forward:/fallback/notification-service"))
-                                .retry(retryConfig -> retryConfig.setRetries(2)))
+                                .filter(retryBudget.apply(c -> c.setRetries(2))))
                         .uri("lb://notification-service"))
 
                 // Program Service 라우팅
                 .route("program-service", r -> r
                         .path("/api/programs/**")
                         .filters(f -> f
+                                .filter(responseCache.apply(c -> c.setTtl(Duration.ofSeconds(30))))
+                                .filter(coalescing.apply(c -> c.setMaxWait(Duration.ofSeconds(3))))
+                                .filter(concurrencyLimiter.apply(c -> c.setServiceId("program-service")))
                                 .circuitBreaker(config -> config
                                         .setName("programServiceCircuitBreaker")
                                         .setFallbackUri("forward:/fallback/program-service"))
-                                .retry(retryConfig -> retryConfig.setRetries(3)))
+                                // 헤지 필터가 응답을 직접 커밋하므로 retryBudget은 두지 않음 (오류 시 즉시 헤지로 대체)
+                                .filter(hedging.apply(c -> c.setPercentile(0.95))))
                         .uri("lb://program-service"))
 
                 // Program Application Service 라우팅
                 .route("program-application-service", r -> r
                         .path("/api/program-applications/**", "/api/program-reviews/**")
                         .filters(f -> f
+                                .filter(concurrencyLimiter.apply(c -> c.setServiceId("program-application-service")))
                                 .circuitBreaker(config -> config
                                         .setName("programApplicationServiceCircuitBreaker")
                                         .setFallbackUri("forward:/fallback/program-application-service")))
@@ -60,15 +132,20 @@ public class GatewayConfig {
                 .route("portfolio-service", r -> r
                         .path("/api/portfolios/**")
                         .filters(f -> f
+                                .filter(responseCache.apply(c -> c.setTtl(Duration.ofSeconds(60))))
+                                .filter(coalescing.apply(c -> c.setMaxWait(Duration.ofSeconds(3))))
+                                .filter(concurrencyLimiter.apply(c -> c.setServiceId("portfolio-service")))
                                 .circuitBreaker(config -> config
                                         .setName("portfolioServiceCircuitBreaker")
-                                        .setFallbackUri("forward:/fallback/portfolio-service")))
+                                        .setFallbackUri("forward:/fallback/portfolio-service"))
+                                .filter(hedging.apply(c -> c.setPercentile(0.95))))
                         .uri("lb://portfolio-service"))
 
                 // Consultation Service 라우팅
                 .route("consultation-service", r -> r
                         .path("/api/consultations/**", "/api/counselors/**")
                         .filters(f -> f
+                                .filter(concurrencyLimiter.apply(c -> c.setServiceId("consultation-service")))
                                 .circuitBreaker(config -> config
                                         .setName("consultationServiceCircuitBreaker")
                                         .setFallbackUri("forward:/fallback/consultation-service")))
@@ -78,6 +155,7 @@ public class GatewayConfig {
                 .route("competency-service", r -> r
                         .path("/api/competencies/**", "/api/assessments/**")
                         .filters(f -> f
+                                .filter(concurrencyLimiter.apply(c -> c.setServiceId("competency-service")))
                                 .circuitBreaker(config -> config
                                         .setName("competencyServiceCircuitBreaker")
                                         .setFallbackUri("forward:/fallback/competency-service")))
@@ -87,6 +165,7 @@ public class GatewayConfig {
                 .route("mileage-service", r -> r
                         .path("/api/mileage/**")
                         .filters(f -> f
+                                .filter(concurrencyLimiter.apply(c -> c.setServiceId("mileage-service")))
                                 .circuitBreaker(config -> config
                                         .setName("mileageServiceCircuitBreaker")
                                         .setFallbackUri("forward:/fallback/mileage-service")))
@@ -96,6 +175,8 @@ public class GatewayConfig {
                 .route("survey-service", r -> r
                         .path("/api/surveys/**")
                         .filters(f -> f
+                                .filter(responseCache.apply(c -> c.setTtl(Duration.ofSeconds(60))))
+                                .filter(concurrencyLimiter.apply(c -> c.setServiceId("survey-service")))
                                 .circuitBreaker(config -> config
                                         .setName("surveyServiceCircuitBreaker")
                                         .setFallbackUri("forward:/fallback/survey-service")))
@@ -105,6 +186,7 @@ public class GatewayConfig {
                 .route("external-employment-service", r -> r
                         .path("/api/external-employment/**")
                         .filters(f -> f
+                                .filter(concurrencyLimiter.apply(c -> c.setServiceId("external-employment-service")))
                                 .circuitBreaker(config -> config
                                         .setName("externalEmploymentServiceCircuitBreaker")
                                         .setFallbackUri("forward:/fallback/external-employment-service")))
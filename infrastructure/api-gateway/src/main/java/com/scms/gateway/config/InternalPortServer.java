@@ -0,0 +1,62 @@
+package com.scms.gateway.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * 내부 전용 리스너
+ *
+ * 서비스 간 호출용 /internal/** API(응답 캐시 무효화 등)를 공개 포트(server.port)가 아닌
+ * gateway.internal.port에서만 받도록 별도 Netty 서버를 띄웁니다.
+ * 같은 HttpHandler를 공유하며, 포트별 허용 경로는 InternalPortWebFilter가 나눕니다.
+ *
+ * 내부 포트는 컨테이너 네트워크 안에서만 열고 외부로 게시하지 않습니다.
+ * (gateway.internal.port가 0 이하이면 내부 API를 사용하지 않음)
+ */
+@Slf4j
+@Component
+public class InternalPortServer implements SmartLifecycle {
+
+    private final HttpHandler httpHandler;
+    private final int port;
+
+    private volatile WebServer webServer;
+
+    public InternalPortServer(
+            HttpHandler httpHandler,
+            @Value("${gateway.internal.port:8079}") int port
+    ) {
+        this.httpHandler = httpHandler;
+        this.port = port;
+    }
+
+    @Override
+    public void start() {
+        if (port <= 0) {
+            log.info("내부 포트 비활성화 (/internal/** 사용 불가)");
+            return;
+        }
+        webServer = new NettyReactiveWebServerFactory(port).getWebServer(httpHandler);
+        webServer.start();
+        log.info("내부 포트 시작: port={}", port);
+    }
+
+    @Override
+    public void stop() {
+        WebServer server = webServer;
+        if (server != null) {
+            server.stop();
+            webServer = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return webServer != null;
+    }
+}
@@ -0,0 +1,47 @@
+package com.scms.gateway.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+/**
+ * 포트별 허용 경로 분리
+ *
+ * - 공개 포트: /internal/** 요청은 404 (외부에서 내부 API 존재 자체를 알 수 없도록)
+ * - 내부 포트(gateway.internal.port): /internal/** 이외 요청은 404 (게이트웨이 라우트 우회 방지)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class InternalPortWebFilter implements WebFilter {
+
+    public static final String INTERNAL_PATH_PREFIX = "/internal/";
+
+    private final int internalPort;
+
+    public InternalPortWebFilter(@Value("${gateway.internal.port:8079}") int internalPort) {
+        this.internalPort = internalPort;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        boolean internalPath = (exchange.getRequest().getPath().value() + "/").startsWith(INTERNAL_PATH_PREFIX);
+        if (internalPath != isInternalPort(exchange)) {
+            exchange.getResponse().setStatusCode(HttpStatus.NOT_FOUND);
+            return exchange.getResponse().setComplete();
+        }
+        return chain.filter(exchange);
+    }
+
+    private boolean isInternalPort(ServerWebExchange exchange) {
+        InetSocketAddress local = exchange.getRequest().getLocalAddress();
+        return internalPort > 0 && local != null && local.getPort() == internalPort;
+    }
+}
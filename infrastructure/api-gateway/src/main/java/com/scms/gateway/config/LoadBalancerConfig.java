@@ -0,0 +1,16 @@
+package com.scms.gateway.config;
+
+import com.scms.gateway.loadbalancer.PeakEwmaLoadBalancerConfiguration;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 로드밸런서 설정
+ *
+ * 모든 lb:// 라우트에 기본 라운드로빈 대신 PeakEwmaLoadBalancer
+ * (최소 진행 요청 + Peak EWMA 지연, 실패 인스턴스 일시 제외)를 사용합니다.
+ */
+@Configuration
+@LoadBalancerClients(defaultConfiguration = PeakEwmaLoadBalancerConfiguration.class)
+public class LoadBalancerConfig {
+}
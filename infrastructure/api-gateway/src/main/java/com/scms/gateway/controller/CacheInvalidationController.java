@@ -0,0 +1,92 @@
+package com.scms.gateway.controller;
+
+import com.scms.gateway.cache.ResponseCacheStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 게이트웨이 응답 캐시 무효화 Controller
+ *
+ * 각 서비스가 데이터 변경(생성/수정/삭제/승인) 후 호출하여
+ * 게이트웨이에 캐시된 응답을 즉시 제거합니다.
+ *
+ * 엔드포인트:
+ * - POST /internal/cache/invalidate?routeId=program-service - 라우트 전체 무효화
+ * - POST /internal/cache/invalidate?routeId=program-service&pathPrefix=/api/programs/12 - 경로 단위 무효화
+ * - DELETE /internal/cache - 전체 무효화
+ *
+ * 내부 포트(gateway.internal.port)에서만 받으며 공개 포트로 온 요청은 InternalPortWebFilter가 404로 막습니다.
+ * 모든 요청은 X-Internal-Token 헤더가 gateway.cache.invalidation-token과 일치해야 합니다.
+ * (토큰 기본값은 없으며 GATEWAY_CACHE_INVALIDATION_TOKEN이 없으면 기동하지 않음)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/internal/cache")
+public class CacheInvalidationController {
+
+    private static final String INTERNAL_TOKEN_HEADER = "X-Internal-Token";
+
+    private final ResponseCacheStore store;
+    private final byte[] invalidationToken;
+
+    public CacheInvalidationController(
+            ResponseCacheStore store,
+            @Value("${gateway.cache.invalidation-token}") String invalidationToken
+    ) {
+        this.store = store;
+        this.invalidationToken = invalidationToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @PostMapping("/invalidate")
+    public ResponseEntity<Map<String, Object>> invalidate(
+            @RequestHeader(value = INTERNAL_TOKEN_HEADER, required = false) String token,
+            @RequestParam String routeId,
+            @RequestParam(required = false) String pathPrefix
+    ) {
+        if (!isAuthorized(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        int removed = pathPrefix != null
+                ? store.invalidatePath(routeId, pathPrefix)
+                : store.invalidateRoute(routeId);
+        log.info("응답 캐시 무효화: routeId={}, pathPrefix={}, removed={}", routeId, pathPrefix, removed);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("routeId", routeId);
+        response.put("pathPrefix", pathPrefix);
+        response.put("removed", removed);
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Map<String, Object>> invalidateAll(
+            @RequestHeader(value = INTERNAL_TOKEN_HEADER, required = false) String token
+    ) {
+        if (!isAuthorized(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        store.invalidateAll();
+        log.info("응답 캐시 전체 무효화");
+        return ResponseEntity.ok(Map.of("message", "전체 캐시가 무효화되었습니다."));
+    }
+
+    private boolean isAuthorized(String token) {
+        return token != null
+                && MessageDigest.isEqual(invalidationToken, token.getBytes(StandardCharsets.UTF_8));
+    }
+}
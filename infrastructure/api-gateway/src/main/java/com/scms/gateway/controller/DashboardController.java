@@ -0,0 +1,72 @@
+package com.scms.gateway.controller;
+
+import com.scms.gateway.aggregate.DashboardAggregator;
+import com.scms.gateway.aggregate.DashboardSection;
+import com.scms.gateway.security.VerifiedClaims;
+import com.scms.gateway.security.VerifiedClaimsCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 학생 대시보드 집계 Controller (BFF)
+ *
+ * 홈/마이페이지 화면에 필요한 데이터를 한 번의 요청으로 제공합니다.
+ * - GET /api/dashboard
+ *
+ * 라우트가 아닌 게이트웨이 자체 엔드포인트이므로 글로벌 필터를 거치지 않으며,
+ * Bearer 토큰은 VerifiedClaimsCache로 직접 검증합니다.
+ */
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final DashboardAggregator aggregator;
+    private final VerifiedClaimsCache verifiedClaimsCache;
+
+    @GetMapping
+    public Mono<ResponseEntity<Map<String, Object>>> dashboard(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization
+    ) {
+        VerifiedClaims claims = authorization != null && authorization.startsWith(BEARER_PREFIX)
+                ? verifiedClaimsCache.getOrVerify(authorization.substring(BEARER_PREFIX.length()))
+                : null;
+        if (claims == null || !claims.isAccessToken() || claims.userId() == null) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", "인증이 필요합니다.");
+            response.put("errorCode", "UNAUTHORIZED");
+            response.put("timestamp", LocalDateTime.now());
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response));
+        }
+
+        return aggregator.aggregate(claims, authorization)
+                .map(sections -> {
+                    List<String> degraded = sections.entrySet().stream()
+                            .filter(entry -> entry.getValue().isDegraded())
+                            .map(Map.Entry::getKey)
+                            .toList();
+
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("data", sections);
+                    response.put("degradedSections", degraded);
+                    response.put("timestamp", LocalDateTime.now());
+                    return ResponseEntity.ok(response);
+                });
+    }
+}
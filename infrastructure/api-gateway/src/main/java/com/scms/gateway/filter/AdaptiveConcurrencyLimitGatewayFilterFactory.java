@@ -0,0 +1,134 @@
+package com.scms.gateway.filter;
+
+import com.scms.gateway.concurrency.AdaptiveConcurrencyLimit;
+import com.scms.gateway.concurrency.ConcurrencyLimiterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 하위 서비스별 적응형 동시 요청 제한 필터
+ *
+ * lb:// 서비스별로 진행 중 요청 수와 RTT를 추적하여 한도(AdaptiveConcurrencyLimit)를 조정하고,
+ * 한도를 넘는 요청은 백엔드로 보내지 않고 즉시 503 Service Unavailable로 응답합니다.
+ * (서비스의 Hikari 풀(10) 앞에 요청이 쌓여 Circuit Breaker가 열리기 전에 엣지에서 차단)
+ *
+ * 재시도/Circuit Breaker보다 앞에 두어 한도 초과 응답이 재시도되거나 실패로 집계되지 않도록 합니다.
+ *
+ * 사용 예 (GatewayConfig):
+ * <pre>
+ * .filter(concurrencyLimiter.apply(c -> {}))
+ * </pre>
+ */
+@Slf4j
+@Component
+public class AdaptiveConcurrencyLimitGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<AdaptiveConcurrencyLimitGatewayFilterFactory.Config> {
+
+    private static final String LIMIT_HEADER = "X-Concurrency-Limit";
+
+    private final ConcurrencyLimiterRegistry registry;
+
+    public AdaptiveConcurrencyLimitGatewayFilterFactory(ConcurrencyLimiterRegistry registry) {
+        super(Config.class);
+        this.registry = registry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            String serviceId = resolveServiceId(exchange, config);
+            if (serviceId == null) {
+                return chain.filter(exchange);
+            }
+
+            ConcurrencyLimiterRegistry.Limiter limiter = registry.limiter(serviceId);
+            AdaptiveConcurrencyLimit limit = limiter.limit();
+            if (!limit.tryAcquire()) {
+                limiter.rejected().increment();
+                return reject(exchange, serviceId, limit);
+            }
+
+            long start = System.nanoTime();
+            return chain.filter(exchange)
+                    .doFinally(signal -> {
+                        if (signal == SignalType.CANCEL) {
+                            limit.release();
+                            return;
+                        }
+                        HttpStatusCode status = exchange.getResponse().getStatusCode();
+                        boolean dropped = signal == SignalType.ON_ERROR
+                                || (status != null && status.is5xxServerError());
+                        limit.release(System.nanoTime() - start, dropped);
+                    });
+        };
+    }
+
+    /**
+     * 503 응답 (FallbackController와 동일한 JSON 형식)
+     */
+    private Mono<Void> reject(ServerWebExchange exchange, String serviceId, AdaptiveConcurrencyLimit limit) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+        response.getHeaders().set(LIMIT_HEADER, String.valueOf(limit.getLimit()));
+
+        log.debug("동시 요청 한도 초과: service={}, limit={}, inFlight={}",
+                serviceId, limit.getLimit(), limit.getInFlight());
+
+        String body = "{\"success\":false,"
+                + "\"message\":\"요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.\","
+                + "\"errorCode\":\"SERVICE_OVERLOADED\"}";
+        DataBuffer buffer = response.bufferFactory().wrap(body.getBytes(StandardCharsets.UTF_8));
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    /**
+     * 라우트 URI(lb://{serviceId})에서 서비스 ID 추출
+     */
+    private String resolveServiceId(ServerWebExchange exchange, Config config) {
+        if (config.getServiceId() != null) {
+            return config.getServiceId();
+        }
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route == null || !"lb".equals(route.getUri().getScheme())) {
+            return null;
+        }
+        return route.getUri().getHost();
+    }
+
+    /**
+     * 라우트별 동시 요청 제한 설정
+     */
+    public static class Config {
+
+        /**
+         * 한도를 공유할 서비스 ID (null이면 라우트 URI의 lb:// 호스트 사용)
+         */
+        private String serviceId;
+
+        public String getServiceId() {
+            return serviceId;
+        }
+
+        public Config setServiceId(String serviceId) {
+            this.serviceId = serviceId;
+            return this;
+        }
+    }
+}
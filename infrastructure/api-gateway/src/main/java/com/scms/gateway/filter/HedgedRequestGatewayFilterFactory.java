@@ -0,0 +1,315 @@
+package com.scms.gateway.filter;
+
+import com.scms.gateway.hedge.HedgePolicyRegistry;
+import com.scms.gateway.loadbalancer.InstanceStatsRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.publisher.Sinks;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 헤지 요청(Hedged Request) 필터 - 멱등 GET 전용
+ *
+ * 첫 요청을 로드밸런서가 선택한 인스턴스로 보내고, 헤지 지연(최근 응답 시간의 백분위) 안에
+ * 응답이 없으면 같은 요청을 다른 인스턴스로 한 번 더 보냅니다.
+ * 먼저 도착한 응답을 사용하고 나머지 요청은 취소합니다.
+ * (GC 정지, 콜드 Hikari 풀 등 인스턴스 하나가 느려져 p99가 튀는 경우 완화)
+ *
+ * - 헤지 예산: 최근 최초 요청의 budgetRatio(기본 10%) 이내에서만 헤지 요청 전송
+ * - 첫 요청이 연결 실패 등 오류로 끝나면 헤지 지연을 기다리지 않고 바로 다른 인스턴스로 전송 (예산 내)
+ * - 둘 다 실패하면 첫 요청의 원래 오류를 그대로 전파 (서킷브레이커가 IOException 등으로 판단)
+ * - 인스턴스가 1개뿐이거나 GET이 아니면 기본 라우팅(NettyRoutingFilter)으로 처리
+ * - 응답 본문은 gateway.hedge.max-body-size 까지 버퍼링 (목록/상세 조회 JSON 대상)
+ *
+ * 필터 체인의 나머지(로드밸런서/NettyRoutingFilter)를 대신하므로 라우트 필터 목록의 마지막에 둡니다.
+ * 승자 응답을 곧바로 써서 응답이 커밋되므로 앞단의 RetryBudget 필터는 5xx를 재시도할 수 없습니다.
+ * 헤지 라우트에서는 재시도 필터를 함께 쓰지 말고, 오류 시 즉시 헤지가 재시도 역할을 대신합니다.
+ *
+ * 사용 예 (GatewayConfig):
+ * <pre>
+ * .filter(hedging.apply(c -> c.setPercentile(0.95)))
+ * </pre>
+ */
+@Slf4j
+@Component
+public class HedgedRequestGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<HedgedRequestGatewayFilterFactory.Config> {
+
+    private final HedgePolicyRegistry registry;
+    private final InstanceStatsRegistry statsRegistry;
+    private final LoadBalancerClientFactory clientFactory;
+    private final ObjectProvider<List<HttpHeadersFilter>> headersFilters;
+    private final WebClient webClient;
+
+    public HedgedRequestGatewayFilterFactory(
+            HedgePolicyRegistry registry,
+            InstanceStatsRegistry statsRegistry,
+            LoadBalancerClientFactory clientFactory,
+            ObjectProvider<List<HttpHeadersFilter>> headersFilters,
+            WebClient.Builder webClientBuilder,
+            @Value("${gateway.hedge.max-body-size:2MB}") DataSize maxBodySize
+    ) {
+        super(Config.class);
+        this.registry = registry;
+        this.statsRegistry = statsRegistry;
+        this.clientFactory = clientFactory;
+        this.headersFilters = headersFilters;
+        this.webClient = webClientBuilder
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize((int) maxBodySize.toBytes()))
+                .build();
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            if (exchange.getRequest().getMethod() != HttpMethod.GET
+                    || route == null || !"lb".equals(route.getUri().getScheme())) {
+                return chain.filter(exchange);
+            }
+
+            String serviceId = route.getUri().getHost();
+            ServiceInstanceListSupplier supplier = clientFactory.getInstance(serviceId, ServiceInstanceListSupplier.class);
+            if (supplier == null) {
+                return chain.filter(exchange);
+            }
+
+            return supplier.get().next()
+                    .defaultIfEmpty(List.of())
+                    .flatMap(instances -> {
+                        if (instances.size() < 2) {
+                            return chain.filter(exchange);
+                        }
+                        HedgePolicyRegistry.Hedge hedge = registry.hedge(route.getId(), config.getPercentile(),
+                                config.getMinDelay(), config.getMaxDelay(), config.getBudgetRatio());
+                        hedge.budget().recordRequest();
+                        return hedged(exchange, serviceId, instances, hedge);
+                    });
+        };
+    }
+
+    private Mono<Void> hedged(ServerWebExchange exchange, String serviceId,
+                              List<ServiceInstance> instances, HedgePolicyRegistry.Hedge hedge) {
+        exchange.getAttributes().put(RouteLatencyGlobalFilter.UPSTREAM_START_NANOS_ATTR, System.nanoTime());
+
+        return Mono.from(clientFactory.getInstance(serviceId).choose())
+                .filter(Response::hasServer)
+                .map(Response::getServer)
+                .switchIfEmpty(Mono.fromSupplier(() -> instances.get(0)))
+                .flatMap(primaryInstance -> {
+                    ServiceInstance alternate = pickOther(instances, primaryInstance);
+
+                    // 첫 요청이 오류로 끝나면 헤지 지연을 기다리지 않고 바로 두 번째 요청 전송
+                    Sinks.Empty<Void> primaryFailed = Sinks.empty();
+                    Mono<Attempt> primary = send(exchange, primaryInstance, false)
+                            .doOnError(e -> primaryFailed.tryEmitEmpty());
+                    Mono<Attempt> secondary = Mono.firstWithSignal(
+                                    Mono.delay(hedge.policy().hedgeDelay()).then(), primaryFailed.asMono())
+                            .then(Mono.defer(() -> {
+                                if (!hedge.budget().tryWithdraw()) {
+                                    hedge.refused().increment();
+                                    return Mono.empty();
+                                }
+                                hedge.sent().increment();
+                                log.debug("헤지 요청 전송: path={}, instance={}",
+                                        exchange.getRequest().getPath(), alternate.getInstanceId());
+                                return send(exchange, alternate, true);
+                            }));
+
+                    // 먼저 값을 낸 쪽을 사용하고 나머지는 자동 취소
+                    return Mono.firstWithValue(primary, secondary)
+                            .onErrorMap(NoSuchElementException.class, HedgedRequestGatewayFilterFactory::sourceError);
+                })
+                .flatMap(winner -> {
+                    if (winner.hedged()) {
+                        hedge.won().increment();
+                    }
+                    hedge.policy().recordLatency(winner.latencyNanos());
+                    exchange.getAttributes().put(RouteLatencyGlobalFilter.INSTANCE_ATTR,
+                            winner.instance().getHost() + ":" + winner.instance().getPort());
+                    exchange.getAttributes().put(RouteLatencyGlobalFilter.UPSTREAM_NANOS_ATTR, winner.latencyNanos());
+                    return write(exchange, winner.response());
+                });
+    }
+
+    private Mono<Attempt> send(ServerWebExchange exchange, ServiceInstance instance, boolean hedged) {
+        ServerHttpRequest request = exchange.getRequest();
+        URI uri = UriComponentsBuilder.fromUri(instance.getUri())
+                .replacePath(request.getURI().getRawPath())
+                .replaceQuery(request.getURI().getRawQuery())
+                .build(true)
+                .toUri();
+        HttpHeaders headers = HttpHeadersFilter.filterRequest(headersFilters.getIfAvailable(), exchange);
+
+        String instanceKey = InstanceStatsRegistry.key(instance);
+        statsRegistry.stats(instanceKey).start();
+        long start = System.nanoTime();
+        return webClient.get()
+                .uri(uri)
+                .headers(h -> {
+                    h.addAll(headers);
+                    h.remove(HttpHeaders.HOST);
+                })
+                .exchangeToMono(response -> response.toEntity(byte[].class))
+                .map(entity -> new Attempt(instance, entity, System.nanoTime() - start, hedged))
+                .doOnEach(signal -> {
+                    if (signal.isOnNext()) {
+                        statsRegistry.complete(instanceKey, signal.get().latencyNanos(),
+                                signal.get().response().getStatusCode().is5xxServerError());
+                    } else if (signal.isOnError()) {
+                        statsRegistry.complete(instanceKey, System.nanoTime() - start, true);
+                    }
+                })
+                .doFinally(signal -> {
+                    // 헤지에 져서 취소된 요청: 경과 시간은 실제 지연의 하한이므로 Peak EWMA에 반영
+                    if (signal == SignalType.CANCEL) {
+                        statsRegistry.complete(instanceKey, System.nanoTime() - start, false);
+                    }
+                });
+    }
+
+    private Mono<Void> write(ServerWebExchange exchange, ResponseEntity<byte[]> entity) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders filtered = HttpHeadersFilter.filter(headersFilters.getIfAvailable(), entity.getHeaders(),
+                exchange, HttpHeadersFilter.Type.RESPONSE);
+
+        response.setStatusCode(entity.getStatusCode());
+        response.getHeaders().putAll(filtered);
+        response.getHeaders().remove(HttpHeaders.TRANSFER_ENCODING);
+
+        byte[] body = entity.getBody();
+        if (body == null || body.length == 0) {
+            response.getHeaders().setContentLength(0);
+            return response.setComplete();
+        }
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    /**
+     * 두 요청 모두 값을 내지 못했을 때 firstWithValue의 NoSuchElementException 대신
+     * 실제 오류(첫 요청 우선)를 꺼냄. 헤지 예산 부족으로 두 번째 요청이 비어 끝난 경우 포함
+     */
+    private static Throwable sourceError(NoSuchElementException error) {
+        List<Throwable> candidates = new ArrayList<>(Exceptions.unwrapMultiple(error.getCause()));
+        candidates.addAll(Arrays.asList(error.getSuppressed()));
+        return candidates.stream()
+                .filter(candidate -> !(candidate instanceof NoSuchElementException))
+                .findFirst()
+                .orElse(error);
+    }
+
+    private static ServiceInstance pickOther(List<ServiceInstance> instances, ServiceInstance primary) {
+        int offset = ThreadLocalRandom.current().nextInt(instances.size());
+        for (int i = 0; i < instances.size(); i++) {
+            ServiceInstance candidate = instances.get((offset + i) % instances.size());
+            if (!sameInstance(candidate, primary)) {
+                return candidate;
+            }
+        }
+        return primary;
+    }
+
+    private static boolean sameInstance(ServiceInstance a, ServiceInstance b) {
+        return a.getHost().equals(b.getHost()) && a.getPort() == b.getPort();
+    }
+
+    /**
+     * 완료된 요청 1건
+     */
+    private record Attempt(ServiceInstance instance, ResponseEntity<byte[]> response,
+                           long latencyNanos, boolean hedged) {
+    }
+
+    /**
+     * 라우트별 헤지 설정
+     */
+    public static class Config {
+
+        /**
+         * 헤지 지연으로 사용할 응답 시간 백분위
+         */
+        private double percentile = 0.95;
+
+        /**
+         * 헤지 지연 하한
+         */
+        private Duration minDelay = Duration.ofMillis(10);
+
+        /**
+         * 헤지 지연 상한 (샘플이 부족할 때 사용)
+         */
+        private Duration maxDelay = Duration.ofMillis(500);
+
+        /**
+         * 최초 요청 대비 허용 헤지 비율
+         */
+        private double budgetRatio = 0.1;
+
+        public double getPercentile() {
+            return percentile;
+        }
+
+        public Config setPercentile(double percentile) {
+            this.percentile = percentile;
+            return this;
+        }
+
+        public Duration getMinDelay() {
+            return minDelay;
+        }
+
+        public Config setMinDelay(Duration minDelay) {
+            this.minDelay = minDelay;
+            return this;
+        }
+
+        public Duration getMaxDelay() {
+            return maxDelay;
+        }
+
+        public Config setMaxDelay(Duration maxDelay) {
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        public double getBudgetRatio() {
+            return budgetRatio;
+        }
+
+        public Config setBudgetRatio(double budgetRatio) {
+            this.budgetRatio = budgetRatio;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.scms.gateway.filter;
+
+import com.scms.common.util.identity.IdentityHeaderSigner;
+import com.scms.gateway.security.VerifiedClaims;
+import com.scms.gateway.security.VerifiedClaimsCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 엣지 JWT 인증 글로벌 필터
+ *
+ * 게이트웨이에서 Bearer 토큰을 한 번만 검증하고, 검증된 사용자 식별 정보를
+ * 신뢰 헤더(X-User-*)로 하위 서비스에 전달합니다.
+ *
+ * 처리 흐름:
+ * 1. 클라이언트가 보낸 X-User-* 헤더 제거 (위조 방지)
+ * 2. Authorization 헤더에서 토큰 추출
+ * 3. VerifiedClaimsCache로 검증 (캐시 적중 시 서명 검증 생략)
+ * 4. Access Token이면 신뢰 헤더 + HMAC 서명(IdentityHeaderSigner) 추가 및 exchange attribute에 클레임 저장
+ *
+ * 서비스 포트에 직접 접근하는 호출자는 이 필터를 거치지 않으므로,
+ * 하위 서비스는 헤더 값이 아니라 서명을 검증하여 신뢰합니다. (TrustedUserHeaderFilter)
+ *
+ * 토큰이 없거나 유효하지 않아도 요청은 그대로 전달합니다.
+ * 공개 엔드포인트 판단과 최종 인가는 각 서비스가 담당합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtAuthenticationGlobalFilter implements GlobalFilter, Ordered {
+
+    public static final String USER_ID_HEADER = IdentityHeaderSigner.USER_ID_HEADER;
+    public static final String STUDENT_NUM_HEADER = IdentityHeaderSigner.STUDENT_NUM_HEADER;
+    public static final String ROLE_HEADER = IdentityHeaderSigner.ROLE_HEADER;
+
+    /**
+     * 다른 게이트웨이 필터(Rate Limiter 등)에서 사용자 식별에 사용하는 attribute 키
+     */
+    public static final String VERIFIED_CLAIMS_ATTR = JwtAuthenticationGlobalFilter.class.getName() + ".verifiedClaims";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final VerifiedClaimsCache verifiedClaimsCache;
+    private final IdentityHeaderSigner identityHeaderSigner;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String token = resolveToken(request);
+
+        VerifiedClaims claims = token != null ? verifiedClaimsCache.getOrVerify(token) : null;
+        boolean authenticated = claims != null && claims.isAccessToken();
+
+        ServerHttpRequest mutated = request.mutate()
+                .headers(headers -> {
+                    headers.remove(USER_ID_HEADER);
+                    headers.remove(STUDENT_NUM_HEADER);
+                    headers.remove(ROLE_HEADER);
+                    headers.remove(IdentityHeaderSigner.TIMESTAMP_HEADER);
+                    headers.remove(IdentityHeaderSigner.SIGNATURE_HEADER);
+
+                    if (authenticated) {
+                        identityHeaderSigner.sign(claims.userId(), claims.studentNum(), claims.role(), headers::set);
+                    }
+                })
+                .build();
+
+        if (authenticated) {
+            exchange.getAttributes().put(VERIFIED_CLAIMS_ATTR, claims);
+            log.debug("엣지 JWT 인증 성공: userId={}, role={}", claims.userId(), claims.role());
+        }
+
+        return chain.filter(exchange.mutate().request(mutated).build());
+    }
+
+    /**
+     * 라우팅 필터보다 먼저 실행되어야 신뢰 헤더가 모든 라우트에 적용됨
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 10;
+    }
+
+    /**
+     * Authorization 헤더에서 JWT 토큰 추출
+     */
+    private String resolveToken(ServerHttpRequest request) {
+        String bearerToken = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
+            return bearerToken.substring(BEARER_PREFIX.length());
+        }
+
+        return null;
+    }
+}
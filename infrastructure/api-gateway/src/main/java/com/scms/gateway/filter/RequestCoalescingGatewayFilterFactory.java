@@ -0,0 +1,264 @@
+package com.scms.gateway.filter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 동일 요청 병합(Single-flight) 필터
+ *
+ * 같은 키를 가진 멱등 요청(GET/HEAD)이 동시에 여러 개 들어오면
+ * 첫 요청(leader)만 백엔드로 전달하고, 나머지 요청(follower)은 leader의 응답을 그대로 받습니다.
+ * 인기 프로그램 오픈 시 같은 /api/programs/{id} 요청이 몰려도 백엔드 호출은 1회로 제한됩니다.
+ *
+ * 병합 키: 라우트 ID + 메서드 + 경로 + 쿼리 + 설정된 헤더 값(keyHeaders)
+ * (개인화 응답이 섞이지 않도록 기본적으로 Authorization 헤더를 키에 포함)
+ *
+ * Origin이 다른 요청끼리도 병합되므로 CORS 헤더(Access-Control-*, Vary)는 공유하지 않습니다.
+ * follower 응답에는 CorsWebFilter가 follower 요청의 Origin 기준으로 붙인 헤더가 그대로 남습니다.
+ *
+ * 다음 경우 follower는 병합을 포기하고 직접 백엔드를 호출합니다.
+ * - leader 응답에 Set-Cookie가 포함된 경우
+ * - leader 응답 본문이 gateway.coalescing.max-body-size를 초과한 경우
+ * - leader 요청이 실패/취소되었거나 maxWait 안에 완료되지 않은 경우
+ */
+@Slf4j
+@Component
+public class RequestCoalescingGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<RequestCoalescingGatewayFilterFactory.Config> {
+
+    public static final String COALESCED_HEADER = "X-Coalesced";
+
+    /**
+     * follower에게 복사하지 않는 헤더 (CORS 헤더는 ResponseCacheGatewayFilterFactory.isCorsHeader로 별도 제외)
+     */
+    private static final Set<String> EXCLUDED_HEADERS = Set.of(
+            HttpHeaders.CONTENT_LENGTH.toLowerCase(),
+            HttpHeaders.TRANSFER_ENCODING.toLowerCase(),
+            HttpHeaders.CONNECTION.toLowerCase(),
+            HttpHeaders.DATE.toLowerCase(),
+            HttpHeaders.VARY.toLowerCase()
+    );
+
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    private final ConcurrentMap<String, Sinks.One<SharedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final long maxBodySize;
+
+    public RequestCoalescingGatewayFilterFactory(
+            @Value("${gateway.coalescing.max-body-size:1MB}") DataSize maxBodySize
+    ) {
+        super(Config.class);
+        this.maxBodySize = maxBodySize.toBytes();
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        GatewayFilter filter = (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (request.getMethod() != HttpMethod.GET && request.getMethod() != HttpMethod.HEAD) {
+                return chain.filter(exchange);
+            }
+
+            String key = buildKey(exchange, config);
+            Sinks.One<SharedResponse> sink = Sinks.one();
+            Sinks.One<SharedResponse> existing = inFlight.putIfAbsent(key, sink);
+
+            if (existing != null) {
+                return follow(exchange, chain, existing, config);
+            }
+            return lead(exchange, chain, key, sink);
+        };
+
+        // ResponseCache 필터 다음, NettyWriteResponseFilter 이전에 실행
+        return new OrderedGatewayFilter(filter, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    /**
+     * 현재 진행 중인 병합 키 수 (모니터링용)
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * leader: 백엔드를 호출하고 응답을 수집하여 follower에게 전달
+     */
+    private Mono<Void> lead(ServerWebExchange exchange, GatewayFilterChain chain,
+                            String key, Sinks.One<SharedResponse> sink) {
+        ServerHttpResponse original = exchange.getResponse();
+
+        ServerHttpResponseDecorator decorated = new ServerHttpResponseDecorator(original) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                return DataBufferUtils.join(Flux.from(body))
+                        .map(joined -> {
+                            byte[] bytes = new byte[joined.readableByteCount()];
+                            joined.read(bytes);
+                            DataBufferUtils.release(joined);
+                            return bytes;
+                        })
+                        .defaultIfEmpty(EMPTY_BODY)
+                        .flatMap(bytes -> {
+                            publish(key, sink, getStatusCode(), getHeaders(), bytes);
+                            return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                        });
+            }
+
+            @Override
+            public Mono<Void> setComplete() {
+                publish(key, sink, getStatusCode(), getHeaders(), EMPTY_BODY);
+                return super.setComplete();
+            }
+        };
+
+        return chain.filter(exchange.mutate().response(decorated).build())
+                .doFinally(signal -> {
+                    // 응답 없이 종료(오류/취소)된 경우 follower가 직접 호출하도록 알림
+                    if (inFlight.remove(key, sink)) {
+                        sink.tryEmitError(new IllegalStateException("leader 요청이 응답 없이 종료되었습니다: " + signal));
+                    }
+                });
+    }
+
+    /**
+     * follower: leader 응답을 기다렸다가 그대로 기록, 실패 시 직접 호출
+     */
+    private Mono<Void> follow(ServerWebExchange exchange, GatewayFilterChain chain,
+                              Sinks.One<SharedResponse> leader, Config config) {
+        return leader.asMono()
+                .timeout(config.getMaxWait())
+                .flatMap(shared -> write(exchange.getResponse(), shared))
+                .onErrorResume(e -> {
+                    log.debug("요청 병합 실패, 직접 호출: path={}, reason={}",
+                            exchange.getRequest().getPath(), e.getMessage());
+                    return chain.filter(exchange);
+                });
+    }
+
+    private void publish(String key, Sinks.One<SharedResponse> sink,
+                         HttpStatusCode status, HttpHeaders headers, byte[] body) {
+        // 새로 들어오는 요청은 다음 flight를 시작하도록 먼저 제거
+        if (!inFlight.remove(key, sink)) {
+            return;
+        }
+        if (headers.containsKey(HttpHeaders.SET_COOKIE) || body.length > maxBodySize) {
+            sink.tryEmitError(new IllegalStateException("공유할 수 없는 응답입니다."));
+            return;
+        }
+        sink.tryEmitValue(new SharedResponse(status, copyHeaders(headers), body));
+    }
+
+    private Mono<Void> write(ServerHttpResponse response, SharedResponse shared) {
+        response.setStatusCode(shared.status());
+        response.getHeaders().putAll(shared.headers());
+        response.getHeaders().set(COALESCED_HEADER, "true");
+        if (shared.body().length == 0) {
+            return response.setComplete();
+        }
+        response.getHeaders().setContentLength(shared.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(shared.body())));
+    }
+
+    private String buildKey(ServerWebExchange exchange, Config config) {
+        ServerHttpRequest request = exchange.getRequest();
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+
+        StringBuilder key = new StringBuilder(128)
+                .append(route != null ? route.getId() : "default").append(' ')
+                .append(request.getMethod().name()).append(' ')
+                .append(request.getPath().value());
+        String query = request.getURI().getRawQuery();
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        for (String header : config.getKeyHeaders()) {
+            key.append('\n').append(header).append(':');
+            List<String> values = request.getHeaders().get(header);
+            if (values != null) {
+                key.append(String.join(",", values));
+            }
+        }
+        return key.toString();
+    }
+
+    private static HttpHeaders copyHeaders(HttpHeaders source) {
+        HttpHeaders copy = new HttpHeaders();
+        source.forEach((name, values) -> {
+            String lowerName = name.toLowerCase();
+            if (!EXCLUDED_HEADERS.contains(lowerName) && !ResponseCacheGatewayFilterFactory.isCorsHeader(lowerName)) {
+                copy.put(name, List.copyOf(values));
+            }
+        });
+        return HttpHeaders.readOnlyHttpHeaders(copy);
+    }
+
+    /**
+     * leader 응답 스냅샷
+     */
+    private record SharedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+    }
+
+    /**
+     * 라우트별 요청 병합 설정
+     */
+    public static class Config {
+
+        /**
+         * 병합 키에 포함할 요청 헤더
+         */
+        private List<String> keyHeaders = new ArrayList<>(List.of(
+                HttpHeaders.AUTHORIZATION, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_LANGUAGE));
+
+        /**
+         * follower가 leader 응답을 기다리는 최대 시간
+         */
+        private Duration maxWait = Duration.ofSeconds(5);
+
+        public List<String> getKeyHeaders() {
+            return keyHeaders;
+        }
+
+        public Config setKeyHeaders(List<String> keyHeaders) {
+            this.keyHeaders = keyHeaders;
+            return this;
+        }
+
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+
+        public Config setMaxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+            return this;
+        }
+    }
+}
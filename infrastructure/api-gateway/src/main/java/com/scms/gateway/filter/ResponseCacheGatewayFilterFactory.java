@@ -0,0 +1,259 @@
+package com.scms.gateway.filter;
+
+import com.scms.gateway.cache.CachedResponse;
+import com.scms.gateway.cache.ResponseCacheStore;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 게이트웨이 응답 캐시 필터 (ETag / 304 지원)
+ *
+ * 익명(Authorization 헤더 없음) GET 요청의 200 응답을 라우트별 TTL 동안 캐시합니다.
+ * - 캐시 적중: 백엔드 호출 없이 응답
+ * - If-None-Match가 ETag와 일치: 304 Not Modified (본문 없음)
+ * - 캐시 미스: 백엔드 응답 본문으로 Strong ETag를 계산하여 저장
+ *
+ * 캐시하지 않는 응답: 200 이외 상태, Set-Cookie 포함, Cache-Control no-store/private,
+ * 본문이 gateway.cache.max-entry-size 초과
+ *
+ * 본문은 max-entry-size까지만 메모리에 모읍니다. Content-Length가 한도를 넘으면 바로 스트리밍하고,
+ * 길이를 모르는 응답은 한도를 넘는 시점에 모은 부분부터 그대로 흘려보냅니다 (캐시하지 않음).
+ *
+ * CORS 헤더(Access-Control-*, Vary)는 요청 Origin마다 다르므로 저장하지 않습니다.
+ * 캐시 적중 응답에도 CorsWebFilter가 현재 요청의 Origin 기준으로 다시 붙입니다.
+ *
+ * 무효화는 CacheInvalidationController(내부 포트의 /internal/cache)를 통해 서비스가 쓰기 시 호출합니다.
+ */
+@Slf4j
+@Component
+public class ResponseCacheGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+
+    public static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    /**
+     * 캐시 엔트리에 저장하지 않는 헤더 (hop-by-hop 및 요청별 헤더, CORS 헤더는 isCorsHeader로 별도 제외)
+     */
+    private static final Set<String> EXCLUDED_HEADERS = Set.of(
+            HttpHeaders.CONTENT_LENGTH.toLowerCase(),
+            HttpHeaders.TRANSFER_ENCODING.toLowerCase(),
+            HttpHeaders.CONNECTION.toLowerCase(),
+            HttpHeaders.DATE.toLowerCase(),
+            HttpHeaders.SET_COOKIE.toLowerCase(),
+            HttpHeaders.ETAG.toLowerCase(),
+            HttpHeaders.VARY.toLowerCase(),
+            CACHE_STATUS_HEADER.toLowerCase()
+    );
+
+    private final ResponseCacheStore store;
+    private final long maxEntrySize;
+
+    public ResponseCacheGatewayFilterFactory(
+            ResponseCacheStore store,
+            @Value("${gateway.cache.max-entry-size:256KB}") DataSize maxEntrySize
+    ) {
+        super(Config.class);
+        this.store = store;
+        this.maxEntrySize = maxEntrySize.toBytes();
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        long ttlNanos = config.getTtl().toNanos();
+
+        GatewayFilter filter = (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (!isCacheableRequest(request)) {
+                return chain.filter(exchange);
+            }
+
+            String key = ResponseCacheStore.key(
+                    resolveRouteId(exchange),
+                    request.getPath().value(),
+                    request.getURI().getRawQuery());
+            List<String> ifNoneMatch = request.getHeaders().getIfNoneMatch();
+
+            // 1. 캐시 적중
+            CachedResponse cached = store.get(key);
+            if (cached != null) {
+                return writeCached(exchange.getResponse(), cached, ifNoneMatch);
+            }
+
+            // 2. 캐시 미스 - 백엔드 응답 본문 수집
+            ServerHttpResponse original = exchange.getResponse();
+            ServerHttpResponseDecorator decorated = new ServerHttpResponseDecorator(original) {
+                @Override
+                public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                    if (!isCacheableResponse(getStatusCode(), getHeaders())
+                            || getHeaders().getContentLength() > maxEntrySize) {
+                        return super.writeWith(body);
+                    }
+
+                    // Content-Length를 모르면(chunked) 한도까지만 모으고, 넘는 순간 모은 부분부터 스트리밍
+                    long[] received = {0};
+                    return Flux.<DataBuffer>from(body)
+                            .bufferUntil(buffer -> (received[0] += buffer.readableByteCount()) > maxEntrySize)
+                            .switchOnFirst((first, chunks) -> {
+                                if (first.isOnError() || received[0] > maxEntrySize) {
+                                    return super.writeWith(chunks.flatMapIterable(Function.identity()));
+                                }
+                                return cacheAndWrite(first.hasValue() ? first.get() : List.of());
+                            })
+                            .then();
+                }
+
+                private Mono<Void> cacheAndWrite(List<DataBuffer> buffers) {
+                    byte[] bytes = new byte[buffers.stream().mapToInt(DataBuffer::readableByteCount).sum()];
+                    int offset = 0;
+                    for (DataBuffer buffer : buffers) {
+                        int length = buffer.readableByteCount();
+                        buffer.read(bytes, offset, length);
+                        offset += length;
+                        DataBufferUtils.release(buffer);
+                    }
+
+                    String etag = ResponseCacheStore.strongETag(bytes);
+                    store.put(key, new CachedResponse(copyHeaders(getHeaders()), bytes, etag, ttlNanos));
+
+                    getHeaders().setETag(etag);
+                    getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+                    if (matches(ifNoneMatch, etag)) {
+                        setStatusCode(HttpStatus.NOT_MODIFIED);
+                        getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+                        return setComplete();
+                    }
+                    getHeaders().setContentLength(bytes.length);
+                    return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                }
+            };
+
+            return chain.filter(exchange.mutate().response(decorated).build());
+        };
+
+        // NettyWriteResponseFilter보다 먼저 실행되어야 데코레이터가 적용된 응답에 본문이 기록됨
+        // (캐시 적중 시 요청 병합 필터까지 가지 않도록 RequestCoalescing 필터보다 앞에 둠)
+        return new OrderedGatewayFilter(filter, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 2);
+    }
+
+    private Mono<Void> writeCached(ServerHttpResponse response, CachedResponse cached, List<String> ifNoneMatch) {
+        HttpHeaders headers = response.getHeaders();
+        headers.putAll(cached.headers());
+        headers.setETag(cached.etag());
+        headers.set(CACHE_STATUS_HEADER, "HIT");
+
+        if (matches(ifNoneMatch, cached.etag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(HttpStatus.OK);
+        headers.setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    private boolean isCacheableRequest(ServerHttpRequest request) {
+        return request.getMethod() == HttpMethod.GET
+                && !request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION);
+    }
+
+    private boolean isCacheableResponse(HttpStatusCode status, HttpHeaders headers) {
+        if (status == null || status.value() != HttpStatus.OK.value()) {
+            return false;
+        }
+        if (headers.containsKey(HttpHeaders.SET_COOKIE)) {
+            return false;
+        }
+        String cacheControl = headers.getCacheControl();
+        return cacheControl == null
+                || !(cacheControl.contains("no-store") || cacheControl.contains("private"));
+    }
+
+    /**
+     * If-None-Match 비교 (RFC 7232: weak comparison)
+     */
+    private static boolean matches(List<String> ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isEmpty()) {
+            return false;
+        }
+        String opaque = stripWeak(etag);
+        for (String candidate : ifNoneMatch) {
+            if ("*".equals(candidate) || opaque.equals(stripWeak(candidate))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static HttpHeaders copyHeaders(HttpHeaders source) {
+        HttpHeaders copy = new HttpHeaders();
+        source.forEach((name, values) -> {
+            String lowerName = name.toLowerCase();
+            if (!EXCLUDED_HEADERS.contains(lowerName) && !isCorsHeader(lowerName)) {
+                copy.put(name, List.copyOf(values));
+            }
+        });
+        return HttpHeaders.readOnlyHttpHeaders(copy);
+    }
+
+    /**
+     * 요청 Origin에 따라 달라지는 CORS 응답 헤더 (Access-Control-Allow-Origin 등)
+     */
+    static boolean isCorsHeader(String lowerName) {
+        return lowerName.startsWith("access-control-");
+    }
+
+    private static String resolveRouteId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "default";
+    }
+
+    /**
+     * 라우트별 캐시 설정
+     */
+    public static class Config {
+
+        /**
+         * 캐시 유지 시간
+         */
+        private Duration ttl = Duration.ofSeconds(30);
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public Config setTtl(Duration ttl) {
+            this.ttl = ttl;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.scms.gateway.filter;
+
+import com.scms.gateway.retry.RetryBudgetRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 재시도 예산 기반 재시도 필터 (Spring Cloud Gateway Retry 필터 대체)
+ *
+ * 고정 횟수 재시도 대신 라우트별 RetryBudget이 허용하는 범위에서만 재시도합니다.
+ * - 재시도 조건: 멱등 메서드(기본 GET)이면서 IOException/TimeoutException 또는 5xx 응답
+ * - 재시도 간격: 지수 백오프 + Full Jitter (0 ~ min(maxBackoff, firstBackoff x 2^n))
+ * - 예산 부족 시 재시도하지 않고 원래 응답/오류를 그대로 반환
+ *
+ * 사용 예 (GatewayConfig):
+ * <pre>
+ * .filter(retryBudget.apply(c -> c.setRetries(3).setBudgetRatio(0.2)))
+ * </pre>
+ */
+@Slf4j
+@Component
+public class RetryBudgetGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<RetryBudgetGatewayFilterFactory.Config> {
+
+    private final RetryBudgetRegistry registry;
+
+    public RetryBudgetGatewayFilterFactory(RetryBudgetRegistry registry) {
+        super(Config.class);
+        this.registry = registry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            if (!config.getMethods().contains(exchange.getRequest().getMethod())) {
+                return chain.filter(exchange);
+            }
+
+            RetryBudgetRegistry.Budget budget = registry.budget(
+                    resolveRouteId(exchange), config.getBudgetRatio(), config.getMinRetriesPerSecond());
+            budget.budget().recordRequest();
+            return attempt(exchange, chain, config, budget, 0);
+        };
+    }
+
+    private Mono<Void> attempt(ServerWebExchange exchange, GatewayFilterChain chain,
+                               Config config, RetryBudgetRegistry.Budget budget, int retry) {
+        return chain.filter(exchange)
+                .then(Mono.<Optional<Throwable>>just(Optional.empty()))
+                .onErrorResume(e -> Mono.just(Optional.of(e)))
+                .flatMap(error -> {
+                    boolean retryable = error.map(RetryBudgetGatewayFilterFactory::isRetryableException)
+                            .orElseGet(() -> isRetryableStatus(exchange.getResponse().getStatusCode()));
+
+                    if (retryable && retry < config.getRetries() && !exchange.getResponse().isCommitted()) {
+                        if (budget.budget().tryWithdraw()) {
+                            budget.spent().increment();
+                            Duration backoff = backoff(config, retry);
+                            log.debug("재시도: path={}, attempt={}, backoff={}ms",
+                                    exchange.getRequest().getPath(), retry + 1, backoff.toMillis());
+
+                            ServerWebExchangeUtils.reset(exchange);
+                            return Mono.delay(backoff)
+                                    .then(attempt(exchange, chain, config, budget, retry + 1));
+                        }
+                        budget.refused().increment();
+                        log.debug("재시도 예산 부족으로 재시도 생략: path={}", exchange.getRequest().getPath());
+                    }
+                    return error.map(Mono::<Void>error).orElseGet(Mono::empty);
+                });
+    }
+
+    /**
+     * 지수 백오프 + Full Jitter
+     */
+    private static Duration backoff(Config config, int retry) {
+        long ceiling = Math.min(config.getMaxBackoff().toMillis(),
+                config.getFirstBackoff().toMillis() << Math.min(retry, 16));
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+
+    private static boolean isRetryableException(Throwable e) {
+        return e instanceof IOException || e instanceof TimeoutException;
+    }
+
+    private static boolean isRetryableStatus(HttpStatusCode status) {
+        return status != null && status.is5xxServerError();
+    }
+
+    private static String resolveRouteId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "default";
+    }
+
+    /**
+     * 라우트별 재시도 예산 설정
+     */
+    public static class Config {
+
+        /**
+         * 요청당 최대 재시도 횟수 (예산과 별개의 상한)
+         */
+        private int retries = 3;
+
+        /**
+         * 최초 요청 대비 허용 재시도 비율
+         */
+        private double budgetRatio = 0.2;
+
+        /**
+         * 트래픽이 적을 때도 보장하는 초당 재시도 수
+         */
+        private int minRetriesPerSecond = 1;
+
+        private Duration firstBackoff = Duration.ofMillis(50);
+
+        private Duration maxBackoff = Duration.ofMillis(500);
+
+        /**
+         * 재시도 대상 메서드 (요청 본문을 다시 보내지 않으므로 본문 없는 멱등 메서드만)
+         */
+        private Set<HttpMethod> methods = Set.of(HttpMethod.GET);
+
+        public int getRetries() {
+            return retries;
+        }
+
+        public Config setRetries(int retries) {
+            this.retries = retries;
+            return this;
+        }
+
+        public double getBudgetRatio() {
+            return budgetRatio;
+        }
+
+        public Config setBudgetRatio(double budgetRatio) {
+            this.budgetRatio = budgetRatio;
+            return this;
+        }
+
+        public int getMinRetriesPerSecond() {
+            return minRetriesPerSecond;
+        }
+
+        public Config setMinRetriesPerSecond(int minRetriesPerSecond) {
+            this.minRetriesPerSecond = minRetriesPerSecond;
+            return this;
+        }
+
+        public Duration getFirstBackoff() {
+            return firstBackoff;
+        }
+
+        public Config setFirstBackoff(Duration firstBackoff) {
+            this.firstBackoff = firstBackoff;
+            return this;
+        }
+
+        public Duration getMaxBackoff() {
+            return maxBackoff;
+        }
+
+        public Config setMaxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+            return this;
+        }
+
+        public Set<HttpMethod> getMethods() {
+            return methods;
+        }
+
+        public Config setMethods(Set<HttpMethod> methods) {
+            this.methods = methods;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.scms.gateway.filter;
+
+import com.scms.gateway.metrics.RouteLatencyMetrics;
+import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 라우트별 지연 시간 계측 글로벌 필터
+ *
+ * 가장 먼저 실행되어 요청 수신 시각을 기록하고, 응답 완료 시
+ * 전체 시간 / 내부 대기 시간 / 백엔드 호출 시간 / 응답 크기를 RouteLatencyMetrics에 기록합니다.
+ *
+ * 백엔드 호출 시각과 인스턴스는 UpstreamTimingGlobalFilter가 exchange attribute로 남깁니다.
+ * (캐시 적중, 폴백 등 백엔드를 호출하지 않은 요청은 대기 시간 = 전체 시간)
+ */
+@Component
+@RequiredArgsConstructor
+public class RouteLatencyGlobalFilter implements GlobalFilter, Ordered {
+
+    public static final String START_NANOS_ATTR = RouteLatencyGlobalFilter.class.getName() + ".startNanos";
+    public static final String UPSTREAM_START_NANOS_ATTR = RouteLatencyGlobalFilter.class.getName() + ".upstreamStartNanos";
+    public static final String UPSTREAM_NANOS_ATTR = RouteLatencyGlobalFilter.class.getName() + ".upstreamNanos";
+    public static final String INSTANCE_ATTR = RouteLatencyGlobalFilter.class.getName() + ".instance";
+
+    private final RouteLatencyMetrics metrics;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long start = System.nanoTime();
+        exchange.getAttributes().put(START_NANOS_ATTR, start);
+
+        AtomicLong responseBytes = new AtomicLong();
+        ServerHttpResponseDecorator counting = new ServerHttpResponseDecorator(exchange.getResponse()) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                return super.writeWith(Flux.from(body)
+                        .doOnNext(buffer -> responseBytes.addAndGet(buffer.readableByteCount())));
+            }
+
+            @Override
+            public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+                return super.writeAndFlushWith(Flux.from(body)
+                        .map(inner -> Flux.from(inner)
+                                .doOnNext(buffer -> responseBytes.addAndGet(buffer.readableByteCount()))));
+            }
+        };
+
+        return chain.filter(exchange.mutate().response(counting).build())
+                .doFinally(signal -> record(exchange, start, responseBytes.get()));
+    }
+
+    private void record(ServerWebExchange exchange, long start, long responseBytes) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route == null) {
+            return;
+        }
+
+        long end = System.nanoTime();
+        Long upstreamStart = exchange.getAttribute(UPSTREAM_START_NANOS_ATTR);
+        Long upstreamNanos = exchange.getAttribute(UPSTREAM_NANOS_ATTR);
+        String instance = exchange.getAttribute(INSTANCE_ATTR);
+
+        long total = end - start;
+        long queue = upstreamStart != null ? upstreamStart - start : total;
+        metrics.record(route.getId(), instance, total, queue,
+                upstreamNanos != null ? upstreamNanos : -1L, responseBytes);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,195 @@
+package com.scms.gateway.filter;
+
+import com.scms.gateway.ratelimit.TokenBucket;
+import com.scms.gateway.ratelimit.TokenBucketRegistry;
+import com.scms.gateway.security.VerifiedClaims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인메모리 토큰 버킷 Rate Limiter 필터 (Redis 불필요)
+ *
+ * 라우트별로 두 종류의 버킷을 검사합니다.
+ * - 클라이언트 IP 버킷: 모든 요청
+ * - 사용자 버킷: 엣지 JWT 인증(JwtAuthenticationGlobalFilter)을 통과한 요청
+ *
+ * 둘 중 하나라도 비어 있으면 429 Too Many Requests와 Retry-After 헤더를 반환하며,
+ * 하위 서비스(BCrypt 비밀번호 검증 등)까지 요청이 전달되지 않습니다.
+ *
+ * 사용 예 (GatewayConfig):
+ * <pre>
+ * .filter(rateLimiter.apply(c -> c.setReplenishRate(5).setBurstCapacity(10)))
+ * </pre>
+ */
+@Slf4j
+@Component
+public class TokenBucketRateLimiterGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<TokenBucketRateLimiterGatewayFilterFactory.Config> {
+
+    private static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    private static final String REPLENISH_RATE_HEADER = "X-RateLimit-Replenish-Rate";
+    private static final String BURST_CAPACITY_HEADER = "X-RateLimit-Burst-Capacity";
+
+    private final TokenBucketRegistry registry;
+
+    public TokenBucketRateLimiterGatewayFilterFactory(TokenBucketRegistry registry) {
+        super(Config.class);
+        this.registry = registry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            String routeId = resolveRouteId(exchange);
+
+            // 1. 클라이언트 IP 버킷
+            TokenBucket ipBucket = registry.bucket(
+                    routeId + ":ip:" + resolveClientIp(exchange),
+                    config.getReplenishRate(),
+                    config.getBurstCapacity());
+            if (!ipBucket.tryConsume()) {
+                return reject(exchange, ipBucket);
+            }
+
+            // 2. 인증된 사용자 버킷
+            TokenBucket userBucket = null;
+            VerifiedClaims claims = exchange.getAttribute(JwtAuthenticationGlobalFilter.VERIFIED_CLAIMS_ATTR);
+            if (claims != null && claims.userId() != null) {
+                userBucket = registry.bucket(
+                        routeId + ":user:" + claims.userId(),
+                        config.getUserReplenishRate(),
+                        config.getUserBurstCapacity());
+                if (!userBucket.tryConsume()) {
+                    return reject(exchange, userBucket);
+                }
+            }
+
+            TokenBucket reported = userBucket != null ? userBucket : ipBucket;
+            HttpHeaders headers = exchange.getResponse().getHeaders();
+            headers.set(REMAINING_HEADER, String.valueOf(reported.availableTokens()));
+            headers.set(REPLENISH_RATE_HEADER, String.valueOf(reported.getReplenishRate()));
+            headers.set(BURST_CAPACITY_HEADER, String.valueOf(reported.getBurstCapacity()));
+
+            return chain.filter(exchange);
+        };
+    }
+
+    /**
+     * 429 응답 (FallbackController와 동일한 JSON 형식)
+     */
+    private Mono<Void> reject(ServerWebExchange exchange, TokenBucket bucket) {
+        // 다음 토큰까지 남은 시간을 초 단위로 올림 (최소 1초)
+        long waitMillis = TimeUnit.NANOSECONDS.toMillis(bucket.nanosUntilNextToken());
+        long retryAfterSeconds = Math.max(1, (waitMillis + 999) / 1000);
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.getHeaders().set(REMAINING_HEADER, "0");
+        response.getHeaders().set(REPLENISH_RATE_HEADER, String.valueOf(bucket.getReplenishRate()));
+        response.getHeaders().set(BURST_CAPACITY_HEADER, String.valueOf(bucket.getBurstCapacity()));
+
+        log.debug("Rate limit 초과: path={}, retryAfter={}s",
+                exchange.getRequest().getPath(), retryAfterSeconds);
+
+        String body = "{\"success\":false,"
+                + "\"message\":\"요청이 너무 많습니다. 잠시 후 다시 시도해주세요.\","
+                + "\"errorCode\":\"TOO_MANY_REQUESTS\"}";
+        DataBuffer buffer = response.bufferFactory().wrap(body.getBytes(StandardCharsets.UTF_8));
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    private String resolveRouteId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "default";
+    }
+
+    /**
+     * 클라이언트 IP (게이트웨이가 엣지이므로 X-Forwarded-For는 신뢰하지 않음)
+     */
+    private String resolveClientIp(ServerWebExchange exchange) {
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        if (remoteAddress == null || remoteAddress.getAddress() == null) {
+            return "unknown";
+        }
+        return remoteAddress.getAddress().getHostAddress();
+    }
+
+    /**
+     * 라우트별 Rate Limit 설정
+     */
+    public static class Config {
+
+        /**
+         * IP 버킷: 초당 충전 토큰 수
+         */
+        private int replenishRate = 10;
+
+        /**
+         * IP 버킷: 최대 토큰 수
+         */
+        private int burstCapacity = 20;
+
+        /**
+         * 사용자 버킷: 초당 충전 토큰 수 (0이면 IP 버킷 설정 사용)
+         */
+        private int userReplenishRate;
+
+        /**
+         * 사용자 버킷: 최대 토큰 수 (0이면 IP 버킷 설정 사용)
+         */
+        private int userBurstCapacity;
+
+        public int getReplenishRate() {
+            return replenishRate;
+        }
+
+        public Config setReplenishRate(int replenishRate) {
+            this.replenishRate = replenishRate;
+            return this;
+        }
+
+        public int getBurstCapacity() {
+            return burstCapacity;
+        }
+
+        public Config setBurstCapacity(int burstCapacity) {
+            this.burstCapacity = burstCapacity;
+            return this;
+        }
+
+        public int getUserReplenishRate() {
+            return userReplenishRate > 0 ? userReplenishRate : replenishRate;
+        }
+
+        public Config setUserReplenishRate(int userReplenishRate) {
+            this.userReplenishRate = userReplenishRate;
+            return this;
+        }
+
+        public int getUserBurstCapacity() {
+            return userBurstCapacity > 0 ? userBurstCapacity : burstCapacity;
+        }
+
+        public Config setUserBurstCapacity(int userBurstCapacity) {
+            this.userBurstCapacity = userBurstCapacity;
+            return this;
+        }
+    }
+}
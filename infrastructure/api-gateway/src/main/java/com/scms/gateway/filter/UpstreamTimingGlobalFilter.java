@@ -0,0 +1,65 @@
+package com.scms.gateway.filter;
+
+import com.scms.gateway.loadbalancer.InstanceStatsRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.net.URI;
+
+/**
+ * 백엔드 호출 시간 계측 글로벌 필터
+ *
+ * 로드밸런서가 인스턴스를 선택한 직후(NettyRoutingFilter 직전)에 실행되어
+ * 백엔드 호출 시작 시각과 선택된 인스턴스(host:port)를 기록하고,
+ * 백엔드 응답 헤더 수신까지의 시간을 RouteLatencyGlobalFilter에 전달합니다.
+ *
+ * 같은 관측 결과(진행 중 요청 수, 응답 시간, 실패 여부)를 InstanceStatsRegistry에도 기록하여
+ * PeakEwmaLoadBalancer의 인스턴스 선택에 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UpstreamTimingGlobalFilter implements GlobalFilter, Ordered {
+
+    private final InstanceStatsRegistry statsRegistry;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long upstreamStart = System.nanoTime();
+        exchange.getAttributes().put(RouteLatencyGlobalFilter.UPSTREAM_START_NANOS_ATTR, upstreamStart);
+
+        URI requestUrl = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+        String instance = requestUrl != null && requestUrl.getHost() != null
+                ? requestUrl.getHost() + ":" + requestUrl.getPort()
+                : null;
+        if (instance != null) {
+            exchange.getAttributes().put(RouteLatencyGlobalFilter.INSTANCE_ATTR, instance);
+            statsRegistry.stats(instance).start();
+        }
+
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    long upstreamNanos = System.nanoTime() - upstreamStart;
+                    exchange.getAttributes().put(RouteLatencyGlobalFilter.UPSTREAM_NANOS_ATTR, upstreamNanos);
+                    if (instance != null) {
+                        HttpStatusCode status = exchange.getResponse().getStatusCode();
+                        boolean failed = signal == SignalType.ON_ERROR
+                                || (status != null && status.is5xxServerError());
+                        statsRegistry.complete(instance, upstreamNanos, failed);
+                    }
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER + 1;
+    }
+}
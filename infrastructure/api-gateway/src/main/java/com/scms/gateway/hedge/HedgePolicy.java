@@ -0,0 +1,82 @@
+package com.scms.gateway.hedge;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 라우트별 헤지 지연 시간 정책
+ *
+ * 최근 응답 시간 샘플(최대 SAMPLES개)의 백분위(예: p95)를 헤지 지연으로 사용합니다.
+ * "대부분의 요청은 이 시간 안에 끝난다"는 시점까지 응답이 없을 때만 두 번째 요청을 보내므로
+ * 추가 부하는 대략 (1 - percentile) 비율로 제한됩니다.
+ *
+ * 백분위 계산은 1초에 한 번만 수행하고, 요청 경로에서는 캐시된 값을 읽습니다.
+ * 샘플이 MIN_SAMPLES개 미만이면 maxDelay를 사용합니다.
+ */
+public class HedgePolicy {
+
+    private static final int SAMPLES = 1024;
+    private static final int MIN_SAMPLES = 50;
+    private static final long REFRESH_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final double percentile;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+
+    private final long[] samples = new long[SAMPLES];
+    private int count;
+    private int next;
+
+    private volatile long delayNanos;
+    private volatile long refreshedAt;
+
+    public HedgePolicy(double percentile, Duration minDelay, Duration maxDelay) {
+        this.percentile = percentile;
+        this.minDelayNanos = minDelay.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.delayNanos = maxDelayNanos;
+        this.refreshedAt = System.nanoTime();
+    }
+
+    /**
+     * 완료된 요청의 응답 시간 기록
+     */
+    public synchronized void recordLatency(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % SAMPLES;
+        if (count < SAMPLES) {
+            count++;
+        }
+    }
+
+    /**
+     * 두 번째 요청을 보내기까지 기다릴 시간
+     */
+    public Duration hedgeDelay() {
+        long now = System.nanoTime();
+        if (now - refreshedAt > REFRESH_NANOS) {
+            refresh(now);
+        }
+        return Duration.ofNanos(delayNanos);
+    }
+
+    public long getDelayMillis() {
+        return delayNanos / 1_000_000;
+    }
+
+    private synchronized void refresh(long now) {
+        if (now - refreshedAt <= REFRESH_NANOS) {
+            return;
+        }
+        refreshedAt = now;
+        if (count < MIN_SAMPLES) {
+            delayNanos = maxDelayNanos;
+            return;
+        }
+
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = Math.min(count - 1, Math.max(0, (int) Math.ceil(percentile * count) - 1));
+        delayNanos = Math.max(minDelayNanos, Math.min(maxDelayNanos, sorted[index]));
+    }
+}
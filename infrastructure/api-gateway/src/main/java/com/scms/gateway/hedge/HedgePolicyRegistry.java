@@ -0,0 +1,74 @@
+package com.scms.gateway.hedge;
+
+import com.scms.gateway.retry.RetryBudget;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 라우트별 헤지 정책/예산 저장소
+ *
+ * 헤지 예산은 재시도 예산과 같은 슬라이딩 윈도우 비율 방식(RetryBudget)을 사용합니다.
+ *
+ * 미터:
+ * - gateway.hedge.delay   {route}  현재 헤지 지연 (ms)
+ * - gateway.hedge.sent    {route}  보낸 헤지 요청 수
+ * - gateway.hedge.won     {route}  헤지 요청이 먼저 응답한 수
+ * - gateway.hedge.refused {route}  예산 부족으로 보내지 않은 헤지 수
+ */
+@Component
+public class HedgePolicyRegistry {
+
+    private final MeterRegistry meterRegistry;
+    private final Duration budgetWindow;
+    private final ConcurrentMap<String, Hedge> hedges = new ConcurrentHashMap<>();
+
+    public HedgePolicyRegistry(
+            MeterRegistry meterRegistry,
+            @Value("${gateway.hedge.budget-window:10s}") Duration budgetWindow
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.budgetWindow = budgetWindow;
+    }
+
+    public Hedge hedge(String routeId, double percentile, Duration minDelay, Duration maxDelay, double budgetRatio) {
+        return hedges.computeIfAbsent(routeId,
+                id -> register(id, percentile, minDelay, maxDelay, budgetRatio));
+    }
+
+    private Hedge register(String routeId, double percentile, Duration minDelay, Duration maxDelay,
+                           double budgetRatio) {
+        HedgePolicy policy = new HedgePolicy(percentile, minDelay, maxDelay);
+        RetryBudget budget = new RetryBudget(budgetWindow, budgetRatio, 0);
+
+        Gauge.builder("gateway.hedge.delay", policy, HedgePolicy::getDelayMillis)
+                .description("현재 헤지 지연")
+                .baseUnit("milliseconds")
+                .tag("route", routeId)
+                .register(meterRegistry);
+
+        return new Hedge(policy, budget,
+                counter("gateway.hedge.sent", "보낸 헤지 요청 수", routeId),
+                counter("gateway.hedge.won", "헤지 요청이 먼저 응답한 수", routeId),
+                counter("gateway.hedge.refused", "헤지 예산 부족으로 보내지 않은 헤지 수", routeId));
+    }
+
+    private Counter counter(String name, String description, String routeId) {
+        return Counter.builder(name)
+                .description(description)
+                .tag("route", routeId)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 라우트별 헤지 정책, 예산, 카운터
+     */
+    public record Hedge(HedgePolicy policy, RetryBudget budget, Counter sent, Counter won, Counter refused) {
+    }
+}
@@ -0,0 +1,116 @@
+package com.scms.gateway.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 인스턴스별 부하/지연 통계
+ *
+ * - outstanding: 게이트웨이에서 해당 인스턴스로 보낸 진행 중 요청 수
+ * - Peak EWMA 지연: 새 샘플이 현재 값보다 크면 즉시 반영(peak), 작으면 시간 감쇠 평균으로 천천히 낮춤
+ *   (느려진 인스턴스는 빠르게 피하고, 회복은 보수적으로 판단)
+ * - 연속 실패가 failureThreshold 이상이면 일정 시간 선택 대상에서 제외(ejection),
+ *   제외가 반복될수록 제외 시간을 두 배로 늘림 (최대 maxEjection)
+ *
+ * 점수 = 지연 x (outstanding + 1), 낮을수록 우선 선택
+ */
+public class InstanceStats {
+
+    /**
+     * 지연 샘플이 없을 때 진행 중 요청이 있는 인스턴스에 부여하는 점수
+     */
+    private static final double PENALTY = 1e12;
+
+    private final long decayNanos;
+    private final int failureThreshold;
+    private final long baseEjectionNanos;
+    private final long maxEjectionNanos;
+
+    private final AtomicInteger outstanding = new AtomicInteger();
+
+    private double cost;
+    private long lastObserved = System.nanoTime();
+    private int consecutiveFailures;
+    private int ejections;
+    private volatile long ejectedUntil;
+
+    public InstanceStats(long decayNanos, int failureThreshold, long baseEjectionNanos, long maxEjectionNanos) {
+        this.decayNanos = decayNanos;
+        this.failureThreshold = failureThreshold;
+        this.baseEjectionNanos = baseEjectionNanos;
+        this.maxEjectionNanos = maxEjectionNanos;
+    }
+
+    /**
+     * 요청 전송 시작
+     */
+    public void start() {
+        outstanding.incrementAndGet();
+    }
+
+    /**
+     * 요청 완료
+     *
+     * @return 이번 완료로 인스턴스가 제외되었으면 true
+     */
+    public boolean complete(long rttNanos, boolean failed) {
+        release();
+        long now = System.nanoTime();
+        synchronized (this) {
+            observe(rttNanos, now);
+
+            if (!failed) {
+                consecutiveFailures = 0;
+                ejections = 0;
+                return false;
+            }
+            if (++consecutiveFailures < failureThreshold) {
+                return false;
+            }
+
+            long ejection = Math.min(maxEjectionNanos, baseEjectionNanos << Math.min(ejections, 16));
+            ejectedUntil = now + ejection;
+            ejections++;
+            consecutiveFailures = 0;
+            return true;
+        }
+    }
+
+    /**
+     * 지연 샘플 없이 진행 중 요청 수만 감소
+     */
+    public void release() {
+        outstanding.updateAndGet(pending -> pending > 0 ? pending - 1 : 0);
+    }
+
+    /**
+     * 선택 점수 (낮을수록 우선)
+     */
+    public synchronized double score(long now) {
+        // 샘플이 없는 동안에도 시간이 지나면 지연 추정치가 감쇠
+        observe(0, now);
+        int pending = outstanding.get();
+        if (cost == 0 && pending != 0) {
+            return PENALTY + pending;
+        }
+        return cost * (pending + 1);
+    }
+
+    public boolean isEjected(long now) {
+        return now - ejectedUntil < 0;
+    }
+
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    private void observe(long rttNanos, long now) {
+        long elapsed = Math.max(now - lastObserved, 0);
+        lastObserved = now;
+        double weight = Math.exp(-(double) elapsed / decayNanos);
+        if (rttNanos > cost) {
+            cost = rttNanos;
+        } else {
+            cost = cost * weight + rttNanos * (1 - weight);
+        }
+    }
+}
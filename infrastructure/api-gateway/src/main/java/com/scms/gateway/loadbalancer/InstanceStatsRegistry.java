@@ -0,0 +1,79 @@
+package com.scms.gateway.loadbalancer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 인스턴스(host:port)별 부하/지연 통계 저장소
+ *
+ * UpstreamTimingGlobalFilter와 HedgedRequest 필터가 실제 백엔드 호출 결과를 기록하고,
+ * PeakEwmaLoadBalancer가 이를 읽어 인스턴스를 선택합니다.
+ * 사라진 인스턴스의 통계는 gateway.loadbalancer.idle-timeout 후 제거됩니다.
+ *
+ * 미터:
+ * - gateway.loadbalancer.ejections {instance}  연속 실패로 선택 대상에서 제외된 횟수
+ */
+@Slf4j
+@Component
+public class InstanceStatsRegistry {
+
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, InstanceStats> stats;
+    private final long decayNanos;
+    private final int failureThreshold;
+    private final long baseEjectionNanos;
+    private final long maxEjectionNanos;
+
+    public InstanceStatsRegistry(
+            MeterRegistry meterRegistry,
+            @Value("${gateway.loadbalancer.decay:10s}") Duration decay,
+            @Value("${gateway.loadbalancer.failure-threshold:3}") int failureThreshold,
+            @Value("${gateway.loadbalancer.base-ejection:10s}") Duration baseEjection,
+            @Value("${gateway.loadbalancer.max-ejection:2m}") Duration maxEjection,
+            @Value("${gateway.loadbalancer.idle-timeout:10m}") Duration idleTimeout
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.decayNanos = decay.toNanos();
+        this.failureThreshold = failureThreshold;
+        this.baseEjectionNanos = baseEjection.toNanos();
+        this.maxEjectionNanos = maxEjection.toNanos();
+        this.stats = Caffeine.newBuilder()
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    public static String key(ServiceInstance instance) {
+        return instance.getHost() + ":" + instance.getPort();
+    }
+
+    public InstanceStats stats(ServiceInstance instance) {
+        return stats(key(instance));
+    }
+
+    public InstanceStats stats(String instanceKey) {
+        return stats.get(instanceKey,
+                k -> new InstanceStats(decayNanos, failureThreshold, baseEjectionNanos, maxEjectionNanos));
+    }
+
+    /**
+     * 요청 완료 기록
+     */
+    public void complete(String instanceKey, long rttNanos, boolean failed) {
+        if (stats(instanceKey).complete(rttNanos, failed)) {
+            log.warn("연속 실패로 인스턴스 일시 제외: instance={}", instanceKey);
+            Counter.builder("gateway.loadbalancer.ejections")
+                    .description("연속 실패로 선택 대상에서 제외된 횟수")
+                    .tag("instance", instanceKey)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+}
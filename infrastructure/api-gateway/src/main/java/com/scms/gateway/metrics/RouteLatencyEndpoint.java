@@ -0,0 +1,33 @@
+package com.scms.gateway.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 라우트별 지연 시간 분포 Actuator 엔드포인트
+ *
+ * - GET /actuator/routelatency            - 전체 라우트 p50/p90/p99/p999 요약
+ * - GET /actuator/routelatency/{routeId}  - 라우트 상세 (인스턴스별 전체/백엔드 시간 포함)
+ */
+@Component
+@Endpoint(id = "routelatency")
+@RequiredArgsConstructor
+public class RouteLatencyEndpoint {
+
+    private final RouteLatencyMetrics metrics;
+
+    @ReadOperation
+    public Map<String, Object> routes() {
+        return metrics.summary();
+    }
+
+    @ReadOperation
+    public Map<String, Object> route(@Selector String routeId) {
+        return metrics.detail(routeId);
+    }
+}
@@ -0,0 +1,193 @@
+package com.scms.gateway.metrics;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 라우트별 지연 시간 히스토그램
+ *
+ * Micrometer Timer의 클라이언트 측 백분위(HdrHistogram 기반)를 사용하며,
+ * 라우트/인스턴스별 미터는 최초 1회만 등록하고 이후 캐시된 인스턴스에 기록합니다.
+ *
+ * 미터:
+ * - gateway.route.latency          {route}            게이트웨이 수신 ~ 응답 완료 전체 시간
+ * - gateway.route.queue            {route}            게이트웨이 내부 대기 시간 (필터 + 로드밸런서 선택)
+ * - gateway.route.upstream         {route, instance}  백엔드 호출 ~ 응답 헤더 수신 시간
+ * - gateway.route.instance.latency {route, instance}  인스턴스별 전체 시간
+ * - gateway.route.response.size    {route}            응답 본문 크기 (bytes)
+ *
+ * 백분위: p50 / p90 / p99 / p999 (1분 슬라이딩 윈도우)
+ *
+ * 인스턴스별 미터는 gateway.metrics.instance-idle-timeout 동안 기록이 없으면(디스커버리에서 빠진 인스턴스 등)
+ * 레지스트리에서 제거하며, 최대 gateway.metrics.max-instances 개(라우트 x 인스턴스)까지만 유지합니다.
+ */
+@Component
+public class RouteLatencyMetrics {
+
+    public static final double[] PERCENTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private static final Duration EXPIRY = Duration.ofMinutes(1);
+    private static final int BUFFER_LENGTH = 3;
+
+    private final MeterRegistry registry;
+    private final ConcurrentMap<String, RouteMeters> routes = new ConcurrentHashMap<>();
+    private final Cache<String, InstanceMeters> instances;
+
+    public RouteLatencyMetrics(
+            MeterRegistry registry,
+            @Value("${gateway.metrics.instance-idle-timeout:10m}") Duration instanceIdleTimeout,
+            @Value("${gateway.metrics.max-instances:500}") long maxInstances
+    ) {
+        this.registry = registry;
+        this.instances = Caffeine.newBuilder()
+                .expireAfterAccess(instanceIdleTimeout)
+                .maximumSize(maxInstances)
+                .<String, InstanceMeters>removalListener((key, meters, cause) -> {
+                    if (meters != null) {
+                        registry.remove(meters.total());
+                        registry.remove(meters.upstream());
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 요청 1건 기록
+     *
+     * @param instance      백엔드 인스턴스 (host:port), 백엔드를 호출하지 않은 경우 null
+     * @param upstreamNanos 백엔드 호출 시간, 백엔드를 호출하지 않은 경우 음수
+     */
+    public void record(String routeId, String instance,
+                       long totalNanos, long queueNanos, long upstreamNanos, long responseBytes) {
+        RouteMeters route = routes.computeIfAbsent(routeId, this::registerRoute);
+        route.total().record(totalNanos, TimeUnit.NANOSECONDS);
+        route.queue().record(queueNanos, TimeUnit.NANOSECONDS);
+        route.responseSize().record(responseBytes);
+
+        if (instance != null) {
+            InstanceMeters meters = instances.get(
+                    routeId + "|" + instance, key -> registerInstance(routeId, instance));
+            meters.total().record(totalNanos, TimeUnit.NANOSECONDS);
+            if (upstreamNanos >= 0) {
+                meters.upstream().record(upstreamNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /**
+     * 전체 라우트 요약 (actuator 엔드포인트용)
+     */
+    public Map<String, Object> summary() {
+        Map<String, Object> result = new TreeMap<>();
+        routes.forEach((routeId, meters) -> result.put(routeId, describeRoute(routeId, meters, false)));
+        return result;
+    }
+
+    /**
+     * 단일 라우트 상세 (인스턴스별 분포 포함)
+     *
+     * @return 해당 라우트 기록이 없으면 null
+     */
+    public Map<String, Object> detail(String routeId) {
+        RouteMeters meters = routes.get(routeId);
+        return meters != null ? describeRoute(routeId, meters, true) : null;
+    }
+
+    private Map<String, Object> describeRoute(String routeId, RouteMeters meters, boolean includeInstances) {
+        Map<String, Object> route = new LinkedHashMap<>();
+        route.put("count", meters.total().count());
+        route.put("latencyMs", describe(meters.total().takeSnapshot()));
+        route.put("queueMs", describe(meters.queue().takeSnapshot()));
+        route.put("responseBytes", describe(meters.responseSize().takeSnapshot(), null));
+
+        if (includeInstances) {
+            Map<String, Object> byInstance = new TreeMap<>();
+            String prefix = routeId + "|";
+            instances.asMap().forEach((key, instance) -> {
+                if (key.startsWith(prefix)) {
+                    Map<String, Object> detail = new LinkedHashMap<>();
+                    detail.put("count", instance.total().count());
+                    detail.put("latencyMs", describe(instance.total().takeSnapshot()));
+                    detail.put("upstreamMs", describe(instance.upstream().takeSnapshot()));
+                    byInstance.put(key.substring(prefix.length()), detail);
+                }
+            });
+            route.put("instances", byInstance);
+        }
+        return route;
+    }
+
+    private static Map<String, Object> describe(HistogramSnapshot snapshot) {
+        return describe(snapshot, TimeUnit.MILLISECONDS);
+    }
+
+    private static Map<String, Object> describe(HistogramSnapshot snapshot, TimeUnit unit) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            double value = unit != null ? percentile.value(unit) : percentile.value();
+            values.put(label(percentile.percentile()), Math.round(value * 100) / 100.0);
+        }
+        values.put("max", Math.round((unit != null ? snapshot.max(unit) : snapshot.max()) * 100) / 100.0);
+        return values;
+    }
+
+    private static String label(double percentile) {
+        if (percentile == 0.999) {
+            return "p999";
+        }
+        return "p" + Math.round(percentile * 100);
+    }
+
+    private RouteMeters registerRoute(String routeId) {
+        return new RouteMeters(
+                timer("gateway.route.latency", "게이트웨이 전체 처리 시간")
+                        .tag("route", routeId).register(registry),
+                timer("gateway.route.queue", "게이트웨이 내부 대기 시간 (백엔드 호출 전)")
+                        .tag("route", routeId).register(registry),
+                DistributionSummary.builder("gateway.route.response.size")
+                        .description("응답 본문 크기")
+                        .baseUnit("bytes")
+                        .tag("route", routeId)
+                        .publishPercentiles(PERCENTILES)
+                        .distributionStatisticExpiry(EXPIRY)
+                        .distributionStatisticBufferLength(BUFFER_LENGTH)
+                        .register(registry));
+    }
+
+    private InstanceMeters registerInstance(String routeId, String instance) {
+        return new InstanceMeters(
+                timer("gateway.route.instance.latency", "인스턴스별 게이트웨이 전체 처리 시간")
+                        .tags("route", routeId, "instance", instance).register(registry),
+                timer("gateway.route.upstream", "백엔드 호출 ~ 응답 헤더 수신 시간")
+                        .tags("route", routeId, "instance", instance).register(registry));
+    }
+
+    private static Timer.Builder timer(String name, String description) {
+        return Timer.builder(name)
+                .description(description)
+                .publishPercentiles(PERCENTILES)
+                .distributionStatisticExpiry(EXPIRY)
+                .distributionStatisticBufferLength(BUFFER_LENGTH);
+    }
+
+    private record RouteMeters(Timer total, Timer queue, DistributionSummary responseSize) {
+    }
+
+    private record InstanceMeters(Timer total, Timer upstream) {
+    }
+}
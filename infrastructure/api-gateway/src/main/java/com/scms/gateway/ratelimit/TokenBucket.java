@@ -0,0 +1,87 @@
+package com.scms.gateway.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free 토큰 버킷
+ *
+ * GCRA(Generic Cell Rate Algorithm) 방식으로 구현하여 상태를 long 하나
+ * (theoretical arrival time, TAT)로만 관리합니다. 토큰 수와 마지막 충전 시각을
+ * 따로 두지 않으므로 CAS 한 번으로 원자적으로 갱신할 수 있습니다.
+ *
+ * - replenishRate: 초당 충전되는 토큰 수
+ * - burstCapacity: 버킷 최대 토큰 수 (순간 허용량)
+ */
+public final class TokenBucket {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int replenishRate;
+    private final int burstCapacity;
+
+    /**
+     * 다음 토큰이 "도착"하는 이론적 시각 (System.nanoTime 기준)
+     */
+    private final AtomicLong theoreticalArrivalTime;
+
+    public TokenBucket(int replenishRate, int burstCapacity) {
+        if (replenishRate <= 0 || burstCapacity <= 0) {
+            throw new IllegalArgumentException("replenishRate와 burstCapacity는 0보다 커야 합니다.");
+        }
+        this.replenishRate = replenishRate;
+        this.burstCapacity = burstCapacity;
+        this.emissionIntervalNanos = NANOS_PER_SECOND / replenishRate;
+        this.burstToleranceNanos = emissionIntervalNanos * burstCapacity;
+        this.theoreticalArrivalTime = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * 토큰 1개 소비 시도
+     *
+     * @return 소비 성공 여부
+     */
+    public boolean tryConsume() {
+        long now = System.nanoTime();
+        while (true) {
+            long tat = theoreticalArrivalTime.get();
+            long newTat = Math.max(tat, now) + emissionIntervalNanos;
+
+            // 버킷이 비어 있음 (허용 시각이 아직 도래하지 않음)
+            if (newTat - burstToleranceNanos > now) {
+                return false;
+            }
+            if (theoreticalArrivalTime.compareAndSet(tat, newTat)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 현재 남은 토큰 수 (응답 헤더용 근사값)
+     */
+    public long availableTokens() {
+        long now = System.nanoTime();
+        long tat = Math.max(theoreticalArrivalTime.get(), now);
+        long remaining = (burstToleranceNanos - (tat - now)) / emissionIntervalNanos;
+        return Math.max(remaining, 0);
+    }
+
+    /**
+     * 다음 토큰을 사용할 수 있을 때까지 남은 시간 (나노초)
+     */
+    public long nanosUntilNextToken() {
+        long now = System.nanoTime();
+        long allowAt = theoreticalArrivalTime.get() + emissionIntervalNanos - burstToleranceNanos;
+        return Math.max(allowAt - now, 0);
+    }
+
+    public int getReplenishRate() {
+        return replenishRate;
+    }
+
+    public int getBurstCapacity() {
+        return burstCapacity;
+    }
+}
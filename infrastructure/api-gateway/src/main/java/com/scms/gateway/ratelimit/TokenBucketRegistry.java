@@ -0,0 +1,50 @@
+package com.scms.gateway.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 인메모리 토큰 버킷 저장소
+ *
+ * 키(라우트 + IP/사용자)별 TokenBucket을 보관합니다.
+ * Caffeine 캐시는 내부적으로 분할(striped)된 동시성 맵이므로
+ * 버킷 조회 시 전역 락이 없습니다.
+ *
+ * 메모리 관리:
+ * - gateway.rate-limit.idle-timeout 동안 사용되지 않은 버킷은 제거
+ *   (이 시간이 지나면 버킷은 어차피 가득 찬 상태이므로 제거해도 동작이 같음)
+ * - gateway.rate-limit.max-buckets로 전체 버킷 수 제한
+ */
+@Component
+public class TokenBucketRegistry {
+
+    private final Cache<String, TokenBucket> buckets;
+
+    public TokenBucketRegistry(
+            @Value("${gateway.rate-limit.max-buckets:100000}") long maxBuckets,
+            @Value("${gateway.rate-limit.idle-timeout:10m}") Duration idleTimeout
+    ) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    /**
+     * 키에 해당하는 버킷 조회 (없으면 생성)
+     */
+    public TokenBucket bucket(String key, int replenishRate, int burstCapacity) {
+        return buckets.get(key, k -> new TokenBucket(replenishRate, burstCapacity));
+    }
+
+    /**
+     * 현재 버킷 수 (근사값)
+     */
+    public long size() {
+        return buckets.estimatedSize();
+    }
+}
@@ -0,0 +1,91 @@
+package com.scms.gateway.retry;
+
+import java.time.Duration;
+
+/**
+ * 슬라이딩 윈도우 재시도 예산
+ *
+ * 최근 window 동안의 최초 요청 수에 비례하여 재시도를 허용합니다.
+ *
+ *   허용 재시도 수 = minRetriesPerSecond x window(초) + ratio x 최초 요청 수
+ *
+ * 예: ratio 0.2 이면 정상 트래픽의 최대 20%까지만 재시도 트래픽이 추가되므로,
+ * 부분 장애 시 고정 재시도(최대 4배)처럼 트래픽이 증폭되지 않습니다.
+ *
+ * window를 BUCKETS개의 구간으로 나누어 오래된 구간을 순환하며 비웁니다.
+ * 카운터 갱신은 라우트별 객체에 대한 짧은 동기화 구간에서 수행합니다.
+ */
+public class RetryBudget {
+
+    private static final int BUCKETS = 10;
+
+    private final double ratio;
+    private final double minRetries;
+    private final long bucketNanos;
+
+    private final long[] requests = new long[BUCKETS];
+    private final long[] retries = new long[BUCKETS];
+    private final long[] bucketEpochs = new long[BUCKETS];
+
+    public RetryBudget(Duration window, double ratio, int minRetriesPerSecond) {
+        this.ratio = ratio;
+        this.minRetries = minRetriesPerSecond * (window.toMillis() / 1000.0);
+        this.bucketNanos = Math.max(1, window.toNanos() / BUCKETS);
+    }
+
+    /**
+     * 최초 요청 기록 (재시도 예산 적립)
+     */
+    public synchronized void recordRequest() {
+        requests[advance()]++;
+    }
+
+    /**
+     * 재시도 1회를 예산에서 차감
+     *
+     * @return 예산이 남아 있으면 true
+     */
+    public synchronized boolean tryWithdraw() {
+        int current = advance();
+        if (available() < 1) {
+            return false;
+        }
+        retries[current]++;
+        return true;
+    }
+
+    /**
+     * 현재 남은 재시도 예산
+     */
+    public synchronized double available() {
+        advance();
+        long totalRequests = 0;
+        long totalRetries = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            totalRequests += requests[i];
+            totalRetries += retries[i];
+        }
+        return minRetries + ratio * totalRequests - totalRetries;
+    }
+
+    /**
+     * 현재 시각의 구간으로 이동하며 window를 벗어난 구간을 비움
+     */
+    private int advance() {
+        long epoch = System.nanoTime() / bucketNanos;
+        int index = (int) Math.floorMod(epoch, (long) BUCKETS);
+        if (bucketEpochs[index] != epoch) {
+            bucketEpochs[index] = epoch;
+            requests[index] = 0;
+            retries[index] = 0;
+        }
+        // 오래 사용되지 않은 구간 정리
+        for (int i = 0; i < BUCKETS; i++) {
+            if (epoch - bucketEpochs[i] >= BUCKETS) {
+                requests[i] = 0;
+                retries[i] = 0;
+            }
+        }
+        return index;
+    }
+}
@@ -0,0 +1,67 @@
+package com.scms.gateway.retry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 라우트별 재시도 예산 저장소
+ *
+ * 미터:
+ * - gateway.retry.budget.available {route}  남은 재시도 예산
+ * - gateway.retry.budget.spent     {route}  예산을 사용해 수행한 재시도 수
+ * - gateway.retry.budget.refused   {route}  예산 부족으로 거절된 재시도 수
+ */
+@Component
+public class RetryBudgetRegistry {
+
+    private final MeterRegistry meterRegistry;
+    private final Duration window;
+    private final ConcurrentMap<String, Budget> budgets = new ConcurrentHashMap<>();
+
+    public RetryBudgetRegistry(
+            MeterRegistry meterRegistry,
+            @Value("${gateway.retry-budget.window:10s}") Duration window
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.window = window;
+    }
+
+    /**
+     * 라우트의 재시도 예산 조회 (없으면 생성)
+     */
+    public Budget budget(String routeId, double ratio, int minRetriesPerSecond) {
+        return budgets.computeIfAbsent(routeId, id -> register(id, ratio, minRetriesPerSecond));
+    }
+
+    private Budget register(String routeId, double ratio, int minRetriesPerSecond) {
+        RetryBudget budget = new RetryBudget(window, ratio, minRetriesPerSecond);
+
+        Gauge.builder("gateway.retry.budget.available", budget, RetryBudget::available)
+                .description("남은 재시도 예산")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        Counter spent = Counter.builder("gateway.retry.budget.spent")
+                .description("재시도 예산을 사용해 수행한 재시도 수")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        Counter refused = Counter.builder("gateway.retry.budget.refused")
+                .description("재시도 예산 부족으로 거절된 재시도 수")
+                .tag("route", routeId)
+                .register(meterRegistry);
+
+        return new Budget(budget, spent, refused);
+    }
+
+    /**
+     * 라우트별 예산과 사용/거절 카운터
+     */
+    public record Budget(RetryBudget budget, Counter spent, Counter refused) {
+    }
+}
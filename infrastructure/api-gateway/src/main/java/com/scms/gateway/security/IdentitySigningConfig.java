@@ -0,0 +1,26 @@
+package com.scms.gateway.security;
+
+import com.scms.common.util.identity.IdentityHeaderSigner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 신뢰 헤더 서명 설정
+ *
+ * 하위 서비스로 전달하는 X-User-* 헤더를 서명하는 IdentityHeaderSigner 등록
+ * (하위 서비스의 app.identity.secret과 같은 값이어야 함, 기본값 없음 - 미설정 시 기동 실패)
+ */
+@Configuration
+public class IdentitySigningConfig {
+
+    @Bean
+    public IdentityHeaderSigner identityHeaderSigner(
+            @Value("${gateway.identity.secret}") String secret,
+            @Value("${gateway.identity.max-age:60s}") Duration maxAge
+    ) {
+        return new IdentityHeaderSigner(secret, maxAge);
+    }
+}
@@ -0,0 +1,61 @@
+package com.scms.gateway.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+/**
+ * JWT 서명 검증기
+ *
+ * user-service의 JwtTokenProvider와 같은 비밀키(jwt.secret)로
+ * 토큰을 한 번만 파싱하여 VerifiedClaims로 변환합니다.
+ * JwtParser는 스레드 안전하므로 한 번 생성해 재사용합니다.
+ */
+@Slf4j
+@Component
+public class JwtClaimsVerifier {
+
+    private final JwtParser jwtParser;
+
+    public JwtClaimsVerifier(
+            @Value("${jwt.secret:scms-secret-key-for-jwt-token-generation-minimum-256-bits-required-for-hs256-algorithm}") String secret
+    ) {
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .build();
+    }
+
+    /**
+     * 토큰 검증 및 클레임 추출
+     *
+     * @return 검증된 클레임, 서명 오류/만료/형식 오류 시 null
+     */
+    public VerifiedClaims verify(String token) {
+        try {
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            Date expiration = claims.getExpiration();
+
+            return new VerifiedClaims(
+                    claims.get("userId", Long.class),
+                    claims.getSubject(),
+                    claims.get("role", String.class),
+                    claims.get("type", String.class),
+                    expiration != null ? expiration.getTime() : Long.MAX_VALUE
+            );
+        } catch (ExpiredJwtException e) {
+            log.debug("만료된 JWT 토큰입니다.");
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("유효하지 않은 JWT 토큰입니다: {}", e.getMessage());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,36 @@
+package com.scms.gateway.security;
+
+/**
+ * 게이트웨이에서 검증이 끝난 JWT 클레임
+ *
+ * 서명 검증을 통과한 토큰에서 하위 서비스에 전달할 식별 정보만 추려 보관합니다.
+ * 캐시에 저장되어 여러 요청이 공유하므로 불변 객체로 유지합니다.
+ *
+ * @param userId           User ID (userId 클레임)
+ * @param studentNum       학번 (subject)
+ * @param role             사용자 역할 (access 토큰에만 존재)
+ * @param tokenType        토큰 유형 (access / refresh)
+ * @param expiresAtMillis  토큰 만료 시각 (epoch millis)
+ */
+public record VerifiedClaims(
+        Long userId,
+        String studentNum,
+        String role,
+        String tokenType,
+        long expiresAtMillis
+) {
+
+    /**
+     * Access Token 여부 (Refresh Token으로는 API 호출을 인증하지 않음)
+     */
+    public boolean isAccessToken() {
+        return "access".equals(tokenType);
+    }
+
+    /**
+     * 주어진 시각 기준 만료 여부
+     */
+    public boolean isExpired(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+}
@@ -0,0 +1,120 @@
+package com.scms.gateway.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증된 JWT 클레임 캐시
+ *
+ * 동일 토큰에 대한 반복 서명 검증을 피하기 위해 검증 결과를 보관합니다.
+ * - 키: 토큰 원문이 아닌 SHA-256 다이제스트 (메모리에 토큰을 남기지 않음)
+ * - 크기 제한: gateway.jwt.cache.max-size
+ * - 만료: 토큰 exp와 gateway.jwt.cache.max-ttl 중 빠른 시각
+ * - 검증 실패 결과는 캐시하지 않음 (무작위 토큰으로 캐시를 채우는 공격 방지)
+ */
+@Slf4j
+@Component
+public class VerifiedClaimsCache {
+
+    private final JwtClaimsVerifier verifier;
+    private final Cache<String, VerifiedClaims> cache;
+
+    public VerifiedClaimsCache(
+            JwtClaimsVerifier verifier,
+            @Value("${gateway.jwt.cache.max-size:10000}") long maxSize,
+            @Value("${gateway.jwt.cache.max-ttl:5m}") Duration maxTtl
+    ) {
+        this.verifier = verifier;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry(maxTtl.toNanos()))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시에서 클레임 조회, 없으면 검증 후 저장
+     *
+     * @return 검증된 클레임, 유효하지 않은 토큰이면 null
+     */
+    public VerifiedClaims getOrVerify(String token) {
+        String key = digest(token);
+
+        VerifiedClaims cached = cache.getIfPresent(key);
+        if (cached != null && !cached.isExpired(System.currentTimeMillis())) {
+            return cached;
+        }
+
+        VerifiedClaims verified = verifier.verify(token);
+        if (verified != null) {
+            cache.put(key, verified);
+        }
+        return verified;
+    }
+
+    /**
+     * 캐시 적중률 (모니터링용)
+     */
+    public double hitRate() {
+        return cache.stats().hitRate();
+    }
+
+    /**
+     * 현재 캐시 크기 (근사값)
+     */
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 지원해야 함
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 토큰 만료 시각에 맞춘 엔트리별 만료 정책
+     */
+    private static final class TokenExpiry implements Expiry<String, VerifiedClaims> {
+
+        private final long maxTtlNanos;
+
+        private TokenExpiry(long maxTtlNanos) {
+            this.maxTtlNanos = maxTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedClaims value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            if (remainingMillis <= 0) {
+                return 0;
+            }
+            return Math.min(TimeUnit.MILLISECONDS.toNanos(remainingMillis), maxTtlNanos);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedClaims value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedClaims value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.scms.gateway.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AdaptiveConcurrencyLimit 단위 테스트
+ */
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+    @Test
+    void rejectsRequestsBeyondLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(5, 1, 100);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limit.tryAcquire()).isTrue();
+        }
+        assertThat(limit.tryAcquire()).isFalse();
+        assertThat(limit.getInFlight()).isEqualTo(5);
+
+        limit.release();
+        assertThat(limit.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void growsWhileSaturatedAtSteadyLatencyUpToMaxLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 100);
+
+        saturate(limit, FAST, false);
+        assertThat(limit.getLimit()).isGreaterThan(10);
+
+        for (int i = 0; i < 200; i++) {
+            saturate(limit, FAST, false);
+        }
+        assertThat(limit.getLimit()).isEqualTo(100);
+    }
+
+    @Test
+    void doesNotGrowWhenMostlyIdle() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 100);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(limit.tryAcquire()).isTrue();
+            limit.release(FAST, false);
+        }
+        assertThat(limit.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void shrinksWhenLatencyRisesAboveBaseline() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(50, 1, 100);
+        for (int i = 0; i < 20; i++) {
+            saturate(limit, FAST, false);
+        }
+        int before = limit.getLimit();
+
+        for (int i = 0; i < 3; i++) {
+            saturate(limit, SLOW, false);
+        }
+        assertThat(limit.getLimit()).isLessThan(before);
+    }
+
+    @Test
+    void backsOffOnDroppedRequestsDownToMinLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(50, 5, 100);
+
+        assertThat(limit.tryAcquire()).isTrue();
+        limit.release(FAST, true);
+        assertThat(limit.getLimit()).isLessThan(50);
+
+        for (int i = 0; i < 200; i++) {
+            assertThat(limit.tryAcquire()).isTrue();
+            limit.release(FAST, true);
+        }
+        assertThat(limit.getLimit()).isEqualTo(5);
+    }
+
+    /**
+     * 한도만큼 요청을 채운 뒤 모두 같은 RTT로 완료
+     */
+    private static void saturate(AdaptiveConcurrencyLimit limit, long rttNanos, boolean dropped) {
+        int acquired = 0;
+        while (limit.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limit.release(rttNanos, dropped);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.scms.gateway.loadbalancer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * PeakEwmaLoadBalancer / InstanceStats 단위 테스트
+ */
+class PeakEwmaLoadBalancerTest {
+
+    private static final long DECAY = TimeUnit.SECONDS.toNanos(10);
+    private static final long BASE_EJECTION = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long MAX_EJECTION = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private final ServiceInstance fast = new DefaultServiceInstance("fast", "program-service", "10.0.0.1", 8083, false);
+    private final ServiceInstance slow = new DefaultServiceInstance("slow", "program-service", "10.0.0.2", 8083, false);
+
+    private InstanceStatsRegistry statsRegistry;
+    private PeakEwmaLoadBalancer loadBalancer;
+
+    @BeforeEach
+    void setUp() {
+        statsRegistry = new InstanceStatsRegistry(new SimpleMeterRegistry(), Duration.ofNanos(DECAY), 3,
+                Duration.ofNanos(BASE_EJECTION), Duration.ofNanos(MAX_EJECTION), Duration.ofMinutes(10));
+
+        ServiceInstanceListSupplier supplier = mock(ServiceInstanceListSupplier.class);
+        when(supplier.get(any())).thenReturn(Flux.just(List.of(fast, slow)));
+        @SuppressWarnings("unchecked")
+        ObjectProvider<ServiceInstanceListSupplier> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable(any())).thenReturn(supplier);
+
+        loadBalancer = new PeakEwmaLoadBalancer(provider, statsRegistry);
+    }
+
+    @Test
+    void prefersLowerPeakEwmaLatency() {
+        record(fast, 5, false);
+        record(slow, 100, false);
+
+        for (int i = 0; i < 50; i++) {
+            assertThat(choose()).isEqualTo(fast);
+        }
+    }
+
+    @Test
+    void skipsEjectedInstanceAndReturnsItAfterEjection() throws InterruptedException {
+        record(slow, 100, false);
+        record(fast, 5, true);
+        record(fast, 5, true);
+        record(fast, 5, true);
+
+        assertThat(statsRegistry.stats(fast).isEjected(System.nanoTime())).isTrue();
+        for (int i = 0; i < 50; i++) {
+            assertThat(choose()).isEqualTo(slow);
+        }
+
+        Thread.sleep(TimeUnit.NANOSECONDS.toMillis(BASE_EJECTION) * 2);
+        assertThat(choose()).isEqualTo(fast);
+    }
+
+    @Test
+    void fallsBackToAllInstancesWhenEveryInstanceIsEjected() {
+        for (int i = 0; i < 3; i++) {
+            record(fast, 5, true);
+            record(slow, 100, true);
+        }
+
+        assertThat(choose()).isIn(fast, slow);
+    }
+
+    @Test
+    void peakLatencyIsImmediateAndDecaysOverTime() {
+        InstanceStats stats = new InstanceStats(DECAY, 3, BASE_EJECTION, MAX_EJECTION);
+        long now = System.nanoTime();
+
+        stats.complete(TimeUnit.MILLISECONDS.toNanos(10), false);
+        stats.complete(TimeUnit.MILLISECONDS.toNanos(100), false);
+        stats.complete(TimeUnit.MILLISECONDS.toNanos(10), false);
+        assertThat(stats.score(now)).isGreaterThan(TimeUnit.MILLISECONDS.toNanos(90));
+
+        // 감쇠 시간 상수의 5배가 지나면 peak가 1% 미만으로 줄어듦
+        assertThat(stats.score(now + DECAY * 5)).isLessThan(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    @Test
+    void ejectionDoublesWhileFailingAndResetsAfterSuccess() {
+        InstanceStats stats = new InstanceStats(DECAY, 3, BASE_EJECTION, MAX_EJECTION);
+
+        assertThat(failTimes(stats, 3)).isTrue();
+        long firstEjection = System.nanoTime();
+        assertThat(stats.isEjected(firstEjection)).isTrue();
+
+        // 두 번째 제외는 두 배 (100ms)
+        assertThat(failTimes(stats, 3)).isTrue();
+        long secondEjection = System.nanoTime();
+        assertThat(stats.isEjected(secondEjection + BASE_EJECTION + BASE_EJECTION / 2)).isTrue();
+        assertThat(stats.isEjected(secondEjection + BASE_EJECTION * 2 + BASE_EJECTION / 2)).isFalse();
+
+        // 성공하면 연속 실패와 제외 횟수가 초기화되어 다음 제외는 다시 기본 시간
+        stats.complete(TimeUnit.MILLISECONDS.toNanos(5), false);
+        assertThat(failTimes(stats, 2)).isFalse();
+        assertThat(failTimes(stats, 1)).isTrue();
+        long thirdEjection = System.nanoTime();
+        assertThat(stats.isEjected(thirdEjection + BASE_EJECTION + BASE_EJECTION / 2)).isFalse();
+    }
+
+    private ServiceInstance choose() {
+        Response<ServiceInstance> response = loadBalancer.choose(new DefaultRequest<>()).block();
+        assertThat(response).isNotNull();
+        assertThat(response.hasServer()).isTrue();
+        return response.getServer();
+    }
+
+    private void record(ServiceInstance instance, long rttMillis, boolean failed) {
+        statsRegistry.stats(instance).start();
+        statsRegistry.complete(InstanceStatsRegistry.key(instance), TimeUnit.MILLISECONDS.toNanos(rttMillis), failed);
+    }
+
+    /**
+     * 연속 실패를 기록하고 마지막 실패로 제외되었는지 반환
+     */
+    private static boolean failTimes(InstanceStats stats, int times) {
+        boolean ejected = false;
+        for (int i = 0; i < times; i++) {
+            ejected = stats.complete(TimeUnit.MILLISECONDS.toNanos(5), true);
+        }
+        return ejected;
+    }
+}
@@ -0,0 +1,88 @@
+package com.scms.gateway.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TokenBucket(GCRA) 단위 테스트
+ */
+class TokenBucketTest {
+
+    @Test
+    void allowsBurstThenRejectsUntilRefill() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(5, 5);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryConsume()).isTrue();
+        }
+        assertThat(bucket.tryConsume()).isFalse();
+        assertThat(bucket.availableTokens()).isZero();
+        assertThat(bucket.nanosUntilNextToken()).isPositive();
+
+        // 초당 5개 → 200ms마다 1개 충전
+        Thread.sleep(250);
+        assertThat(bucket.tryConsume()).isTrue();
+        assertThat(bucket.tryConsume()).isFalse();
+    }
+
+    @Test
+    void refillNeverExceedsBurstCapacity() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(100, 3);
+        Thread.sleep(100);
+
+        assertThat(bucket.availableTokens()).isEqualTo(3);
+        for (int i = 0; i < 3; i++) {
+            assertThat(bucket.tryConsume()).isTrue();
+        }
+        assertThat(bucket.tryConsume()).isFalse();
+    }
+
+    @Test
+    void concurrentConsumersNeverExceedBurst() throws Exception {
+        // 초당 1개 충전이므로 테스트 중 추가 충전 없이 burst만큼만 허용되어야 함
+        TokenBucket bucket = new TokenBucket(1, 50);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int consumed = 0;
+                    for (int i = 0; i < 25; i++) {
+                        if (bucket.tryConsume()) {
+                            consumed++;
+                        }
+                    }
+                    return consumed;
+                }));
+            }
+            start.countDown();
+
+            int total = 0;
+            for (Future<Integer> result : results) {
+                total += result.get(5, TimeUnit.SECONDS);
+            }
+            assertThat(total).isEqualTo(50);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void rejectsNonPositiveSettings() {
+        assertThatThrownBy(() -> new TokenBucket(0, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucket(10, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
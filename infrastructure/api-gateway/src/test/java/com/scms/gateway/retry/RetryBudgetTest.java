@@ -0,0 +1,63 @@
+package com.scms.gateway.retry;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RetryBudget 단위 테스트
+ */
+class RetryBudgetTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(10);
+
+    @Test
+    void allowsRetriesProportionalToRequests() {
+        RetryBudget budget = new RetryBudget(WINDOW, 0.2, 0);
+        assertThat(budget.tryWithdraw()).isFalse();
+
+        for (int i = 0; i < 10; i++) {
+            budget.recordRequest();
+        }
+        assertThat(budget.available()).isEqualTo(2.0);
+        assertThat(budget.tryWithdraw()).isTrue();
+        assertThat(budget.tryWithdraw()).isTrue();
+
+        // 예산 소진 후에는 거절
+        assertThat(budget.tryWithdraw()).isFalse();
+        assertThat(budget.available()).isZero();
+
+        // 최초 요청이 더 들어오면 다시 적립
+        for (int i = 0; i < 5; i++) {
+            budget.recordRequest();
+        }
+        assertThat(budget.tryWithdraw()).isTrue();
+        assertThat(budget.tryWithdraw()).isFalse();
+    }
+
+    @Test
+    void minRetriesAllowRetriesWithoutTraffic() {
+        // 초당 1회 x 10초 = 10회
+        RetryBudget budget = new RetryBudget(WINDOW, 0.2, 1);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(budget.tryWithdraw()).isTrue();
+        }
+        assertThat(budget.tryWithdraw()).isFalse();
+    }
+
+    @Test
+    void forgetsRequestsAndRetriesOutsideWindow() throws InterruptedException {
+        RetryBudget budget = new RetryBudget(Duration.ofMillis(100), 1.0, 0);
+        budget.recordRequest();
+        assertThat(budget.tryWithdraw()).isTrue();
+        assertThat(budget.tryWithdraw()).isFalse();
+
+        Thread.sleep(150);
+        assertThat(budget.available()).isZero();
+        budget.recordRequest();
+        assertThat(budget.tryWithdraw()).isTrue();
+    }
+}
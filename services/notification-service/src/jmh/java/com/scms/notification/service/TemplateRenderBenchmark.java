@@ -0,0 +1,92 @@
+package com.scms.notification.service;
+
+import com.scms.notification.domain.template.TemplateText;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 템플릿 렌더링 벤치마크
+ *
+ * 알림 1건(제목 + 내용 + 링크) 렌더링 비용을 비교합니다.
+ * - legacyReplace: 변수마다 String.replace로 전체 문자열을 다시 생성 (기존 NotificationTemplate 방식)
+ * - compileAndRender: 호출마다 파싱 후 렌더링 (NotificationTemplate.renderXxx)
+ * - compiledRender: 캐시된 CompiledTemplate 렌더링 (NotificationTemplateEngine)
+ *
+ * 실행: ./gradlew :services:notification-service:jmh
+ * (gc 프로파일러의 gc.alloc.rate.norm 값으로 렌더링당 할당량 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TemplateRenderBenchmark {
+
+    private static final String TITLE = "[{{programName}}] 신청이 {{status}}되었습니다";
+    private static final String CONTENT = "{{userName}}님, 신청하신 '{{programName}}' 프로그램이 {{status}}되었습니다. "
+            + "일시: {{date}} {{time}}, 장소: {{location}}. 마일리지 {{mileage}}점이 지급될 예정입니다. "
+            + "문의 사항은 {{department}}({{contact}})로 연락해 주세요.";
+    private static final String LINK = "/programs/{{programId}}/applications/{{applicationId}}";
+
+    private Map<String, String> variables;
+    private TemplateText title;
+    private TemplateText content;
+    private TemplateText link;
+
+    @Setup
+    public void setUp() {
+        variables = new LinkedHashMap<>();
+        variables.put("userName", "홍길동");
+        variables.put("programName", "Java 특강");
+        variables.put("status", "승인");
+        variables.put("date", "2026-10-20");
+        variables.put("time", "14:00");
+        variables.put("location", "공학관 301호");
+        variables.put("mileage", "30");
+        variables.put("department", "학생지원팀");
+        variables.put("contact", "02-000-0000");
+        variables.put("programId", "42");
+        variables.put("applicationId", "1024");
+
+        title = TemplateText.compile(TITLE);
+        content = TemplateText.compile(CONTENT);
+        link = TemplateText.compile(LINK);
+    }
+
+    @Benchmark
+    public void legacyReplace(Blackhole bh) {
+        bh.consume(replaceAll(TITLE, variables));
+        bh.consume(replaceAll(CONTENT, variables));
+        bh.consume(replaceAll(LINK, variables));
+    }
+
+    @Benchmark
+    public void compileAndRender(Blackhole bh) {
+        bh.consume(TemplateText.compile(TITLE).render(variables));
+        bh.consume(TemplateText.compile(CONTENT).render(variables));
+        bh.consume(TemplateText.compile(LINK).render(variables));
+    }
+
+    @Benchmark
+    public void compiledRender(Blackhole bh) {
+        bh.consume(title.render(variables));
+        bh.consume(content.render(variables));
+        bh.consume(link.render(variables));
+    }
+
+    private static String replaceAll(String template, Map<String, String> variables) {
+        String result = template;
+        for (Map.Entry<String, String> entry : variables.entrySet()) {
+            result = result.replace("{{" + entry.getKey() + "}}", entry.getValue());
+        }
+        return result;
+    }
+}
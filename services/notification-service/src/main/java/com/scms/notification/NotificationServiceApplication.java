@@ -21,10 +21,12 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 @SpringBootApplication(
         scanBasePackages = {
                 "com.scms.notification",
-                "com.scms.common.exception"  // 공통 예외 핸들러 스캔
+                "com.scms.common.exception",  // 공통 예외 핸들러 스캔
+                "com.scms.common.dto.config",  // 공통 커서 페이지네이션 설정
+                "com.scms.common.util.identity"  // 게이트웨이 서명 신뢰 헤더 검증
         },
         exclude = {
-                org.springframework.boot.autoconfigure.amqp.RabbitAutoConfiguration.class  // RabbitMQ 없이도 실행 가능
+                org.springframework.boot.autoconfigure.amqp.RabbitAutoConfiguration.class  // RabbitMQ 없이도 실행 가능 (이벤트 수신은 NotificationIngestConfig에서 선택적으로 구성)
         }
 )
 public class NotificationServiceApplication {
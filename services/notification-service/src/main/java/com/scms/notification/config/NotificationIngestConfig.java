@@ -0,0 +1,102 @@
+package com.scms.notification.config;
+
+import com.scms.common.dto.NotificationEvent;
+import com.scms.notification.service.NotificationIngestListener;
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.RabbitProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 알림 이벤트 수신(RabbitMQ) 설정
+ *
+ * RabbitAutoConfiguration은 브로커 없이도 실행되도록 제외되어 있으므로,
+ * app.notification-ingest.enabled=true 인 경우에만 spring.rabbitmq.* 값으로 연결과 리스너를 구성합니다.
+ *
+ * 토폴로지 (RabbitAdmin이 연결 시 선언):
+ * - NotificationEvent.EXCHANGE (topic) → queue (routing key #)
+ * - queue의 dead letter → {exchange}.dlx (direct) → dlq
+ *
+ * 리스너: 수동 ack + 컨슈머 배치 (batch-size개 또는 batch-timeout 경과 시 한 배치)
+ * prefetch는 batch-size 이상이어야 배치가 채워지며, 커밋 대기 중에도 다음 배치를 미리 받도록 2배 정도를 권장
+ */
+@Configuration
+@EnableConfigurationProperties(RabbitProperties.class)
+@ConditionalOnProperty(prefix = "app.notification-ingest", name = "enabled", havingValue = "true")
+public class NotificationIngestConfig {
+
+    @Value("${app.notification-ingest.queue:notification.ingest}")
+    private String queueName;
+
+    @Bean
+    public ConnectionFactory notificationIngestConnectionFactory(RabbitProperties properties) {
+        CachingConnectionFactory connectionFactory =
+                new CachingConnectionFactory(properties.determineHost(), properties.determinePort());
+        connectionFactory.setUsername(properties.determineUsername());
+        connectionFactory.setPassword(properties.determinePassword());
+        connectionFactory.setVirtualHost(properties.determineVirtualHost());
+        return connectionFactory;
+    }
+
+    @Bean
+    public RabbitAdmin notificationIngestRabbitAdmin(ConnectionFactory notificationIngestConnectionFactory) {
+        return new RabbitAdmin(notificationIngestConnectionFactory);
+    }
+
+    @Bean
+    public Declarables notificationIngestTopology() {
+        String deadLetterExchangeName = NotificationEvent.EXCHANGE + ".dlx";
+        String deadLetterQueueName = queueName + ".dlq";
+
+        TopicExchange exchange = new TopicExchange(NotificationEvent.EXCHANGE, true, false);
+        DirectExchange deadLetterExchange = new DirectExchange(deadLetterExchangeName, true, false);
+        Queue queue = QueueBuilder.durable(queueName)
+                .deadLetterExchange(deadLetterExchangeName)
+                .deadLetterRoutingKey(deadLetterQueueName)
+                .build();
+        Queue deadLetterQueue = QueueBuilder.durable(deadLetterQueueName).build();
+
+        return new Declarables(
+                exchange, deadLetterExchange, queue, deadLetterQueue,
+                BindingBuilder.bind(queue).to(exchange).with("#"),
+                BindingBuilder.bind(deadLetterQueue).to(deadLetterExchange).with(deadLetterQueueName)
+        );
+    }
+
+    @Bean
+    public SimpleMessageListenerContainer notificationIngestContainer(
+            ConnectionFactory notificationIngestConnectionFactory,
+            NotificationIngestListener listener,
+            @Value("${app.notification-ingest.consumers:2}") int consumers,
+            @Value("${app.notification-ingest.batch-size:100}") int batchSize,
+            @Value("${app.notification-ingest.batch-timeout:200ms}") Duration batchTimeout,
+            @Value("${app.notification-ingest.prefetch:200}") int prefetch
+    ) {
+        SimpleMessageListenerContainer container = new SimpleMessageListenerContainer(notificationIngestConnectionFactory);
+        container.setQueueNames(queueName);
+        container.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        container.setConsumerBatchEnabled(true);
+        container.setBatchSize(batchSize);
+        container.setReceiveTimeout(batchTimeout.toMillis());
+        container.setPrefetchCount(Math.max(prefetch, batchSize));
+        container.setConcurrentConsumers(consumers);
+        container.setDefaultRequeueRejected(false);
+        container.setMessageListener(listener);
+        return container;
+    }
+}
@@ -0,0 +1,22 @@
+package com.scms.notification.config;
+
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestClient;
+
+/**
+ * 서비스 간 호출 클라이언트 설정
+ *
+ * lb://{service-id} 주소를 Eureka 인스턴스로 해석하는 RestClient.Builder를 등록합니다.
+ * (일괄 알림 대상 확장 시 user-service, program-service 호출)
+ */
+@Configuration
+public class ServiceClientConfig {
+
+    @Bean
+    @LoadBalanced
+    public RestClient.Builder loadBalancedRestClientBuilder() {
+        return RestClient.builder();
+    }
+}
@@ -0,0 +1,80 @@
+package com.scms.notification.controller;
+
+import com.scms.common.exception.ApiException;
+import com.scms.common.exception.ErrorCode;
+import com.scms.notification.dto.request.BroadcastRequest;
+import com.scms.notification.dto.response.BroadcastResponse;
+import com.scms.notification.service.NotificationBroadcastService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 일괄 알림(Broadcast) 컨트롤러 (ADMIN)
+ *
+ * 엔드포인트:
+ * - POST /api/notifications/broadcasts - 일괄 알림 접수 (202, 백그라운드 발송)
+ * - GET /api/notifications/broadcasts/{id} - 작업 상태/진행률 조회
+ * - POST /api/notifications/broadcasts/{id}/resume - 실패한 작업 재개
+ *
+ * userRole은 게이트웨이가 서명한 X-User-Role에서만 설정됩니다. (서명이 없거나 틀리면 TrustedUserHeaderFilter가 401)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/notifications/broadcasts")
+@RequiredArgsConstructor
+public class NotificationBroadcastController {
+
+    private static final String ADMIN_ROLE = "ADMIN";
+
+    private final NotificationBroadcastService broadcastService;
+
+    /**
+     * 일괄 알림 접수
+     */
+    @PostMapping
+    public ResponseEntity<BroadcastResponse> broadcast(
+            @Valid @RequestBody BroadcastRequest request,
+            @RequestAttribute("userId") Long userId,
+            @RequestAttribute(value = "userRole", required = false) String role,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization
+    ) {
+        requireAdmin(role);
+        BroadcastResponse response = broadcastService.submit(request, userId, authorization);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * 작업 상태 조회
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<BroadcastResponse> getBroadcast(
+            @PathVariable Long id,
+            @RequestAttribute(value = "userRole", required = false) String role
+    ) {
+        requireAdmin(role);
+        return ResponseEntity.ok(broadcastService.getBroadcast(id));
+    }
+
+    /**
+     * 실패한 작업 재개
+     */
+    @PostMapping("/{id}/resume")
+    public ResponseEntity<BroadcastResponse> resume(
+            @PathVariable Long id,
+            @RequestAttribute(value = "userRole", required = false) String role
+    ) {
+        requireAdmin(role);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(broadcastService.resume(id));
+    }
+
+    private static void requireAdmin(String role) {
+        if (!ADMIN_ROLE.equals(role)) {
+            throw new ApiException(ErrorCode.FORBIDDEN, "관리자만 일괄 알림을 사용할 수 있습니다.");
+        }
+    }
+}
@@ -1,13 +1,17 @@
 package com.scms.notification.controller;
 
+import com.scms.common.dto.CursorPage;
 import com.scms.notification.dto.request.NotificationCreateRequest;
 import com.scms.notification.dto.response.NotificationResponse;
+import com.scms.notification.service.NotificationPushService;
 import com.scms.notification.service.NotificationService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
@@ -16,7 +20,7 @@ import java.util.Map;
  * 알림 컨트롤러
  *
  * 엔드포인트:
- * - GET /api/notifications - 내 알림 목록
+ * - GET /api/notifications?cursor=&size= - 내 알림 목록 (커서 페이지)
  * - GET /api/notifications/unread - 읽지 않은 알림
  * - GET /api/notifications/urgent - 긴급 알림
  * - GET /api/notifications/{id} - 알림 상세
@@ -25,6 +29,7 @@ import java.util.Map;
  * - POST /api/notifications/read-all - 전체 읽음 처리
  * - DELETE /api/notifications/{id} - 알림 삭제
  * - GET /api/notifications/unread-count - 안읽은 알림 수
+ * - GET /api/notifications/stream - 실시간 알림 구독 (SSE, Last-Event-ID 재연결)
  */
 @Slf4j
 @RestController
@@ -33,15 +38,18 @@ import java.util.Map;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationPushService notificationPushService;
 
     /**
      * 내 알림 목록 조회
      */
     @GetMapping
-    public ResponseEntity<List<NotificationResponse>> getMyNotifications(
-            @RequestAttribute("userId") Long userId
+    public ResponseEntity<CursorPage<NotificationResponse>> getMyNotifications(
+            @RequestAttribute("userId") Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
     ) {
-        List<NotificationResponse> notifications = notificationService.getUserNotifications(userId);
+        CursorPage<NotificationResponse> notifications = notificationService.getUserNotifications(userId, cursor, size);
         return ResponseEntity.ok(notifications);
     }
 
@@ -139,6 +147,21 @@ public class NotificationController {
         return ResponseEntity.ok(Map.of("count", count));
     }
 
+    /**
+     * 실시간 알림 구독 (Server-Sent Events)
+     *
+     * 새 알림이 생성되면 event: notification 으로 전송됩니다.
+     * 재연결 시 브라우저가 보내는 Last-Event-ID 이후의 알림을 다시 보내며,
+     * 이어 받을 수 없으면 event: resync 를 보냅니다. (목록 API로 다시 조회)
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotifications(
+            @RequestAttribute("userId") Long userId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId
+    ) {
+        return notificationPushService.subscribe(userId, lastEventId);
+    }
+
     /**
      * 최근 N일 이내 알림 조회
      */
@@ -32,7 +32,10 @@ import java.time.LocalDateTime;
         @Index(name = "idx_user_id", columnList = "user_id"),
         @Index(name = "idx_status", columnList = "status"),
         @Index(name = "idx_created_at", columnList = "created_at"),
-        @Index(name = "idx_user_status", columnList = "user_id,status")
+        @Index(name = "idx_user_status", columnList = "user_id,status"),
+        @Index(name = "idx_user_created_at_id", columnList = "user_id,created_at,notification_id"),  // 키셋 페이지네이션
+        @Index(name = "idx_email_pending", columnList = "email_sent,type,created_at"),  // 이메일 발송 대상 조회
+        @Index(name = "idx_user_related", columnList = "user_id,related_entity_type,related_entity_id")  // 같은 대상 알림 합치기
 })
 @EntityListeners(AuditingEntityListener.class)
 @Data
@@ -129,6 +132,47 @@ public class Notification {
     @Column(name = "email_sent_at")
     private LocalDateTime emailSentAt;
 
+    /**
+     * 수신 이메일 주소 (이메일 채널 알림, 생성 시 발행 측이 전달)
+     */
+    @Size(max = 100)
+    @Column(name = "recipient_email", length = 100)
+    private String recipientEmail;
+
+    /**
+     * 이메일 발송 시도 횟수 (NotificationEmailDispatcher가 선점할 때 증가)
+     */
+    @Builder.Default
+    @Column(name = "email_attempts", nullable = false, columnDefinition = "INT DEFAULT 0")
+    private Integer emailAttempts = 0;
+
+    /**
+     * 다음 이메일 발송 시도 시각 (선점 임대 만료 또는 재시도 대기, null이면 즉시)
+     */
+    @Column(name = "email_next_attempt_at")
+    private LocalDateTime emailNextAttemptAt;
+
+    /**
+     * 마지막 이메일 발송 오류
+     */
+    @Size(max = 500)
+    @Column(name = "email_error", length = 500)
+    private String emailError;
+
+    /**
+     * 일일 요약 이메일 대상 여부 (같은 수신자의 대상 알림을 하루 한 번 이메일 하나로 발송)
+     */
+    @Builder.Default
+    @Column(name = "email_digest", nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE")
+    private Boolean emailDigest = false;
+
+    /**
+     * 합쳐진 알림 수 (같은 사용자/유형/관련 엔티티 알림이 coalesce-window 안에 다시 생성되면 증가)
+     */
+    @Builder.Default
+    @Column(name = "digest_count", nullable = false, columnDefinition = "INT DEFAULT 1")
+    private Integer digestCount = 1;
+
     /**
      * 읽음 처리 시각
      */
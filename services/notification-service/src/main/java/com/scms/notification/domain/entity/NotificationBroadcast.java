@@ -0,0 +1,174 @@
+package com.scms.notification.domain.entity;
+
+import com.scms.notification.domain.enums.BroadcastStatus;
+import com.scms.notification.domain.enums.BroadcastTargetType;
+import com.scms.notification.domain.enums.NotificationPriority;
+import com.scms.notification.domain.enums.NotificationType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일괄 알림(Broadcast) 작업 Entity
+ *
+ * 템플릿을 한 번 렌더링한 제목/내용과 대상 확장 결과(notification_broadcast_targets)를 두고,
+ * 발송 작업이 userId 오름차순으로 청크 단위 INSERT 하면서 마지막 처리 userId(lastUserId)를 기록합니다.
+ * 인스턴스가 중단되면 임대(lease)가 만료된 뒤 다른 인스턴스가 lastUserId 이후부터 이어서 진행합니다.
+ */
+@Entity
+@Table(name = "notification_broadcasts", indexes = {
+        @Index(name = "idx_broadcast_status_lease", columnList = "status,lease_until")
+})
+@EntityListeners(AuditingEntityListener.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationBroadcast {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "broadcast_id")
+    private Long broadcastId;
+
+    /**
+     * 사용한 템플릿 ID
+     */
+    @Column(name = "template_id")
+    private Long templateId;
+
+    /**
+     * 렌더링된 알림 제목
+     */
+    @Column(name = "title", nullable = false, length = 200)
+    private String title;
+
+    /**
+     * 렌더링된 알림 내용
+     */
+    @Column(name = "content", nullable = false, length = 2000, columnDefinition = "TEXT")
+    private String content;
+
+    /**
+     * 렌더링된 링크 URL
+     */
+    @Column(name = "link_url", length = 500)
+    private String linkUrl;
+
+    /**
+     * 알림 유형
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 20)
+    private NotificationType type;
+
+    /**
+     * 우선순위
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "priority", nullable = false, length = 20)
+    private NotificationPriority priority;
+
+    /**
+     * 관련 엔티티 유형/ID (선택)
+     */
+    @Column(name = "related_entity_type", length = 50)
+    private String relatedEntityType;
+
+    @Column(name = "related_entity_id")
+    private Long relatedEntityId;
+
+    /**
+     * 알림 만료 일시 (선택)
+     */
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    /**
+     * 대상 지정 방식
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false, length = 20)
+    private BroadcastTargetType targetType;
+
+    /**
+     * 대상 지정 값 (역할명 또는 프로그램 ID, USERS는 null)
+     */
+    @Column(name = "target_value", length = 50)
+    private String targetValue;
+
+    /**
+     * 작업 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    @Column(name = "status", nullable = false, length = 20)
+    private BroadcastStatus status = BroadcastStatus.QUEUED;
+
+    /**
+     * 전체 대상 수
+     */
+    @Column(name = "total_targets", nullable = false)
+    private Integer totalTargets;
+
+    /**
+     * 발송(INSERT) 완료된 대상 수
+     */
+    @Builder.Default
+    @Column(name = "processed_targets", nullable = false)
+    private Integer processedTargets = 0;
+
+    /**
+     * 커밋된 청크 수
+     */
+    @Builder.Default
+    @Column(name = "chunk_count", nullable = false)
+    private Integer chunkCount = 0;
+
+    /**
+     * 마지막으로 커밋된 대상 userId (재개 지점)
+     */
+    @Builder.Default
+    @Column(name = "last_user_id", nullable = false)
+    private Long lastUserId = 0L;
+
+    /**
+     * 작업을 진행 중인 인스턴스 ID
+     */
+    @Column(name = "claimed_by", length = 100)
+    private String claimedBy;
+
+    /**
+     * 임대 만료 일시 (청크마다 연장, 만료되면 다른 인스턴스가 이어서 진행)
+     */
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    /**
+     * 실패 사유
+     */
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    /**
+     * 요청한 관리자 ID
+     */
+    @Column(name = "created_by")
+    private Long createdBy;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,35 @@
+package com.scms.notification.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 알림 대상 Entity
+ *
+ * 접수 시 확장한 대상 userId 목록 (작업 완료 후 삭제)
+ * 발송 작업은 (broadcast_id, user_id) 인덱스로 userId 오름차순 키셋 조회합니다.
+ */
+@Entity
+@Table(name = "notification_broadcast_targets", indexes = {
+        @Index(name = "uk_broadcast_target_user", columnList = "broadcast_id,user_id", unique = true)
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationBroadcastTarget {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "target_id")
+    private Long targetId;
+
+    @Column(name = "broadcast_id", nullable = false)
+    private Long broadcastId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+}
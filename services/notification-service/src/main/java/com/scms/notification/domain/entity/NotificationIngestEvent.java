@@ -0,0 +1,36 @@
+package com.scms.notification.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 처리된 알림 이벤트 Entity
+ *
+ * RabbitMQ 메시지는 커밋 후 ack 전에 인스턴스가 중단되면 다시 전달되므로,
+ * 알림과 같은 트랜잭션으로 eventId를 기록하여 재전달된 이벤트를 건너뜁니다.
+ */
+@Entity
+@Table(name = "notification_ingest_events", indexes = {
+        @Index(name = "idx_ingest_processed_at", columnList = "processed_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationIngestEvent {
+
+    @Id
+    @Column(name = "event_id", length = 64)
+    private String eventId;
+
+    @Column(name = "event_type", length = 50)
+    private String eventType;
+
+    @Column(name = "processed_at", nullable = false)
+    private LocalDateTime processedAt;
+}
@@ -2,6 +2,7 @@ package com.scms.notification.domain.entity;
 
 import com.scms.notification.domain.enums.NotificationPriority;
 import com.scms.notification.domain.enums.NotificationType;
+import com.scms.notification.domain.template.TemplateText;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -25,6 +26,9 @@ import java.time.LocalDateTime;
  * - 템플릿 기반 알림 생성
  * - 변수 치환 ({{userName}}, {{programName}} 등)
  * - 이메일 제목/본문 템플릿
+ *
+ * 반복 렌더링(이벤트 수신, 일괄 알림)은 컴파일 결과를 캐시하는 NotificationTemplateEngine을 사용합니다.
+ * 아래 render 메서드는 호출마다 템플릿을 파싱하므로 단건 렌더링에만 사용합니다.
  */
 @Entity
 @Table(name = "notification_templates", indexes = {
@@ -159,11 +163,7 @@ public class NotificationTemplate {
      * @return 치환된 제목
      */
     public String renderTitle(java.util.Map<String, String> variables) {
-        String result = titleTemplate;
-        for (java.util.Map.Entry<String, String> entry : variables.entrySet()) {
-            result = result.replace("{{" + entry.getKey() + "}}", entry.getValue());
-        }
-        return result;
+        return TemplateText.compile(titleTemplate).render(variables);
     }
 
     /**
@@ -173,11 +173,7 @@ public class NotificationTemplate {
      * @return 치환된 내용
      */
     public String renderContent(java.util.Map<String, String> variables) {
-        String result = contentTemplate;
-        for (java.util.Map.Entry<String, String> entry : variables.entrySet()) {
-            result = result.replace("{{" + entry.getKey() + "}}", entry.getValue());
-        }
-        return result;
+        return TemplateText.compile(contentTemplate).render(variables);
     }
 
     /**
@@ -190,11 +186,7 @@ public class NotificationTemplate {
         if (linkUrlTemplate == null) {
             return null;
         }
-        String result = linkUrlTemplate;
-        for (java.util.Map.Entry<String, String> entry : variables.entrySet()) {
-            result = result.replace("{{" + entry.getKey() + "}}", entry.getValue());
-        }
-        return result;
+        return TemplateText.compile(linkUrlTemplate).render(variables);
     }
 
     /**
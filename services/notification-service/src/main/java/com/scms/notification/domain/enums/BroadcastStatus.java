@@ -0,0 +1,26 @@
+package com.scms.notification.domain.enums;
+
+/**
+ * 일괄 알림 작업 상태
+ */
+public enum BroadcastStatus {
+    /**
+     * 대기 (대상 확장 완료, 발송 전)
+     */
+    QUEUED,
+
+    /**
+     * 발송 중 (청크 단위 진행)
+     */
+    RUNNING,
+
+    /**
+     * 완료
+     */
+    COMPLETED,
+
+    /**
+     * 실패 (재개 API로 마지막 커밋 지점부터 다시 진행 가능)
+     */
+    FAILED
+}
@@ -0,0 +1,21 @@
+package com.scms.notification.domain.enums;
+
+/**
+ * 일괄 알림 대상 지정 방식
+ */
+public enum BroadcastTargetType {
+    /**
+     * 사용자 ID 목록
+     */
+    USERS,
+
+    /**
+     * 역할 (STUDENT, COUNSELOR, ADMIN) - user-service에서 확장
+     */
+    ROLE,
+
+    /**
+     * 프로그램 참여자 (승인/출석/이수) - program-service에서 확장
+     */
+    PROGRAM
+}
@@ -0,0 +1,134 @@
+package com.scms.notification.domain.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 컴파일된 템플릿 문자열
+ *
+ * {{변수}} 자리표시자를 한 번만 파싱하여 [고정 문자열, 변수, 고정 문자열, ...] 세그먼트로 보관하고,
+ * 렌더링은 세그먼트를 순서대로 이어 붙이기만 합니다. (정규식/반복 replace 없음)
+ *
+ * 치환 규칙 (기존 String.replace 방식과 동일):
+ * - 변수 이름은 중괄호 안의 문자열 그대로 (공백 제거 안 함)
+ * - 값이 없는 변수는 {{변수}} 그대로 출력
+ * - 닫히지 않은 {{ 는 일반 문자열로 취급
+ * 단, 치환된 값 안의 {{...}}는 다시 치환하지 않습니다. (사용자 입력 값으로 다른 변수를 끌어오지 못하도록)
+ *
+ * 렌더링 버퍼는 스레드별 StringBuilder를 재사용하며, 결과 String 외에는 할당하지 않습니다.
+ */
+public final class TemplateText {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    /**
+     * 이보다 커진 버퍼는 재사용하지 않음 (긴 본문 한 번으로 스레드마다 큰 버퍼가 남지 않도록)
+     */
+    private static final int MAX_RETAINED_BUFFER = 16 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(512));
+
+    private final String source;
+    private final String[] literals;
+    private final String[] names;
+    private final int literalLength;
+
+    private TemplateText(String source, String[] literals, String[] names) {
+        this.source = source;
+        this.literals = literals;
+        this.names = names;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * 템플릿 파싱
+     *
+     * @return 컴파일된 템플릿 (source가 null이면 null)
+     */
+    public static TemplateText compile(String source) {
+        if (source == null) {
+            return null;
+        }
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        int literalStart = 0;
+        int from = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, from);
+            if (open < 0) {
+                break;
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                break;
+            }
+            // "{{a {{b}}", "{{{b}}}" 처럼 여러 번 열린 경우 닫는 괄호에 가장 가까운 {{ 가 자리표시자
+            int start = source.lastIndexOf(OPEN, close - OPEN.length());
+            literals.add(source.substring(literalStart, start));
+            names.add(source.substring(start + OPEN.length(), close));
+            literalStart = close + CLOSE.length();
+            from = literalStart;
+        }
+        literals.add(source.substring(literalStart));
+        return new TemplateText(source, literals.toArray(String[]::new), names.toArray(String[]::new));
+    }
+
+    /**
+     * 변수 치환
+     *
+     * @param variables 변수 맵 (null 값은 없는 변수로 취급)
+     * @return 치환된 문자열 (변수가 없는 템플릿은 원본 그대로)
+     */
+    public String render(Map<String, String> variables) {
+        if (names.length == 0) {
+            return source;
+        }
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        appendTo(buffer, variables);
+        String result = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            BUFFER.set(new StringBuilder(512));
+        }
+        return result;
+    }
+
+    /**
+     * 변수 치환 결과를 주어진 버퍼에 추가
+     */
+    public void appendTo(StringBuilder out, Map<String, String> variables) {
+        out.ensureCapacity(out.length() + literalLength + names.length * 16);
+        out.append(literals[0]);
+        for (int i = 0; i < names.length; i++) {
+            String value = variables.get(names[i]);
+            if (value != null) {
+                out.append(value);
+            } else {
+                out.append(OPEN).append(names[i]).append(CLOSE);
+            }
+            out.append(literals[i + 1]);
+        }
+    }
+
+    /**
+     * 템플릿에 포함된 변수 이름 (등장 순서, 중복 포함)
+     */
+    public List<String> variableNames() {
+        return List.of(names);
+    }
+
+    public String source() {
+        return source;
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+}
@@ -0,0 +1,51 @@
+package com.scms.notification.dto.request;
+
+import com.scms.notification.domain.enums.BroadcastTargetType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일괄 알림 요청 DTO
+ *
+ * 대상 지정:
+ * - USERS: userIds
+ * - ROLE: role (STUDENT, COUNSELOR, ADMIN)
+ * - PROGRAM: programId (승인/출석/이수 참여자)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BroadcastRequest {
+
+    @NotBlank(message = "템플릿 코드는 필수입니다.")
+    private String templateCode;
+
+    /**
+     * 템플릿 변수 (모든 대상에게 동일하게 적용)
+     */
+    private Map<String, String> variables;
+
+    @NotNull(message = "대상 지정 방식은 필수입니다.")
+    private BroadcastTargetType targetType;
+
+    private List<Long> userIds;
+
+    private String role;
+
+    private Long programId;
+
+    private String relatedEntityType;
+
+    private Long relatedEntityId;
+
+    private LocalDateTime expiresAt;
+}
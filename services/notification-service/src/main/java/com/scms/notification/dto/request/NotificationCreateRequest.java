@@ -2,6 +2,7 @@ package com.scms.notification.dto.request;
 
 import com.scms.notification.domain.enums.NotificationPriority;
 import com.scms.notification.domain.enums.NotificationType;
+import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -49,4 +50,11 @@ public class NotificationCreateRequest {
     private Long templateId;
 
     private String metadata;
+
+    /**
+     * 수신 이메일 주소 (이메일 채널 알림일 때 발송에 사용)
+     */
+    @Email(message = "이메일 형식이 올바르지 않습니다.")
+    @Size(max = 100, message = "이메일은 최대 100자입니다.")
+    private String recipientEmail;
 }
@@ -0,0 +1,54 @@
+package com.scms.notification.dto.response;
+
+import com.scms.notification.domain.entity.NotificationBroadcast;
+import com.scms.notification.domain.enums.BroadcastStatus;
+import com.scms.notification.domain.enums.BroadcastTargetType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일괄 알림 작업 상태 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BroadcastResponse {
+
+    private Long broadcastId;
+    private String title;
+    private BroadcastTargetType targetType;
+    private String targetValue;
+    private BroadcastStatus status;
+    private Integer totalTargets;
+    private Integer processedTargets;
+    private Integer chunkCount;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    /**
+     * Entity → Response DTO 변환
+     */
+    public static BroadcastResponse from(NotificationBroadcast broadcast) {
+        return BroadcastResponse.builder()
+                .broadcastId(broadcast.getBroadcastId())
+                .title(broadcast.getTitle())
+                .targetType(broadcast.getTargetType())
+                .targetValue(broadcast.getTargetValue())
+                .status(broadcast.getStatus())
+                .totalTargets(broadcast.getTotalTargets())
+                .processedTargets(broadcast.getProcessedTargets())
+                .chunkCount(broadcast.getChunkCount())
+                .errorMessage(broadcast.getErrorMessage())
+                .createdAt(broadcast.getCreatedAt())
+                .startedAt(broadcast.getStartedAt())
+                .finishedAt(broadcast.getFinishedAt())
+                .build();
+    }
+}
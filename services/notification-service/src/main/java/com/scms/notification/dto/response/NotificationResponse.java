@@ -37,6 +37,7 @@ public class NotificationResponse {
     private LocalDateTime createdAt;
     private Long templateId;
     private String metadata;
+    private Integer digestCount;  // 합쳐진 알림 수 (같은 ID로 다시 푸시되면 최신 내용으로 교체)
 
     /**
      * Entity → Response DTO 변환
@@ -60,6 +61,7 @@ public class NotificationResponse {
                 .createdAt(notification.getCreatedAt())
                 .templateId(notification.getTemplateId())
                 .metadata(notification.getMetadata())
+                .digestCount(notification.getDigestCount())
                 .build();
     }
 }
@@ -0,0 +1,50 @@
+package com.scms.notification.repository;
+
+import com.scms.notification.domain.entity.NotificationBroadcast;
+import com.scms.notification.domain.enums.BroadcastStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 일괄 알림 작업 Repository
+ *
+ * 주요 쿼리:
+ * - 진행 가능한 작업 조회 (대기 중이거나 임대가 만료된 작업)
+ * - 작업 임대 획득 (조건부 UPDATE - 한 인스턴스만 성공)
+ */
+@Repository
+public interface NotificationBroadcastRepository extends JpaRepository<NotificationBroadcast, Long> {
+
+    /**
+     * 진행 가능한 작업 ID (QUEUED/RUNNING 이면서 임대가 없거나 만료된 작업, 오래된 순)
+     */
+    @Query("SELECT b.broadcastId FROM NotificationBroadcast b WHERE b.status IN ('QUEUED', 'RUNNING') " +
+            "AND (b.leaseUntil IS NULL OR b.leaseUntil < :now) ORDER BY b.broadcastId ASC")
+    List<Long> findClaimableIds(@Param("now") LocalDateTime now);
+
+    /**
+     * 작업 임대 획득 (다른 인스턴스가 먼저 획득했으면 0 반환)
+     */
+    @Modifying
+    @Query("UPDATE NotificationBroadcast b SET b.status = 'RUNNING', b.claimedBy = :owner, b.leaseUntil = :leaseUntil, " +
+            "b.startedAt = COALESCE(b.startedAt, :now) " +
+            "WHERE b.broadcastId = :broadcastId AND b.status IN ('QUEUED', 'RUNNING') " +
+            "AND (b.leaseUntil IS NULL OR b.leaseUntil < :now)")
+    int claim(
+            @Param("broadcastId") Long broadcastId,
+            @Param("owner") String owner,
+            @Param("now") LocalDateTime now,
+            @Param("leaseUntil") LocalDateTime leaseUntil
+    );
+
+    /**
+     * 상태별 작업 조회 (최신순)
+     */
+    List<NotificationBroadcast> findByStatusOrderByBroadcastIdDesc(BroadcastStatus status);
+}
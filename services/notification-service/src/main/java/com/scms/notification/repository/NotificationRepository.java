@@ -3,6 +3,7 @@ package com.scms.notification.repository;
 import com.scms.notification.domain.entity.Notification;
 import com.scms.notification.domain.enums.NotificationStatus;
 import com.scms.notification.domain.enums.NotificationType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -10,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,7 +21,7 @@ import java.util.Optional;
  * 주요 쿼리:
  * - 사용자별 알림 조회 (상태별, 유형별)
  * - 읽지 않은 알림 수 조회
- * - 만료된 알림 자동 삭제
+ * - 만료된 알림 조회 (정리는 NotificationRetentionService가 구간 단위로 수행)
  * - 일괄 읽음 처리
  */
 @Repository
@@ -31,6 +33,19 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Query("SELECT n FROM Notification n WHERE n.userId = :userId AND n.status != 'DELETED' ORDER BY n.createdAt DESC")
     List<Notification> findByUserId(@Param("userId") Long userId);
 
+    /**
+     * 사용자의 알림 키셋 페이지 조회 (삭제되지 않은, 최신순, (createdAt, notificationId) 이후)
+     */
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId AND n.status != 'DELETED' " +
+            "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.notificationId < :notificationId)) " +
+            "ORDER BY n.createdAt DESC, n.notificationId DESC")
+    List<Notification> findPageByUserId(
+            @Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("notificationId") Long notificationId,
+            Pageable pageable
+    );
+
     /**
      * 사용자의 알림 조회 (상태별)
      */
@@ -55,6 +70,13 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
      */
     long countByUserIdAndStatus(Long userId, NotificationStatus status);
 
+    /**
+     * 여러 사용자의 읽지 않은 알림 수 (userId, count) - 읽지 않은 알림이 없는 사용자는 결과에 없음
+     */
+    @Query("SELECT n.userId, COUNT(n) FROM Notification n " +
+            "WHERE n.userId IN :userIds AND n.status = 'UNREAD' GROUP BY n.userId")
+    List<Object[]> countUnreadByUserIds(@Param("userIds") Collection<Long> userIds);
+
     /**
      * 사용자의 긴급 알림 조회
      */
@@ -116,22 +138,6 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
             "WHERE n.userId = :userId AND n.status = 'UNREAD'")
     int markAllAsRead(@Param("userId") Long userId, @Param("readAt") LocalDateTime readAt);
 
-    /**
-     * 만료된 알림 일괄 삭제
-     */
-    @Modifying
-    @Query("UPDATE Notification n SET n.status = 'DELETED' " +
-            "WHERE n.expiresAt IS NOT NULL AND n.expiresAt < :now AND n.status != 'DELETED'")
-    int deleteExpiredNotifications(@Param("now") LocalDateTime now);
-
-    /**
-     * 오래된 읽은 알림 일괄 삭제 (30일 이상 경과)
-     */
-    @Modifying
-    @Query("UPDATE Notification n SET n.status = 'DELETED' " +
-            "WHERE n.status = 'READ' AND n.readAt < :beforeDate")
-    int deleteOldReadNotifications(@Param("beforeDate") LocalDateTime beforeDate);
-
     /**
      * 사용자의 알림 통계
      */
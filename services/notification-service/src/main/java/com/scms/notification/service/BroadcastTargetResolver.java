@@ -0,0 +1,151 @@
+package com.scms.notification.service;
+
+import com.scms.common.exception.ApiException;
+import com.scms.common.exception.ErrorCode;
+import com.scms.common.exception.RetryableApiException;
+import com.scms.common.util.identity.IdentityHeaderSigner;
+import com.scms.notification.domain.enums.BroadcastTargetType;
+import com.scms.notification.dto.request.BroadcastRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+/**
+ * 일괄 알림 대상 확장기
+ *
+ * 요청의 대상 지정(사용자 목록 / 역할 / 프로그램 참여자)을 중복 없는 userId 집합(오름차순)으로 확장합니다.
+ * - ROLE: user-service GET /api/users/ids 를 userId 키셋으로 페이지 단위 호출
+ * - PROGRAM: program-service GET /api/programs/{id}/participants
+ *
+ * 요청한 관리자의 신원으로 호출합니다.
+ * - user-service: JWT를 직접 검증하므로 Authorization 헤더를 그대로 전달 (접수 요청 안에서 확장하므로 토큰 만료와 무관)
+ * - program-service: 게이트웨이와 같은 방식으로 서명한 신뢰 헤더(X-User-*, ADMIN)로 호출
+ */
+@Slf4j
+@Component
+public class BroadcastTargetResolver {
+
+    private static final int USER_ID_PAGE_SIZE = 1000;
+    private static final ParameterizedTypeReference<List<Long>> ID_LIST = new ParameterizedTypeReference<>() {
+    };
+
+    private static final String ADMIN_ROLE = "ADMIN";
+
+    private final RestClient restClient;
+    private final IdentityHeaderSigner identityHeaderSigner;
+    private final int maxTargets;
+
+    public BroadcastTargetResolver(
+            RestClient.Builder loadBalancedRestClientBuilder,
+            IdentityHeaderSigner identityHeaderSigner,
+            @Value("${app.broadcast.max-targets:100000}") int maxTargets
+    ) {
+        this.restClient = loadBalancedRestClientBuilder.build();
+        this.identityHeaderSigner = identityHeaderSigner;
+        this.maxTargets = maxTargets;
+    }
+
+    /**
+     * 대상 userId 확장
+     *
+     * @param adminId       요청한 관리자 ID (program-service 호출 신뢰 헤더에 서명)
+     * @param authorization 요청한 관리자의 Authorization 헤더 (user-service 호출에 전달)
+     * @return 중복 없는 userId (오름차순)
+     */
+    public TreeSet<Long> resolve(BroadcastRequest request, Long adminId, String authorization) {
+        TreeSet<Long> targets = new TreeSet<>();
+        BroadcastTargetType targetType = request.getTargetType();
+        switch (targetType) {
+            case USERS -> {
+                if (request.getUserIds() == null || request.getUserIds().isEmpty()) {
+                    throw new ApiException(ErrorCode.BAD_REQUEST, "대상 사용자 ID 목록이 비어 있습니다.");
+                }
+                request.getUserIds().stream().filter(id -> id != null && id > 0).forEach(targets::add);
+            }
+            case ROLE -> {
+                if (request.getRole() == null || request.getRole().isBlank()) {
+                    throw new ApiException(ErrorCode.BAD_REQUEST, "대상 역할이 필요합니다.");
+                }
+                resolveRole(request.getRole(), authorization, targets);
+            }
+            case PROGRAM -> {
+                if (request.getProgramId() == null) {
+                    throw new ApiException(ErrorCode.BAD_REQUEST, "대상 프로그램 ID가 필요합니다.");
+                }
+                targets.addAll(call(() -> restClient.get()
+                        .uri("http://program-service/api/programs/{id}/participants", request.getProgramId())
+                        .headers(headers -> identityHeaderSigner.sign(adminId, null, ADMIN_ROLE, headers::set))
+                        .retrieve()
+                        .body(ID_LIST)));
+            }
+        }
+        checkLimit(targets);
+        log.info("일괄 알림 대상 확장: targetType={}, targets={}", targetType, targets.size());
+        return targets;
+    }
+
+    private void resolveRole(String role, String authorization, Set<Long> targets) {
+        long after = 0L;
+        while (true) {
+            long cursor = after;
+            List<Long> page = call(() -> restClient.get()
+                    .uri("http://user-service/api/users/ids?role={role}&after={after}&size={size}",
+                            role, cursor, USER_ID_PAGE_SIZE)
+                    .headers(headers -> forward(headers, authorization))
+                    .retrieve()
+                    .body(ID_LIST));
+            if (page == null || page.isEmpty()) {
+                return;
+            }
+            targets.addAll(page);
+            checkLimit(targets);
+            if (page.size() < USER_ID_PAGE_SIZE) {
+                return;
+            }
+            after = page.get(page.size() - 1);
+        }
+    }
+
+    private void checkLimit(Set<Long> targets) {
+        if (targets.size() > maxTargets) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "일괄 알림 대상은 최대 " + maxTargets + "명입니다.");
+        }
+    }
+
+    private static void forward(HttpHeaders headers, String authorization) {
+        if (authorization != null) {
+            headers.set(HttpHeaders.AUTHORIZATION, authorization);
+        }
+    }
+
+    /**
+     * 하위 서비스 호출 (4xx는 요청 오류로, 연결 실패/5xx는 재시도 가능한 503으로 변환)
+     */
+    private static List<Long> call(Supplier<List<Long>> request) {
+        try {
+            List<Long> result = request.get();
+            return result != null ? result : List.of();
+        } catch (RestClientResponseException e) {
+            HttpStatus status = HttpStatus.resolve(e.getStatusCode().value());
+            if (status != null && status.is4xxClientError()) {
+                throw new ApiException(ErrorCode.BAD_REQUEST, "일괄 알림 대상을 확인할 수 없습니다: " + status);
+            }
+            throw new RetryableApiException(ErrorCode.SERVICE_UNAVAILABLE, Duration.ofSeconds(10));
+        } catch (RestClientException e) {
+            log.warn("일괄 알림 대상 확장 실패", e);
+            throw new RetryableApiException(ErrorCode.SERVICE_UNAVAILABLE, Duration.ofSeconds(10));
+        }
+    }
+}
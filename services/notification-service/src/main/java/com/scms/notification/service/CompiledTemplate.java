@@ -0,0 +1,78 @@
+package com.scms.notification.service;
+
+import com.scms.notification.domain.entity.NotificationTemplate;
+import com.scms.notification.domain.enums.NotificationPriority;
+import com.scms.notification.domain.enums.NotificationType;
+import com.scms.notification.domain.template.TemplateText;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 컴파일된 알림 템플릿 (NotificationTemplateEngine 캐시 값)
+ *
+ * 엔티티와 분리된 불변 값이므로 여러 스레드에서 동시에 렌더링해도 안전합니다.
+ *
+ * @param version 템플릿 행의 변경 버전 (updated_at, 없으면 created_at) - 캐시 갱신 시 비교
+ */
+public record CompiledTemplate(
+        Long templateId,
+        String templateCode,
+        NotificationType type,
+        NotificationPriority priority,
+        LocalDateTime version,
+        TemplateText title,
+        TemplateText content,
+        TemplateText linkUrl,
+        TemplateText emailSubject,
+        TemplateText emailBody
+) {
+
+    public static CompiledTemplate compile(NotificationTemplate template) {
+        return new CompiledTemplate(
+                template.getTemplateId(),
+                template.getTemplateCode(),
+                template.getType(),
+                template.getPriority(),
+                versionOf(template),
+                TemplateText.compile(template.getTitleTemplate()),
+                TemplateText.compile(template.getContentTemplate()),
+                TemplateText.compile(template.getLinkUrlTemplate()),
+                TemplateText.compile(template.getEmailSubjectTemplate()),
+                TemplateText.compile(template.getEmailBodyTemplate())
+        );
+    }
+
+    static LocalDateTime versionOf(NotificationTemplate template) {
+        return template.getUpdatedAt() != null ? template.getUpdatedAt() : template.getCreatedAt();
+    }
+
+    public String renderTitle(Map<String, String> variables) {
+        return title.render(variables);
+    }
+
+    public String renderContent(Map<String, String> variables) {
+        return content.render(variables);
+    }
+
+    /**
+     * @return 치환된 링크 URL (템플릿에 링크가 없으면 null)
+     */
+    public String renderLinkUrl(Map<String, String> variables) {
+        return linkUrl != null ? linkUrl.render(variables) : null;
+    }
+
+    /**
+     * @return 치환된 이메일 제목 (이메일 템플릿이 없으면 알림 제목)
+     */
+    public String renderEmailSubject(Map<String, String> variables) {
+        return emailSubject != null ? emailSubject.render(variables) : renderTitle(variables);
+    }
+
+    /**
+     * @return 치환된 이메일 본문 (이메일 템플릿이 없으면 알림 내용)
+     */
+    public String renderEmailBody(Map<String, String> variables) {
+        return emailBody != null ? emailBody.render(variables) : renderContent(variables);
+    }
+}
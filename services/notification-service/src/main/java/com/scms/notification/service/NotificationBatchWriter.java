@@ -0,0 +1,86 @@
+package com.scms.notification.service;
+
+import com.scms.notification.domain.entity.Notification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 JDBC 배치 저장기
+ *
+ * IDENTITY 키를 쓰는 엔티티는 Hibernate가 INSERT를 배치로 묶지 못하므로(saveAll도 행마다 INSERT),
+ * 여러 알림을 한 번의 JDBC 배치로 저장하고 생성된 notificationId를 엔티티에 채웁니다.
+ * (rewriteBatchedStatements=true 이면 multi-row INSERT 하나로 전송)
+ *
+ * 호출 측 트랜잭션의 커넥션을 사용하므로 트랜잭션 안에서 호출해야 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationBatchWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notifications (user_id, title, content, type, status, priority, related_entity_type, "
+                    + "related_entity_id, link_url, email_sent, expires_at, created_at, template_id, metadata, recipient_email, "
+                    + "email_next_attempt_at, email_digest, digest_count) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 알림 일괄 저장 (createdAt이 없으면 현재 시각, 저장 후 notificationId 설정)
+     */
+    public void insertAll(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (Notification notification : notifications) {
+                    if (notification.getCreatedAt() == null) {
+                        notification.setCreatedAt(now);
+                    }
+                    ps.setLong(1, notification.getUserId());
+                    ps.setString(2, notification.getTitle());
+                    ps.setString(3, notification.getContent());
+                    ps.setString(4, notification.getType().name());
+                    ps.setString(5, notification.getStatus().name());
+                    ps.setString(6, notification.getPriority().name());
+                    ps.setString(7, notification.getRelatedEntityType());
+                    ps.setObject(8, notification.getRelatedEntityId(), Types.BIGINT);
+                    ps.setString(9, notification.getLinkUrl());
+                    ps.setBoolean(10, Boolean.TRUE.equals(notification.getEmailSent()));
+                    ps.setTimestamp(11, notification.getExpiresAt() != null
+                            ? Timestamp.valueOf(notification.getExpiresAt()) : null);
+                    ps.setTimestamp(12, Timestamp.valueOf(notification.getCreatedAt()));
+                    ps.setObject(13, notification.getTemplateId(), Types.BIGINT);
+                    ps.setString(14, notification.getMetadata());
+                    ps.setString(15, notification.getRecipientEmail());
+                    ps.setTimestamp(16, notification.getEmailNextAttemptAt() != null
+                            ? Timestamp.valueOf(notification.getEmailNextAttemptAt()) : null);
+                    ps.setBoolean(17, Boolean.TRUE.equals(notification.getEmailDigest()));
+                    ps.setInt(18, notification.getDigestCount() != null ? notification.getDigestCount() : 1);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    int index = 0;
+                    while (keys.next() && index < notifications.size()) {
+                        notifications.get(index++).setNotificationId(keys.getLong(1));
+                    }
+                }
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,366 @@
+package com.scms.notification.service;
+
+import com.scms.common.exception.ApiException;
+import com.scms.common.exception.ErrorCode;
+import com.scms.notification.domain.entity.NotificationBroadcast;
+import com.scms.notification.domain.enums.BroadcastStatus;
+import com.scms.notification.domain.enums.BroadcastTargetType;
+import com.scms.notification.dto.request.BroadcastRequest;
+import com.scms.notification.dto.response.BroadcastResponse;
+import com.scms.notification.repository.NotificationBroadcastRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일괄 알림(Broadcast) 서비스
+ *
+ * 레거시 NotificationScheduler는 대상마다 createNotificationByType을 호출하여
+ * 사용자 한 명당 트랜잭션 하나를 쓰므로, 전체 학생(3만 명) 공지에 수십 분이 걸리고 커넥션 풀을 점유했습니다.
+ *
+ * 1. 접수: 템플릿을 한 번만 렌더링하고, 대상(사용자 목록/역할/프로그램 참여자)을 서버에서 userId 집합으로 확장
+ *    → 작업(notification_broadcasts)과 대상(notification_broadcast_targets)을 JDBC 배치로 저장 후 202 반환
+ * 2. 발송: 작업 스레드 하나가 대상을 userId 오름차순 키셋으로 chunk-size씩 읽어
+ *    notifications에 JDBC 배치 INSERT + 작업 진행 상황(lastUserId)을 같은 트랜잭션으로 커밋
+ *    (인스턴스당 커넥션 하나만 사용, 청크 사이 chunk-pause만큼 쉬어 다른 요청에 커넥션 양보)
+ * 3. 재개: 작업은 임대(lease)를 청크마다 연장하며, 인스턴스가 중단되어 임대가 만료되면
+ *    어느 인스턴스든 poll-interval 안에 임대를 넘겨받아 lastUserId 이후부터 이어서 진행
+ *    (청크와 진행 상황이 함께 커밋되므로 중복/누락 없음), 실패한 작업은 재개 API로 다시 진행
+ *
+ * 일괄 발송 알림은 읽지 않은 알림 수 카운터에 반영되며, SSE 푸시는 보내지 않습니다.
+ * (클라이언트는 다음 목록 조회 또는 재연결 시 확인)
+ *
+ * 미터:
+ * - notification.broadcast.chunk     청크 처리 시간 (대상 조회 + 배치 INSERT + 진행 상황 갱신)
+ * - notification.broadcast.inserted  일괄 발송으로 생성된 알림 수
+ */
+@Slf4j
+@Service
+public class NotificationBroadcastService implements DisposableBean {
+
+    private static final String INSERT_TARGET_SQL =
+            "INSERT INTO notification_broadcast_targets (broadcast_id, user_id) VALUES (?, ?)";
+
+    private static final String SELECT_TARGETS_SQL =
+            "SELECT user_id FROM notification_broadcast_targets "
+                    + "WHERE broadcast_id = ? AND user_id > ? ORDER BY user_id LIMIT ?";
+
+    private static final String INSERT_NOTIFICATION_SQL =
+            "INSERT INTO notifications (user_id, title, content, type, status, priority, related_entity_type, "
+                    + "related_entity_id, link_url, email_sent, expires_at, created_at, template_id) "
+                    + "VALUES (?, ?, ?, ?, 'UNREAD', ?, ?, ?, ?, false, ?, ?, ?)";
+
+    private static final String UPDATE_PROGRESS_SQL =
+            "UPDATE notification_broadcasts SET last_user_id = ?, processed_targets = processed_targets + ?, "
+                    + "chunk_count = chunk_count + 1, lease_until = ? "
+                    + "WHERE broadcast_id = ? AND claimed_by = ? AND status = 'RUNNING'";
+
+    private static final String COMPLETE_SQL =
+            "UPDATE notification_broadcasts SET status = 'COMPLETED', finished_at = ?, lease_until = NULL "
+                    + "WHERE broadcast_id = ? AND claimed_by = ? AND status = 'RUNNING'";
+
+    private static final String FAIL_SQL =
+            "UPDATE notification_broadcasts SET status = 'FAILED', error_message = ?, finished_at = ?, lease_until = NULL "
+                    + "WHERE broadcast_id = ? AND claimed_by = ? AND status = 'RUNNING'";
+
+    private static final String DELETE_TARGETS_SQL =
+            "DELETE FROM notification_broadcast_targets WHERE broadcast_id = ?";
+
+    private final NotificationBroadcastRepository broadcastRepository;
+    private final NotificationTemplateEngine templateEngine;
+    private final BroadcastTargetResolver targetResolver;
+    private final UnreadCountCache unreadCountCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService worker;
+    private final String owner = UUID.randomUUID().toString();
+
+    private final int chunkSize;
+    private final long chunkPauseMillis;
+    private final Duration lease;
+
+    private final Timer chunkTimer;
+    private final Counter inserted;
+
+    private volatile boolean running = true;
+
+    public NotificationBroadcastService(
+            NotificationBroadcastRepository broadcastRepository,
+            NotificationTemplateEngine templateEngine,
+            BroadcastTargetResolver targetResolver,
+            UnreadCountCache unreadCountCache,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.broadcast.chunk-size:1000}") int chunkSize,
+            @Value("${app.broadcast.chunk-pause:50ms}") Duration chunkPause,
+            @Value("${app.broadcast.lease:2m}") Duration lease,
+            @Value("${app.broadcast.poll-interval:30s}") Duration pollInterval
+    ) {
+        this.broadcastRepository = broadcastRepository;
+        this.templateEngine = templateEngine;
+        this.targetResolver = targetResolver;
+        this.unreadCountCache = unreadCountCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.chunkPauseMillis = chunkPause.toMillis();
+        this.lease = lease;
+
+        this.chunkTimer = Timer.builder("notification.broadcast.chunk")
+                .description("일괄 알림 청크 처리 시간")
+                .register(meterRegistry);
+        this.inserted = Counter.builder("notification.broadcast.inserted")
+                .description("일괄 발송으로 생성된 알림 수")
+                .register(meterRegistry);
+
+        this.worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-broadcast");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long pollMillis = pollInterval.toMillis();
+        this.worker.scheduleWithFixedDelay(this::pollAndRun, pollMillis, pollMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 일괄 알림 접수 (대상 확장 후 작업 저장, 발송은 백그라운드에서 진행)
+     *
+     * @param authorization 요청한 관리자의 Authorization 헤더 (대상 확장 시 하위 서비스에 전달)
+     */
+    public BroadcastResponse submit(BroadcastRequest request, Long adminId, String authorization) {
+        CompiledTemplate template = templateEngine.find(request.getTemplateCode())
+                .orElseThrow(() -> new ApiException(ErrorCode.NOTIFICATION_TEMPLATE_NOT_FOUND));
+        Map<String, String> variables = request.getVariables() != null ? request.getVariables() : Map.of();
+
+        TreeSet<Long> targets = targetResolver.resolve(request, adminId, authorization);
+        if (targets.isEmpty()) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "일괄 알림 대상이 없습니다.");
+        }
+
+        NotificationBroadcast saved = transactionTemplate.execute(status -> {
+            NotificationBroadcast broadcast = broadcastRepository.save(NotificationBroadcast.builder()
+                    .templateId(template.templateId())
+                    .title(template.renderTitle(variables))
+                    .content(template.renderContent(variables))
+                    .linkUrl(template.renderLinkUrl(variables))
+                    .type(template.type())
+                    .priority(template.priority())
+                    .relatedEntityType(request.getRelatedEntityType())
+                    .relatedEntityId(request.getRelatedEntityId())
+                    .expiresAt(request.getExpiresAt())
+                    .targetType(request.getTargetType())
+                    .targetValue(targetValue(request))
+                    .totalTargets(targets.size())
+                    .createdBy(adminId)
+                    .build());
+
+            Long broadcastId = broadcast.getBroadcastId();
+            jdbcTemplate.batchUpdate(INSERT_TARGET_SQL, new ArrayList<>(targets), chunkSize, (ps, userId) -> {
+                ps.setLong(1, broadcastId);
+                ps.setLong(2, userId);
+            });
+            triggerAfterCommit();
+            return broadcast;
+        });
+
+        log.info("일괄 알림 접수: broadcastId={}, template={}, targetType={}, targets={}",
+                saved.getBroadcastId(), request.getTemplateCode(), request.getTargetType(), targets.size());
+        return BroadcastResponse.from(saved);
+    }
+
+    /**
+     * 일괄 알림 작업 상태 조회
+     */
+    public BroadcastResponse getBroadcast(Long broadcastId) {
+        return broadcastRepository.findById(broadcastId)
+                .map(BroadcastResponse::from)
+                .orElseThrow(() -> new ApiException(ErrorCode.NOTIFICATION_BROADCAST_NOT_FOUND));
+    }
+
+    /**
+     * 실패한 작업 재개 (마지막으로 커밋된 청크 이후부터)
+     */
+    public BroadcastResponse resume(Long broadcastId) {
+        NotificationBroadcast resumed = transactionTemplate.execute(status -> {
+            NotificationBroadcast broadcast = broadcastRepository.findById(broadcastId)
+                    .orElseThrow(() -> new ApiException(ErrorCode.NOTIFICATION_BROADCAST_NOT_FOUND));
+            if (broadcast.getStatus() != BroadcastStatus.FAILED) {
+                throw new ApiException(ErrorCode.BAD_REQUEST, "실패한 작업만 재개할 수 있습니다: status=" + broadcast.getStatus());
+            }
+            broadcast.setStatus(BroadcastStatus.QUEUED);
+            broadcast.setErrorMessage(null);
+            broadcast.setFinishedAt(null);
+            broadcast.setLeaseUntil(null);
+            triggerAfterCommit();
+            return broadcastRepository.save(broadcast);
+        });
+        log.info("일괄 알림 재개: broadcastId={}, lastUserId={}", broadcastId, resumed.getLastUserId());
+        return BroadcastResponse.from(resumed);
+    }
+
+    // ==================== Background Worker ====================
+
+    private void triggerAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                worker.execute(NotificationBroadcastService.this::pollAndRun);
+            }
+        });
+    }
+
+    /**
+     * 진행 가능한 작업을 하나씩 임대하여 실행 (작업 스레드 하나에서만 호출)
+     */
+    private void pollAndRun() {
+        try {
+            for (Long broadcastId : broadcastRepository.findClaimableIds(LocalDateTime.now())) {
+                if (!running) {
+                    return;
+                }
+                LocalDateTime now = LocalDateTime.now();
+                Integer claimed = transactionTemplate.execute(status ->
+                        broadcastRepository.claim(broadcastId, owner, now, now.plus(lease)));
+                if (claimed != null && claimed == 1) {
+                    run(broadcastId);
+                }
+            }
+        } catch (Exception e) {
+            log.error("일괄 알림 작업 조회 실패", e);
+        }
+    }
+
+    private void run(Long broadcastId) {
+        NotificationBroadcast broadcast = broadcastRepository.findById(broadcastId).orElse(null);
+        if (broadcast == null) {
+            return;
+        }
+        log.info("일괄 알림 발송 시작: broadcastId={}, total={}, lastUserId={}",
+                broadcastId, broadcast.getTotalTargets(), broadcast.getLastUserId());
+
+        long lastUserId = broadcast.getLastUserId();
+        try {
+            while (running) {
+                long after = lastUserId;
+                Long next = chunkTimer.record(() -> transactionTemplate.execute(status -> processChunk(broadcast, after)));
+                if (next == null) {
+                    finish(broadcastId);
+                    return;
+                }
+                lastUserId = next;
+                if (chunkPauseMillis > 0) {
+                    Thread.sleep(chunkPauseMillis);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (LeaseLostException e) {
+            log.warn("일괄 알림 작업 임대를 잃어 중단합니다: broadcastId={}", broadcastId);
+        } catch (Exception e) {
+            log.error("일괄 알림 발송 실패: broadcastId={}, lastUserId={}", broadcastId, lastUserId, e);
+            String message = e.getMessage() != null && e.getMessage().length() > 500
+                    ? e.getMessage().substring(0, 500) : e.getMessage();
+            jdbcTemplate.update(FAIL_SQL, message, Timestamp.valueOf(LocalDateTime.now()), broadcastId, owner);
+        }
+    }
+
+    /**
+     * 청크 하나 처리 (대상 조회 → 알림 배치 INSERT → 진행 상황 갱신, 한 트랜잭션)
+     *
+     * @return 이번 청크의 마지막 userId (남은 대상이 없으면 null)
+     */
+    private Long processChunk(NotificationBroadcast broadcast, long afterUserId) {
+        List<Long> userIds = jdbcTemplate.queryForList(
+                SELECT_TARGETS_SQL, Long.class, broadcast.getBroadcastId(), afterUserId, chunkSize);
+        if (userIds.isEmpty()) {
+            return null;
+        }
+
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp expiresAt = broadcast.getExpiresAt() != null ? Timestamp.valueOf(broadcast.getExpiresAt()) : null;
+        jdbcTemplate.batchUpdate(INSERT_NOTIFICATION_SQL, userIds, userIds.size(), (ps, userId) -> {
+            ps.setLong(1, userId);
+            ps.setString(2, broadcast.getTitle());
+            ps.setString(3, broadcast.getContent());
+            ps.setString(4, broadcast.getType().name());
+            ps.setString(5, broadcast.getPriority().name());
+            ps.setString(6, broadcast.getRelatedEntityType());
+            ps.setObject(7, broadcast.getRelatedEntityId(), Types.BIGINT);
+            ps.setString(8, broadcast.getLinkUrl());
+            ps.setTimestamp(9, expiresAt);
+            ps.setTimestamp(10, createdAt);
+            ps.setObject(11, broadcast.getTemplateId(), Types.BIGINT);
+        });
+
+        Long lastUserId = userIds.get(userIds.size() - 1);
+        int updated = jdbcTemplate.update(UPDATE_PROGRESS_SQL, lastUserId, userIds.size(),
+                Timestamp.valueOf(LocalDateTime.now().plus(lease)), broadcast.getBroadcastId(), owner);
+        if (updated != 1) {
+            throw new LeaseLostException();  // 롤백 (다른 인스턴스가 이어서 진행 중)
+        }
+
+        unreadCountCache.adjustAfterCommit(userIds, 1);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                inserted.increment(userIds.size());
+            }
+        });
+        return lastUserId;
+    }
+
+    private void finish(Long broadcastId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (jdbcTemplate.update(COMPLETE_SQL, Timestamp.valueOf(LocalDateTime.now()), broadcastId, owner) == 1) {
+                jdbcTemplate.update(DELETE_TARGETS_SQL, broadcastId);
+            }
+        });
+        log.info("일괄 알림 발송 완료: broadcastId={}", broadcastId);
+    }
+
+    private static String targetValue(BroadcastRequest request) {
+        if (request.getTargetType() == BroadcastTargetType.ROLE) {
+            return request.getRole();
+        }
+        if (request.getTargetType() == BroadcastTargetType.PROGRAM) {
+            return String.valueOf(request.getProgramId());
+        }
+        return null;
+    }
+
+    @Override
+    public void destroy() {
+        // 진행 중인 청크는 커밋/롤백까지 기다리지 않음 - 임대 만료 후 이어서 진행
+        running = false;
+        worker.shutdownNow();
+    }
+
+    /**
+     * 작업 임대를 다른 인스턴스에 넘겨준 경우 (진행 상황 갱신 실패)
+     */
+    private static class LeaseLostException extends RuntimeException {
+    }
+}
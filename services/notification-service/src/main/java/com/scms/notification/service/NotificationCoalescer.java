@@ -0,0 +1,305 @@
+package com.scms.notification.service;
+
+import com.scms.notification.domain.entity.Notification;
+import com.scms.notification.domain.enums.NotificationPriority;
+import com.scms.notification.domain.enums.NotificationType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 알림 합치기(coalescing) 및 이메일 발송 시점 결정
+ *
+ * 신청 상태 변경이 연달아 일어나거나 D-3/D-1 리마인더처럼 같은 대상(relatedEntityType/Id)에 대한 알림이
+ * 짧은 간격으로 여러 번 생성되면 행과 이메일이 그만큼 늘어납니다.
+ * 알림 생성 경로(REST, 이벤트 수신)는 모두 이 클래스로 저장하며:
+ *
+ * 1. 합치기: 같은 사용자/유형/관련 엔티티의 읽지 않은 알림이 coalesce-window 안에 이미 있고
+ *    아직 이메일 발송이 시작되지 않았으면, 새 행을 만들지 않고 기존 행을 최신 내용으로 바꾸고 digestCount를 올림
+ *    - 같은 배치 안의 중복도 먼저 하나로 합침
+ *    - 이메일 시점은 둘 중 이른 쪽을 따르며, 어느 한쪽이라도 일일 요약 대상이 아니면 요약에서 빠짐
+ *      (LOW 요약 알림에 HIGH 알림이 합쳐지면 다음 날 요약이 아니라 coalesce-window 뒤 개별 발송)
+ *    - 관련 엔티티가 없거나 URGENT 알림은 합치지 않음
+ *    - 동시에 생성되는 경우 두 행이 될 수 있음 (잠금 없이 최선 노력)
+ * 2. 이메일 시점: 합쳐질 수 있는 이메일 채널 알림은 coalesce-window가 끝난 뒤 발송 (기다리는 동안 합쳐진 내용을 한 번에 발송)
+ *    - daily-enabled이면 daily-priorities 우선순위 알림은 daily-at에 수신자별 요약 이메일 하나로 발송
+ *      (인앱 알림은 그대로 바로 보임)
+ *
+ * 설정 (app.digest.*):
+ * - coalesce-window   합치기 기간 (0이면 합치지 않음)
+ * - daily-enabled     일일 요약 이메일 사용 여부
+ * - daily-at          일일 요약 이메일 발송 시각
+ * - daily-priorities  일일 요약으로 보낼 우선순위 (쉼표 구분)
+ *
+ * 미터:
+ * - notification.coalesced             새 행 대신 기존 알림에 합쳐진 알림 수
+ * - notification.email.digest.deferred 일일 요약으로 미룬 이메일 알림 수
+ */
+@Slf4j
+@Component
+public class NotificationCoalescer {
+
+    private static final Set<NotificationType> EMAIL_TYPES =
+            EnumSet.of(NotificationType.EMAIL, NotificationType.SYSTEM_EMAIL, NotificationType.ALL);
+
+    private static final String SELECT_CANDIDATES_SQL =
+            "SELECT notification_id, user_id, type, related_entity_type, related_entity_id FROM notifications "
+                    + "WHERE user_id IN (:userIds) AND related_entity_id IN (:entityIds) AND status = 'UNREAD' "
+                    + "AND email_sent = false AND email_attempts = 0 AND created_at >= :since "
+                    + "ORDER BY notification_id DESC";
+
+    private static final String MERGE_SQL =
+            "UPDATE notifications SET title = ?, content = ?, link_url = ?, priority = ?, expires_at = ?, "
+                    + "template_id = ?, metadata = ?, digest_count = digest_count + ?, "
+                    + "email_digest = (email_digest AND ?), "
+                    + "email_next_attempt_at = CASE WHEN email_next_attempt_at IS NULL OR ? IS NULL THEN NULL "
+                    + "ELSE LEAST(email_next_attempt_at, ?) END "
+                    + "WHERE notification_id = ? AND status = 'UNREAD' AND email_sent = false AND email_attempts = 0";
+
+    private static final String SELECT_MERGED_SQL =
+            "SELECT notification_id, digest_count, created_at FROM notifications WHERE notification_id IN (:ids)";
+
+    private final NotificationBatchWriter batchWriter;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    private final Duration coalesceWindow;
+    private final boolean dailyEnabled;
+    private final LocalTime dailyAt;
+    private final Set<NotificationPriority> dailyPriorities;
+
+    private final Counter coalesced;
+    private final Counter deferred;
+
+    public NotificationCoalescer(
+            NotificationBatchWriter batchWriter,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.digest.coalesce-window:10m}") Duration coalesceWindow,
+            @Value("${app.digest.daily-enabled:false}") boolean dailyEnabled,
+            @Value("${app.digest.daily-at:08:00}") String dailyAt,
+            @Value("${app.digest.daily-priorities:LOW}") Set<NotificationPriority> dailyPriorities
+    ) {
+        this.batchWriter = batchWriter;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.coalesceWindow = coalesceWindow;
+        this.dailyEnabled = dailyEnabled;
+        this.dailyAt = LocalTime.parse(dailyAt);
+        this.dailyPriorities = dailyPriorities.isEmpty()
+                ? EnumSet.noneOf(NotificationPriority.class) : EnumSet.copyOf(dailyPriorities);
+
+        this.coalesced = Counter.builder("notification.coalesced")
+                .description("새 행 대신 기존 알림에 합쳐진 알림 수")
+                .register(meterRegistry);
+        this.deferred = Counter.builder("notification.email.digest.deferred")
+                .description("일일 요약 이메일로 미룬 알림 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 알림 저장 (합칠 수 있으면 기존 행 갱신, 나머지는 JDBC 배치 INSERT)
+     *
+     * 호출 측 트랜잭션의 커넥션을 사용하므로 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @return 저장 결과 (같은 배치에서 하나로 합쳐진 알림은 마지막 알림만 포함)
+     */
+    public List<Saved> saveAll(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Notification> inserts = new ArrayList<>(notifications.size());
+        Map<Key, Notification> mergeable = new LinkedHashMap<>();
+        for (Notification notification : notifications) {
+            scheduleEmail(notification, now);
+            Key key = keyOf(notification);
+            if (key == null) {
+                inserts.add(notification);
+                continue;
+            }
+            mergeable.merge(key, notification, (previous, next) -> {
+                next.setDigestCount(count(previous) + count(next));
+                next.setEmailDigest(isDigest(previous) && isDigest(next));
+                next.setEmailNextAttemptAt(earlier(previous.getEmailNextAttemptAt(), next.getEmailNextAttemptAt()));
+                return next;
+            });
+        }
+
+        List<Saved> saved = new ArrayList<>(notifications.size());
+        if (!mergeable.isEmpty()) {
+            Map<Key, Long> existing = findCandidates(mergeable.keySet(), now.minus(coalesceWindow));
+            List<Notification> merged = new ArrayList<>();
+            mergeable.forEach((key, notification) -> {
+                Long notificationId = existing.get(key);
+                if (notificationId != null && merge(notificationId, notification)) {
+                    notification.setNotificationId(notificationId);
+                    merged.add(notification);
+                } else {
+                    inserts.add(notification);
+                }
+            });
+            if (!merged.isEmpty()) {
+                refresh(merged);
+                merged.forEach(notification -> saved.add(new Saved(notification, true)));
+            }
+        }
+
+        batchWriter.insertAll(inserts);
+        inserts.forEach(notification -> saved.add(new Saved(notification, false)));
+
+        int folded = notifications.size() - inserts.size();
+        if (folded > 0) {
+            coalesced.increment(folded);
+            log.debug("알림 합치기: requested={}, inserted={}, coalesced={}", notifications.size(), inserts.size(), folded);
+        }
+        return saved;
+    }
+
+    /**
+     * 이메일 채널 알림 여부
+     */
+    public static boolean isEmailChannel(NotificationType type) {
+        return EMAIL_TYPES.contains(type);
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * 이메일 발송 시점 결정 (일일 요약 → daily-at, 합칠 수 있는 알림 → coalesce-window 후, 그 외 즉시)
+     */
+    private void scheduleEmail(Notification notification, LocalDateTime now) {
+        if (!isEmailChannel(notification.getType())) {
+            return;
+        }
+        if (dailyEnabled && dailyPriorities.contains(notification.getPriority())) {
+            notification.setEmailDigest(true);
+            notification.setEmailNextAttemptAt(nextDailyAt(now));
+            deferred.increment();
+        } else if (keyOf(notification) != null) {
+            notification.setEmailNextAttemptAt(now.plus(coalesceWindow));
+        }
+    }
+
+    private LocalDateTime nextDailyAt(LocalDateTime now) {
+        LocalDateTime next = now.toLocalDate().atTime(dailyAt);
+        return next.isAfter(now) ? next : next.plusDays(1);
+    }
+
+    private Key keyOf(Notification notification) {
+        if (coalesceWindow.isZero() || coalesceWindow.isNegative()
+                || notification.getRelatedEntityType() == null || notification.getRelatedEntityId() == null
+                || notification.getPriority() == NotificationPriority.URGENT) {
+            return null;
+        }
+        return new Key(notification.getUserId(), notification.getType(),
+                notification.getRelatedEntityType(), notification.getRelatedEntityId());
+    }
+
+    /**
+     * 합칠 수 있는 기존 알림 조회 (키마다 가장 최근 알림)
+     */
+    private Map<Key, Long> findCandidates(Set<Key> keys, LocalDateTime since) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userIds", keys.stream().map(Key::userId).distinct().toList())
+                .addValue("entityIds", keys.stream().map(Key::relatedEntityId).distinct().toList())
+                .addValue("since", Timestamp.valueOf(since));
+
+        Map<Key, Long> candidates = new HashMap<>();
+        namedJdbcTemplate.query(SELECT_CANDIDATES_SQL, params, rs -> {
+            Key key = new Key(
+                    rs.getLong("user_id"),
+                    NotificationType.valueOf(rs.getString("type")),
+                    rs.getString("related_entity_type"),
+                    rs.getLong("related_entity_id"));
+            if (keys.contains(key)) {
+                candidates.putIfAbsent(key, rs.getLong("notification_id"));
+            }
+        });
+        return candidates;
+    }
+
+    /**
+     * 기존 알림을 최신 내용으로 갱신 (그 사이 읽거나 이메일 발송이 시작되었으면 false)
+     *
+     * 이메일 시점은 saveAll의 배치 내 합치기와 같은 규칙 (요약 여부 AND, 발송 시각은 이른 쪽, NULL은 즉시)
+     */
+    private boolean merge(Long notificationId, Notification notification) {
+        return jdbcTemplate.update(MERGE_SQL, ps -> {
+            ps.setString(1, notification.getTitle());
+            ps.setString(2, notification.getContent());
+            ps.setString(3, notification.getLinkUrl());
+            ps.setString(4, notification.getPriority().name());
+            ps.setTimestamp(5, notification.getExpiresAt() != null
+                    ? Timestamp.valueOf(notification.getExpiresAt()) : null);
+            ps.setObject(6, notification.getTemplateId(), Types.BIGINT);
+            ps.setString(7, notification.getMetadata());
+            ps.setInt(8, count(notification));
+            ps.setBoolean(9, isDigest(notification));
+            Timestamp due = notification.getEmailNextAttemptAt() != null
+                    ? Timestamp.valueOf(notification.getEmailNextAttemptAt()) : null;
+            ps.setTimestamp(10, due);
+            ps.setTimestamp(11, due);
+            ps.setLong(12, notificationId);
+        }) > 0;
+    }
+
+    /**
+     * 합쳐진 알림의 누적 개수와 최초 생성 시각 반영 (응답/푸시용)
+     */
+    private void refresh(List<Notification> merged) {
+        Map<Long, Notification> byId = new HashMap<>();
+        merged.forEach(notification -> byId.put(notification.getNotificationId(), notification));
+        namedJdbcTemplate.query(SELECT_MERGED_SQL, new MapSqlParameterSource("ids", byId.keySet()), rs -> {
+            Notification notification = byId.get(rs.getLong("notification_id"));
+            notification.setDigestCount(rs.getInt("digest_count"));
+            notification.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
+        });
+    }
+
+    private static boolean isDigest(Notification notification) {
+        return Boolean.TRUE.equals(notification.getEmailDigest());
+    }
+
+    /**
+     * 두 이메일 발송 시각 중 이른 쪽 (NULL은 즉시 발송이므로 가장 이름)
+     */
+    private static LocalDateTime earlier(LocalDateTime a, LocalDateTime b) {
+        if (a == null || b == null) {
+            return null;
+        }
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static int count(Notification notification) {
+        return notification.getDigestCount() != null ? notification.getDigestCount() : 1;
+    }
+
+    private record Key(Long userId, NotificationType type, String relatedEntityType, Long relatedEntityId) {
+    }
+
+    /**
+     * @param merged 기존 알림에 합쳐졌는지 (true면 새 행이 아니므로 읽지 않은 알림 수 변화 없음)
+     */
+    public record Saved(Notification notification, boolean merged) {
+    }
+}
@@ -0,0 +1,490 @@
+package com.scms.notification.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 알림 이메일 발송기
+ *
+ * 이메일 채널(EMAIL, SYSTEM_EMAIL, ALL) 알림을 요청 처리와 분리하여 백그라운드에서 발송합니다.
+ * SMTP 왕복은 요청 트랜잭션 밖에서만 일어나며, DB 트랜잭션은 선점과 결과 기록에만 짧게 사용합니다.
+ *
+ * 1. 선점: 발송 대상을 chunk-size개씩 SELECT ... FOR UPDATE SKIP LOCKED로 읽고,
+ *    시도 횟수를 올리면서 다음 시도 시각을 claim-lease 뒤로 미룸 (인스턴스 여러 개가 같은 행을 보내지 않음)
+ *    - 수신 이메일이 없는 알림은 더 시도하지 않도록 바로 종료 처리
+ * 2. 발송: connection-batch-size개씩 나누어 발송 스레드(threads개)에 분배
+ *    - 묶음 하나는 SMTP 연결 하나로 모두 전송 (JavaMailSender.send(MimeMessage...))
+ *    - 전송 전 rate-per-second 한도만큼 대기 (인스턴스 전체 공유, 메일 제공자 발송 한도)
+ *    - 일일 요약 알림(emailDigest)은 같은 수신자끼리 이메일 하나로 합쳐 발송 (NotificationCoalescer가 daily-at으로 예약)
+ *    - 합쳐진 알림(digestCount > 1)은 제목에 건수 표시
+ * 3. 기록: 성공한 알림은 IN 목록 UPDATE 한 번으로 emailSent 처리,
+ *    실패한 알림은 retry-backoff부터 두 배씩(max-backoff까지) 늘린 시각에 재시도 (max-attempts회까지)
+ *
+ * 발송 후 결과 기록 전에 인스턴스가 중단되면 claim-lease 후 다시 발송되므로 최소 한 번 발송(at-least-once)입니다.
+ * 로컬 검증은 spring.mail.host/port를 로컬 SMTP 대역(GreenMail, Mailpit 등)으로 지정합니다.
+ *
+ * 미터:
+ * - notification.email.sent       발송 성공 수
+ * - notification.email.failed     발송 실패 수 (재시도 예정 포함)
+ * - notification.email.exhausted  최대 시도 횟수를 넘겨 포기한 수
+ * - notification.email.skipped    수신 이메일이 없어 발송하지 않은 수
+ * - notification.email.session    SMTP 연결 하나로 묶음을 보내는 시간
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.email-dispatch", name = "enabled", havingValue = "true")
+public class NotificationEmailDispatcher implements DisposableBean {
+
+    private static final String CLAIM_SQL =
+            "SELECT notification_id, recipient_email, title, content, link_url, email_attempts, email_digest, digest_count "
+                    + "FROM notifications "
+                    + "WHERE email_sent = false AND type IN ('EMAIL', 'SYSTEM_EMAIL', 'ALL') AND status <> 'DELETED' "
+                    + "AND created_at >= ? AND email_attempts < ? "
+                    + "AND (email_next_attempt_at IS NULL OR email_next_attempt_at <= ?) "
+                    + "ORDER BY notification_id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String LEASE_SQL =
+            "UPDATE notifications SET email_attempts = email_attempts + 1, email_next_attempt_at = :leaseUntil "
+                    + "WHERE notification_id IN (:ids)";
+
+    private static final String NO_RECIPIENT_SQL =
+            "UPDATE notifications SET email_attempts = :maxAttempts, email_next_attempt_at = NULL, "
+                    + "email_error = '수신 이메일 없음' WHERE notification_id IN (:ids)";
+
+    private static final String SENT_SQL =
+            "UPDATE notifications SET email_sent = true, email_sent_at = :sentAt, email_next_attempt_at = NULL, "
+                    + "email_error = NULL WHERE notification_id IN (:ids)";
+
+    private static final String RETRY_SQL =
+            "UPDATE notifications SET email_next_attempt_at = ?, email_error = ? WHERE notification_id = ?";
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final JavaMailSender mailSender;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService poller;
+    private final ThreadPoolExecutor senders;
+    private final RateLimiter rateLimiter;
+
+    private final String from;
+    private final String linkBaseUrl;
+    private final int chunkSize;
+    private final int connectionBatchSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration maxBackoff;
+    private final Duration claimLease;
+    private final Duration lookback;
+
+    private final Counter sent;
+    private final Counter failed;
+    private final Counter exhausted;
+    private final Counter skipped;
+    private final Timer sessionTimer;
+
+    private volatile boolean running = true;
+
+    public NotificationEmailDispatcher(
+            JavaMailSender mailSender,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.email-dispatch.from:noreply@scms.com}") String from,
+            @Value("${app.email-dispatch.link-base-url:http://localhost:3000}") String linkBaseUrl,
+            @Value("${app.email-dispatch.poll-interval:10s}") Duration pollInterval,
+            @Value("${app.email-dispatch.chunk-size:200}") int chunkSize,
+            @Value("${app.email-dispatch.connection-batch-size:20}") int connectionBatchSize,
+            @Value("${app.email-dispatch.threads:4}") int threads,
+            @Value("${app.email-dispatch.rate-per-second:10}") double ratePerSecond,
+            @Value("${app.email-dispatch.max-attempts:5}") int maxAttempts,
+            @Value("${app.email-dispatch.retry-backoff:1m}") Duration retryBackoff,
+            @Value("${app.email-dispatch.max-backoff:1h}") Duration maxBackoff,
+            @Value("${app.email-dispatch.claim-lease:5m}") Duration claimLease,
+            @Value("${app.email-dispatch.lookback:3d}") Duration lookback
+    ) {
+        this.mailSender = mailSender;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rateLimiter = new RateLimiter(ratePerSecond);
+        this.from = from;
+        this.linkBaseUrl = linkBaseUrl;
+        this.chunkSize = chunkSize;
+        this.connectionBatchSize = connectionBatchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.maxBackoff = maxBackoff;
+        this.claimLease = claimLease;
+        this.lookback = lookback;
+
+        this.sent = Counter.builder("notification.email.sent").register(meterRegistry);
+        this.failed = Counter.builder("notification.email.failed").register(meterRegistry);
+        this.exhausted = Counter.builder("notification.email.exhausted")
+                .description("최대 시도 횟수를 넘겨 발송을 포기한 알림 이메일 수")
+                .register(meterRegistry);
+        this.skipped = Counter.builder("notification.email.skipped")
+                .description("수신 이메일이 없어 발송하지 않은 알림 수")
+                .register(meterRegistry);
+        this.sessionTimer = Timer.builder("notification.email.session")
+                .description("SMTP 연결 하나로 이메일 묶음을 보내는 시간")
+                .register(meterRegistry);
+
+        // 선점한 청크의 묶음 수만큼만 대기 (선점 스레드가 청크 결과를 기다린 뒤 다음 청크를 선점)
+        int queueCapacity = Math.max(1, (chunkSize + connectionBatchSize - 1) / connectionBatchSize);
+        AtomicInteger sequence = new AtomicInteger();
+        this.senders = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notification-email-sender-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        this.poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-email-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long pollMillis = pollInterval.toMillis();
+        this.poller.scheduleWithFixedDelay(this::pollAndDispatch, pollMillis, pollMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 발송 대상이 남아 있는 동안 청크 단위로 선점 → 발송 → 기록
+     */
+    void pollAndDispatch() {
+        try {
+            // 청크가 가득 찼으면 남은 대상이 더 있으므로 바로 다음 청크 진행
+            while (running) {
+                if (dispatchChunk() < chunkSize) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("알림 이메일 발송 실패", e);
+        }
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * @return 선점한 행 수 (수신 이메일이 없어 종료 처리한 행 포함)
+     */
+    private int dispatchChunk() throws InterruptedException {
+        Claim claim = claim(LocalDateTime.now());
+        if (claim.emails().isEmpty()) {
+            return claim.rows();
+        }
+
+        // 이메일 하나로 보낼 단위를 먼저 만든 뒤 묶음으로 나눔 (요약 이메일이 묶음 사이에 쪼개지지 않음)
+        List<List<PendingEmail>> units = toUnits(claim.emails());
+        List<Future<SendResult>> futures = new ArrayList<>();
+        for (int start = 0; start < units.size(); start += connectionBatchSize) {
+            List<List<PendingEmail>> batch = units.subList(start, Math.min(start + connectionBatchSize, units.size()));
+            futures.add(senders.submit(() -> send(batch)));
+        }
+
+        List<Long> sentIds = new ArrayList<>(claim.emails().size());
+        List<Failure> failures = new ArrayList<>();
+        for (Future<SendResult> future : futures) {
+            try {
+                SendResult result = future.get();
+                sentIds.addAll(result.sentIds());
+                failures.addAll(result.failures());
+            } catch (ExecutionException e) {
+                // send는 예외를 결과로 돌려주므로 여기에 오지 않음 - 결과를 모르는 묶음은 임대 만료 후 재시도
+                log.error("알림 이메일 묶음 발송 결과 확인 실패", e.getCause());
+            }
+        }
+        record(sentIds, failures, LocalDateTime.now());
+        return claim.rows();
+    }
+
+    private Claim claim(LocalDateTime now) {
+        return transactionTemplate.execute(status -> {
+            List<PendingEmail> rows = jdbcTemplate.query(CLAIM_SQL,
+                    (rs, rowNum) -> new PendingEmail(
+                            rs.getLong("notification_id"),
+                            rs.getString("recipient_email"),
+                            rs.getString("title"),
+                            rs.getString("content"),
+                            rs.getString("link_url"),
+                            rs.getInt("email_attempts") + 1,
+                            rs.getBoolean("email_digest"),
+                            rs.getInt("digest_count")),
+                    Timestamp.valueOf(now.minus(lookback)), maxAttempts, Timestamp.valueOf(now), chunkSize);
+            if (rows.isEmpty()) {
+                return new Claim(0, List.of());
+            }
+
+            List<Long> noRecipient = new ArrayList<>();
+            List<PendingEmail> emails = new ArrayList<>(rows.size());
+            for (PendingEmail row : rows) {
+                if (row.recipient() == null || row.recipient().isBlank()) {
+                    noRecipient.add(row.notificationId());
+                } else {
+                    emails.add(row);
+                }
+            }
+            if (!noRecipient.isEmpty()) {
+                namedJdbcTemplate.update(NO_RECIPIENT_SQL, new MapSqlParameterSource()
+                        .addValue("maxAttempts", maxAttempts)
+                        .addValue("ids", noRecipient));
+                skipped.increment(noRecipient.size());
+            }
+            if (!emails.isEmpty()) {
+                namedJdbcTemplate.update(LEASE_SQL, new MapSqlParameterSource()
+                        .addValue("leaseUntil", Timestamp.valueOf(now.plus(claimLease)))
+                        .addValue("ids", emails.stream().map(PendingEmail::notificationId).toList()));
+            }
+            return new Claim(rows.size(), emails);
+        });
+    }
+
+    /**
+     * 이메일 단위로 나누기 (일반 알림은 하나씩, 일일 요약 알림은 수신자별로 하나)
+     */
+    private static List<List<PendingEmail>> toUnits(List<PendingEmail> emails) {
+        List<List<PendingEmail>> units = new ArrayList<>(emails.size());
+        Map<String, List<PendingEmail>> digests = new LinkedHashMap<>();
+        for (PendingEmail email : emails) {
+            if (email.digest()) {
+                digests.computeIfAbsent(email.recipient(), recipient -> new ArrayList<>()).add(email);
+            } else {
+                units.add(List.of(email));
+            }
+        }
+        units.addAll(digests.values());
+        return units;
+    }
+
+    /**
+     * 묶음 하나를 SMTP 연결 하나로 발송 (예외는 실패 결과로 반환)
+     */
+    private SendResult send(List<List<PendingEmail>> batch) {
+        Map<MimeMessage, List<PendingEmail>> messages = new LinkedHashMap<>();
+        List<Failure> failures = new ArrayList<>();
+        for (List<PendingEmail> unit : batch) {
+            try {
+                messages.put(unit.size() == 1 ? toMessage(unit.get(0)) : toDigestMessage(unit), unit);
+            } catch (MessagingException | RuntimeException e) {
+                unit.forEach(email -> failures.add(new Failure(email, "메시지 생성 실패: " + e.getMessage())));
+            }
+        }
+        if (messages.isEmpty()) {
+            return new SendResult(List.of(), failures);
+        }
+
+        List<Long> sentIds = new ArrayList<>(messages.size());
+        try {
+            rateLimiter.acquire(messages.size());
+            sessionTimer.record(() -> mailSender.send(messages.keySet().toArray(MimeMessage[]::new)));
+            messages.values().forEach(unit -> unit.forEach(email -> sentIds.add(email.notificationId())));
+        } catch (MailSendException e) {
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            messages.forEach((message, unit) -> {
+                Exception cause = failedMessages.get(message);
+                for (PendingEmail email : unit) {
+                    if (cause != null) {
+                        failures.add(new Failure(email, cause.getMessage()));
+                    } else if (failedMessages.isEmpty()) {
+                        failures.add(new Failure(email, e.getMessage()));
+                    } else {
+                        sentIds.add(email.notificationId());
+                    }
+                }
+            });
+        } catch (MailException e) {
+            messages.values().forEach(unit -> unit.forEach(email -> failures.add(new Failure(email, e.getMessage()))));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            messages.values().forEach(unit -> unit.forEach(email -> failures.add(new Failure(email, "발송 중단"))));
+        }
+        return new SendResult(sentIds, failures);
+    }
+
+    private MimeMessage toMessage(PendingEmail email) throws MessagingException {
+        String subject = "[SCMS] " + email.title();
+        if (email.digestCount() > 1) {
+            subject += " (" + email.digestCount() + "건)";
+        }
+        return createMessage(email.recipient(), subject, body(email));
+    }
+
+    /**
+     * 일일 요약 이메일 (수신자의 알림을 제목 + 내용 목록으로)
+     */
+    private MimeMessage toDigestMessage(List<PendingEmail> emails) throws MessagingException {
+        StringBuilder text = new StringBuilder();
+        for (PendingEmail email : emails) {
+            if (!text.isEmpty()) {
+                text.append("\n\n----------\n\n");
+            }
+            text.append("■ ").append(email.title()).append('\n').append(body(email));
+        }
+        return createMessage(emails.get(0).recipient(), "[SCMS] 오늘의 알림 " + emails.size() + "건", text.toString());
+    }
+
+    private String body(PendingEmail email) {
+        return email.linkUrl() != null
+                ? email.content() + "\n\n" + linkBaseUrl + email.linkUrl()
+                : email.content();
+    }
+
+    private MimeMessage createMessage(String recipient, String subject, String text) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, StandardCharsets.UTF_8.name());
+        helper.setFrom(from);
+        helper.setTo(recipient);
+        helper.setSubject(subject);
+        helper.setText(text);
+        return message;
+    }
+
+    /**
+     * 발송 결과 기록 (성공은 IN 목록 UPDATE 한 번, 실패는 재시도 시각을 JDBC 배치로)
+     */
+    private void record(List<Long> sentIds, List<Failure> failures, LocalDateTime now) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!sentIds.isEmpty()) {
+                namedJdbcTemplate.update(SENT_SQL, new MapSqlParameterSource()
+                        .addValue("sentAt", Timestamp.valueOf(now))
+                        .addValue("ids", sentIds));
+            }
+            if (!failures.isEmpty()) {
+                jdbcTemplate.batchUpdate(RETRY_SQL, failures, failures.size(), (ps, failure) -> {
+                    ps.setTimestamp(1, Timestamp.valueOf(now.plus(backoff(failure.email().attempt()))));
+                    ps.setString(2, truncate(failure.error()));
+                    ps.setLong(3, failure.email().notificationId());
+                });
+            }
+        });
+
+        sent.increment(sentIds.size());
+        failed.increment(failures.size());
+        for (Failure failure : failures) {
+            if (failure.email().attempt() >= maxAttempts) {
+                exhausted.increment();
+                log.warn("알림 이메일 발송 포기: notificationId={}, attempts={}, error={}",
+                        failure.email().notificationId(), failure.email().attempt(), failure.error());
+            }
+        }
+        if (!sentIds.isEmpty() || !failures.isEmpty()) {
+            log.info("알림 이메일 발송: sent={}, failed={}", sentIds.size(), failures.size());
+        }
+    }
+
+    /**
+     * 재시도 대기 시간 (retry-backoff × 2^(시도-1), 최대 max-backoff)
+     */
+    private Duration backoff(int attempt) {
+        int shift = Math.min(Math.max(attempt - 1, 0), 20);
+        Duration delay = retryBackoff.multipliedBy(1L << shift);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        poller.shutdownNow();
+        senders.shutdown();
+        if (!senders.awaitTermination(10, TimeUnit.SECONDS)) {
+            senders.shutdownNow();
+        }
+    }
+
+    /**
+     * 인스턴스 전체 발송 속도 제한 (예약 방식: 앞선 예약이 끝나는 시각까지 대기)
+     */
+    private static final class RateLimiter {
+
+        private final long intervalNanos;
+        private long nextFreeNanos = System.nanoTime();
+
+        RateLimiter(double permitsPerSecond) {
+            this.intervalNanos = permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0L;
+        }
+
+        void acquire(int permits) throws InterruptedException {
+            if (intervalNanos == 0L) {
+                return;
+            }
+            long waitNanos;
+            synchronized (this) {
+                long now = System.nanoTime();
+                if (nextFreeNanos < now) {
+                    nextFreeNanos = now;
+                }
+                waitNanos = nextFreeNanos - now;
+                nextFreeNanos += permits * intervalNanos;
+            }
+            if (waitNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+        }
+    }
+
+    /**
+     * @param attempt     이번 발송이 몇 번째 시도인지 (선점 시 증가된 값)
+     * @param digest      일일 요약 이메일로 보낼 알림인지
+     * @param digestCount 합쳐진 알림 수
+     */
+    private record PendingEmail(Long notificationId, String recipient, String title, String content,
+                                String linkUrl, int attempt, boolean digest, int digestCount) {
+    }
+
+    private record Claim(int rows, List<PendingEmail> emails) {
+    }
+
+    private record Failure(PendingEmail email, String error) {
+    }
+
+    private record SendResult(List<Long> sentIds, List<Failure> failures) {
+    }
+}
@@ -0,0 +1,280 @@
+package com.scms.notification.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rabbitmq.client.Channel;
+import com.scms.common.dto.NotificationEvent;
+import com.scms.notification.domain.entity.Notification;
+import com.scms.notification.domain.enums.NotificationStatus;
+import com.scms.notification.dto.response.NotificationResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.listener.api.ChannelAwareBatchMessageListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 알림 이벤트 수신기 (RabbitMQ, 배치 소비)
+ *
+ * 다른 서비스가 발행한 NotificationEvent를 batch-size개씩 받아 한 트랜잭션으로 저장하고,
+ * 커밋이 끝난 뒤에 저장한 메시지 중 마지막 deliveryTag를 multiple ack 하여 한 번에 확인합니다.
+ * (이미 reject한 메시지의 tag로 ack/nack하면 브로커가 unknown delivery tag로 채널을 닫으므로
+ *  수신한 마지막 메시지가 아니라 저장 대상의 마지막 메시지 tag를 사용)
+ *
+ * 1. 파싱 + 템플릿 렌더링 (NotificationTemplateEngine의 컴파일된 템플릿 사용)
+ *    - JSON 오류, 수신자 누락, 템플릿 없음, 렌더링 오류 → 해당 메시지만 reject (DLQ로 이동)
+ * 2. 한 트랜잭션에서: 이미 처리한 eventId 제외 → 알림 저장 (NotificationCoalescer - 합치기 + JDBC 배치 INSERT) → eventId 기록
+ * 3. 커밋 후: 배치 multiple ack, 읽지 않은 알림 수 증감 (새 행만), SSE 푸시
+ *
+ * 실패 처리:
+ * - DB 연결 실패 등 일시적 오류: retry-backoff 대기 후 배치 전체를 nack(requeue) - 다시 전달됨
+ * - 그 외 오류: 메시지 단위로 다시 저장하여 저장되지 않는 메시지만 reject (DLQ)
+ *
+ * 미터:
+ * - notification.ingest.received          수신한 메시지 수
+ * - notification.ingest.persisted         저장된 알림 수
+ * - notification.ingest.duplicate         이미 처리되어 건너뛴 이벤트 수
+ * - notification.ingest.rejected{reason}  DLQ로 보낸 메시지 수 (invalid/template/persist)
+ * - notification.ingest.batch             배치 저장 시간
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.notification-ingest", name = "enabled", havingValue = "true")
+public class NotificationIngestListener implements ChannelAwareBatchMessageListener {
+
+    private static final String SELECT_PROCESSED_SQL =
+            "SELECT event_id FROM notification_ingest_events WHERE event_id IN (:eventIds)";
+
+    private static final String INSERT_PROCESSED_SQL =
+            "INSERT INTO notification_ingest_events (event_id, event_type, processed_at) VALUES (?, ?, ?)";
+
+    private final ObjectMapper objectMapper;
+    private final NotificationTemplateEngine templateEngine;
+    private final NotificationCoalescer coalescer;
+    private final UnreadCountCache unreadCountCache;
+    private final NotificationPushService notificationPushService;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final long retryBackoffMillis;
+
+    private final MeterRegistry meterRegistry;
+    private final Counter received;
+    private final Counter persisted;
+    private final Counter duplicate;
+    private final Timer batchTimer;
+
+    public NotificationIngestListener(
+            ObjectMapper objectMapper,
+            NotificationTemplateEngine templateEngine,
+            NotificationCoalescer coalescer,
+            UnreadCountCache unreadCountCache,
+            NotificationPushService notificationPushService,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.notification-ingest.retry-backoff:5s}") Duration retryBackoff
+    ) {
+        this.objectMapper = objectMapper;
+        this.templateEngine = templateEngine;
+        this.coalescer = coalescer;
+        this.unreadCountCache = unreadCountCache;
+        this.notificationPushService = notificationPushService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retryBackoffMillis = retryBackoff.toMillis();
+
+        this.meterRegistry = meterRegistry;
+        this.received = Counter.builder("notification.ingest.received").register(meterRegistry);
+        this.persisted = Counter.builder("notification.ingest.persisted").register(meterRegistry);
+        this.duplicate = Counter.builder("notification.ingest.duplicate")
+                .description("이미 처리되어 건너뛴 알림 이벤트 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("notification.ingest.batch")
+                .description("알림 이벤트 배치 저장 시간")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onMessageBatch(List<Message> messages, Channel channel) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        received.increment(messages.size());
+
+        List<Pending> batch = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            long tag = message.getMessageProperties().getDeliveryTag();
+            NotificationEvent event;
+            try {
+                event = objectMapper.readValue(message.getBody(), NotificationEvent.class);
+            } catch (IOException e) {
+                log.warn("알림 이벤트 파싱 실패 → DLQ: deliveryTag={}", tag, e);
+                reject(channel, tag, "invalid");
+                continue;
+            }
+            if (event.getUserId() == null || event.getEventId() == null || event.getEventId().isBlank()) {
+                log.warn("알림 이벤트 필수 값 누락 → DLQ: eventId={}, eventType={}", event.getEventId(), event.getEventType());
+                reject(channel, tag, "invalid");
+                continue;
+            }
+            String templateCode = event.getTemplateCode() != null ? event.getTemplateCode() : event.getEventType();
+            Optional<CompiledTemplate> template = templateEngine.find(templateCode);
+            if (template.isEmpty()) {
+                log.warn("알림 템플릿 없음 → DLQ: eventId={}, templateCode={}", event.getEventId(), templateCode);
+                reject(channel, tag, "template");
+                continue;
+            }
+            Notification notification;
+            try {
+                notification = render(event, template.get());
+            } catch (RuntimeException e) {
+                log.warn("알림 템플릿 렌더링 실패 → DLQ: eventId={}, templateCode={}", event.getEventId(), templateCode, e);
+                reject(channel, tag, "template");
+                continue;
+            }
+            batch.add(new Pending(tag, event, notification));
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+        // 배치 메시지는 tag 순서이므로 저장 대상의 마지막 tag까지 multiple ack/nack (reject한 tag는 이미 확인됨)
+        long lastTag = batch.get(batch.size() - 1).deliveryTag();
+        try {
+            batchTimer.record(() -> persist(batch));
+            ack(channel, lastTag, true);
+        } catch (TransientDataAccessException | DataAccessResourceFailureException e) {
+            log.warn("알림 이벤트 저장 일시 실패, {}ms 후 다시 전달: size={}", retryBackoffMillis, batch.size(), e);
+            sleepQuietly(retryBackoffMillis);
+            nack(channel, lastTag, true, true);
+        } catch (Exception e) {
+            log.warn("알림 이벤트 배치 저장 실패, 메시지 단위로 다시 저장: size={}", batch.size(), e);
+            for (Pending pending : batch) {
+                try {
+                    persist(List.of(pending));
+                    ack(channel, pending.deliveryTag(), false);
+                } catch (Exception single) {
+                    log.error("알림 이벤트 저장 실패 → DLQ: eventId={}", pending.event().getEventId(), single);
+                    reject(channel, pending.deliveryTag(), "persist");
+                }
+            }
+        }
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * 한 트랜잭션으로 저장 (재전달된 eventId는 건너뜀), 커밋 후 카운터/푸시 반영
+     */
+    private void persist(List<Pending> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<String> processed = new HashSet<>(namedJdbcTemplate.queryForList(SELECT_PROCESSED_SQL,
+                    new MapSqlParameterSource("eventIds", batch.stream().map(p -> p.event().getEventId()).toList()),
+                    String.class));
+
+            List<Pending> fresh = new ArrayList<>(batch.size());
+            for (Pending pending : batch) {
+                if (processed.add(pending.event().getEventId())) {
+                    fresh.add(pending);
+                }
+            }
+            duplicate.increment(batch.size() - fresh.size());
+            if (fresh.isEmpty()) {
+                return;
+            }
+
+            List<Notification> notifications = fresh.stream().map(Pending::notification).toList();
+            List<NotificationCoalescer.Saved> saved = coalescer.saveAll(notifications);
+
+            Timestamp processedAt = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.batchUpdate(INSERT_PROCESSED_SQL, fresh, fresh.size(), (ps, pending) -> {
+                ps.setString(1, pending.event().getEventId());
+                ps.setString(2, pending.event().getEventType());
+                ps.setTimestamp(3, processedAt);
+            });
+
+            for (NotificationCoalescer.Saved result : saved) {
+                if (!result.merged()) {
+                    unreadCountCache.adjustAfterCommit(result.notification().getUserId(), 1);
+                }
+                notificationPushService.publishAfterCommit(NotificationResponse.from(result.notification()));
+            }
+            persisted.increment(notifications.size());
+        });
+    }
+
+    private static Notification render(NotificationEvent event, CompiledTemplate template) {
+        Map<String, String> variables = event.getVariables() != null ? event.getVariables() : Map.of();
+        return Notification.builder()
+                .userId(event.getUserId())
+                .title(template.renderTitle(variables))
+                .content(template.renderContent(variables))
+                .linkUrl(template.renderLinkUrl(variables))
+                .type(template.type())
+                .priority(template.priority())
+                .relatedEntityType(event.getRelatedEntityType())
+                .relatedEntityId(event.getRelatedEntityId())
+                .expiresAt(event.getExpiresAt())
+                .recipientEmail(event.getRecipientEmail())
+                .templateId(template.templateId())
+                .status(NotificationStatus.UNREAD)
+                .emailSent(false)
+                .build();
+    }
+
+    private void reject(Channel channel, long deliveryTag, String reason) {
+        meterRegistry.counter("notification.ingest.rejected", "reason", reason).increment();
+        nack(channel, deliveryTag, false, false);
+    }
+
+    private static void ack(Channel channel, long deliveryTag, boolean multiple) {
+        try {
+            channel.basicAck(deliveryTag, multiple);
+        } catch (IOException e) {
+            // 채널이 닫혀 ack 실패 → 브로커가 다시 전달하고 eventId로 중복 제거됨
+            log.warn("알림 이벤트 ack 실패: deliveryTag={}", deliveryTag, e);
+        }
+    }
+
+    private static void nack(Channel channel, long deliveryTag, boolean multiple, boolean requeue) {
+        try {
+            channel.basicNack(deliveryTag, multiple, requeue);
+        } catch (IOException e) {
+            log.warn("알림 이벤트 nack 실패: deliveryTag={}", deliveryTag, e);
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Pending(long deliveryTag, NotificationEvent event, Notification notification) {
+    }
+}
@@ -0,0 +1,358 @@
+package com.scms.notification.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.scms.common.exception.ErrorCode;
+import com.scms.common.exception.RetryableApiException;
+import com.scms.notification.dto.response.NotificationResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 알림 실시간 푸시 (Server-Sent Events)
+ *
+ * 클라이언트가 알림 목록을 주기적으로 조회(polling)하는 대신 SSE 연결을 유지하고,
+ * 알림 생성 트랜잭션이 커밋되면 해당 사용자의 연결로 바로 전송합니다.
+ *
+ * - 구독: GET /api/notifications/stream (event: notification, id: notificationId, data: NotificationResponse)
+ * - 전송: 커밋 후 전송 스레드 풀에서 비동기 전송 (느린 클라이언트가 알림 생성 요청을 지연시키지 않음)
+ * - 하트비트: heartbeat-interval마다 주석 행 전송 (프록시 유휴 타임아웃 방지, 끊긴 연결 정리)
+ * - 재연결: Last-Event-ID 이후의 알림을 사용자별 재전송 버퍼(최근 replay-size개)에서 다시 보냄
+ *   버퍼로 이어 붙일 수 없으면 resync 이벤트를 보내고, 클라이언트는 목록 API로 다시 조회
+ *   (재연결 중 새 알림이 겹치면 같은 id가 두 번 갈 수 있으므로 클라이언트는 id로 중복 제거)
+ * - 연결 제한: 인스턴스 전체 max-connections (초과 시 503 + Retry-After),
+ *   사용자별 max-connections-per-user (초과 시 가장 오래된 연결 종료)
+ *
+ * 푸시와 재전송 버퍼는 인스턴스 로컬입니다. 다른 인스턴스에서 생성된 알림은 전달되지 않으므로
+ * 클라이언트는 연결 시 한 번 목록을 조회하고 이후에는 푸시로 갱신합니다.
+ *
+ * 설정 (app.notification-push.*):
+ * - max-connections           인스턴스당 최대 SSE 연결 수
+ * - max-connections-per-user  사용자당 최대 SSE 연결 수
+ * - emitter-timeout           연결 최대 유지 시간 (만료 시 클라이언트가 Last-Event-ID로 재연결)
+ * - heartbeat-interval        하트비트 주기
+ * - reconnect-delay           클라이언트 재연결 대기 시간 (SSE retry 필드)
+ * - replay-size               사용자별 재전송 버퍼 크기
+ * - replay-ttl                재전송 버퍼 유지 시간 (마지막 알림 이후)
+ * - send-threads / send-queue-capacity  전송 스레드 수 / 전송 대기 큐 크기
+ *
+ * 미터:
+ * - notification.push.connections        현재 SSE 연결 수
+ * - notification.push.sent               전송된 이벤트 수
+ * - notification.push.replayed           재연결 시 재전송된 이벤트 수
+ * - notification.push.dropped            전송 큐가 가득 차 버린 알림 수 (재연결 시 재전송 버퍼로 복구)
+ * - notification.push.rejected           연결 한도 초과로 거절된 구독 수
+ */
+@Slf4j
+@Component
+public class NotificationPushService implements DisposableBean {
+
+    private static final String EVENT_NOTIFICATION = "notification";
+    private static final String EVENT_RESYNC = "resync";
+
+    private final Map<Long, Deque<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Set<Subscriber> allSubscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Cache<Long, ReplayBuffer> replayBuffers;
+
+    private final int maxConnections;
+    private final int maxConnectionsPerUser;
+    private final long emitterTimeoutMillis;
+    private final long reconnectDelayMillis;
+    private final int replaySize;
+    private final Duration retryAfter;
+
+    private final ThreadPoolExecutor sender;
+    private final ScheduledExecutorService heartbeat;
+
+    private final Counter sent;
+    private final Counter replayed;
+    private final Counter dropped;
+    private final Counter rejected;
+
+    public NotificationPushService(
+            MeterRegistry meterRegistry,
+            @Value("${app.notification-push.max-connections:5000}") int maxConnections,
+            @Value("${app.notification-push.max-connections-per-user:5}") int maxConnectionsPerUser,
+            @Value("${app.notification-push.emitter-timeout:30m}") Duration emitterTimeout,
+            @Value("${app.notification-push.heartbeat-interval:20s}") Duration heartbeatInterval,
+            @Value("${app.notification-push.reconnect-delay:3s}") Duration reconnectDelay,
+            @Value("${app.notification-push.replay-size:50}") int replaySize,
+            @Value("${app.notification-push.replay-ttl:10m}") Duration replayTtl,
+            @Value("${app.notification-push.send-threads:2}") int sendThreads,
+            @Value("${app.notification-push.send-queue-capacity:10000}") int sendQueueCapacity
+    ) {
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.emitterTimeoutMillis = emitterTimeout.toMillis();
+        this.reconnectDelayMillis = reconnectDelay.toMillis();
+        this.replaySize = replaySize;
+        this.retryAfter = reconnectDelay;
+        this.replayBuffers = Caffeine.newBuilder()
+                .expireAfterWrite(replayTtl)
+                .build();
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(
+                sendThreads, sendThreads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(sendQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notification-push-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-push-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long heartbeatMillis = heartbeatInterval.toMillis();
+        this.heartbeat.scheduleAtFixedRate(this::sendHeartbeats, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("notification.push.connections", connections, AtomicInteger::get)
+                .description("현재 SSE 연결 수")
+                .register(meterRegistry);
+        this.sent = Counter.builder("notification.push.sent").register(meterRegistry);
+        this.replayed = Counter.builder("notification.push.replayed").register(meterRegistry);
+        this.dropped = Counter.builder("notification.push.dropped")
+                .description("전송 큐가 가득 차 버린 알림 수")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("notification.push.rejected")
+                .description("연결 한도 초과로 거절된 구독 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 알림 스트림 구독
+     *
+     * @param lastEventId 재연결 시 클라이언트가 보낸 Last-Event-ID (마지막으로 받은 notificationId)
+     * @throws RetryableApiException 인스턴스 연결 수가 한도에 도달한 경우 (503)
+     */
+    public SseEmitter subscribe(Long userId, Long lastEventId) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            rejected.increment();
+            throw new RetryableApiException(ErrorCode.SERVICE_UNAVAILABLE, retryAfter);
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Subscriber subscriber = new Subscriber(userId, emitter);
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> unregister(subscriber));
+        emitter.onError(e -> unregister(subscriber));
+        register(subscriber);
+
+        try {
+            emitter.send(SseEmitter.event().reconnectTime(reconnectDelayMillis).comment("connected"));
+            if (lastEventId != null) {
+                replay(subscriber, lastEventId);
+            }
+        } catch (IOException e) {
+            remove(subscriber);
+        }
+        return emitter;
+    }
+
+    /**
+     * 알림 푸시 (트랜잭션 안에서 호출되면 커밋 후 전송)
+     */
+    public void publishAfterCommit(NotificationResponse notification) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(notification);
+                }
+            });
+            return;
+        }
+        publish(notification);
+    }
+
+    /**
+     * 알림 즉시 푸시 (재전송 버퍼에 기록 후 현재 연결로 비동기 전송)
+     */
+    public void publish(NotificationResponse notification) {
+        Long userId = notification.getUserId();
+        replayBuffers.get(userId, key -> new ReplayBuffer(replaySize)).add(notification);
+
+        if (!subscribers.containsKey(userId)) {
+            return;
+        }
+        try {
+            sender.execute(() -> {
+                Deque<Subscriber> userSubscribers = subscribers.get(userId);
+                if (userSubscribers != null) {
+                    for (Subscriber subscriber : userSubscribers) {
+                        send(subscriber, notification);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            dropped.increment();
+            log.warn("알림 푸시 전송 큐가 가득 차 푸시를 건너뜁니다: notificationId={}, userId={}",
+                    notification.getNotificationId(), userId);
+        }
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private void register(Subscriber subscriber) {
+        allSubscribers.add(subscriber);
+        Deque<Subscriber> userSubscribers = subscribers.compute(subscriber.userId(), (key, current) -> {
+            Deque<Subscriber> deque = current != null ? current : new ConcurrentLinkedDeque<>();
+            deque.addLast(subscriber);
+            return deque;
+        });
+
+        // 사용자별 한도 초과 시 가장 오래된 연결 종료 (새로 연 탭/기기를 우선)
+        while (userSubscribers.size() > maxConnectionsPerUser) {
+            Subscriber oldest = userSubscribers.pollFirst();
+            if (oldest == null || oldest == subscriber) {
+                break;
+            }
+            oldest.emitter().complete();
+            unregister(oldest);
+        }
+    }
+
+    private void unregister(Subscriber subscriber) {
+        if (!allSubscribers.remove(subscriber)) {
+            return;
+        }
+        connections.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.userId(), (key, userSubscribers) -> {
+            userSubscribers.remove(subscriber);
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+    }
+
+    /**
+     * 끊긴 연결 정리 (전송 실패)
+     */
+    private void remove(Subscriber subscriber) {
+        unregister(subscriber);
+        subscriber.emitter().complete();
+    }
+
+    private void replay(Subscriber subscriber, long lastEventId) throws IOException {
+        ReplayBuffer buffer = replayBuffers.getIfPresent(subscriber.userId());
+        List<NotificationResponse> missed = buffer != null ? buffer.after(lastEventId) : null;
+        if (missed == null) {
+            subscriber.emitter().send(SseEmitter.event().name(EVENT_RESYNC).data("{}"));
+            return;
+        }
+        for (NotificationResponse notification : missed) {
+            subscriber.emitter().send(toEvent(notification));
+        }
+        replayed.increment(missed.size());
+    }
+
+    private void send(Subscriber subscriber, NotificationResponse notification) {
+        try {
+            subscriber.emitter().send(toEvent(notification));
+            sent.increment();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패로 연결 종료: userId={}", subscriber.userId());
+            remove(subscriber);
+        }
+    }
+
+    private void sendHeartbeats() {
+        for (Subscriber subscriber : allSubscribers) {
+            try {
+                subscriber.emitter().send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                remove(subscriber);
+            } catch (Exception e) {
+                log.warn("SSE 하트비트 전송 실패: userId={}", subscriber.userId(), e);
+                remove(subscriber);
+            }
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder toEvent(NotificationResponse notification) {
+        return SseEmitter.event()
+                .id(String.valueOf(notification.getNotificationId()))
+                .name(EVENT_NOTIFICATION)
+                .data(notification);
+    }
+
+    @Override
+    public void destroy() {
+        heartbeat.shutdownNow();
+        sender.shutdownNow();
+        for (Subscriber subscriber : allSubscribers) {
+            subscriber.emitter().complete();
+        }
+    }
+
+    private record Subscriber(Long userId, SseEmitter emitter) {
+    }
+
+    /**
+     * 사용자별 최근 알림 재전송 버퍼
+     */
+    private static class ReplayBuffer {
+
+        private final int capacity;
+        private final Deque<NotificationResponse> events;
+        private long evictedUpTo;
+
+        ReplayBuffer(int capacity) {
+            this.capacity = capacity;
+            this.events = new ArrayDeque<>(capacity);
+        }
+
+        synchronized void add(NotificationResponse notification) {
+            if (events.size() >= capacity) {
+                evictedUpTo = Math.max(evictedUpTo, events.pollFirst().getNotificationId());
+            }
+            events.addLast(notification);
+        }
+
+        /**
+         * lastEventId 이후의 알림 (버퍼에서 이미 밀려난 알림이 있으면 null)
+         */
+        synchronized List<NotificationResponse> after(long lastEventId) {
+            if (lastEventId < evictedUpTo) {
+                return null;
+            }
+            List<NotificationResponse> result = new ArrayList<>();
+            for (NotificationResponse notification : events) {
+                if (notification.getNotificationId() > lastEventId) {
+                    result.add(notification);
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,404 @@
+package com.scms.notification.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 알림 보관 기간 정리 서비스
+ *
+ * 만료/오래된 읽은 알림을 한 번의 UPDATE로 DELETED 처리하면 수백만 행 테이블에서 넓은 범위에 잠금이 걸리고,
+ * soft delete된 행은 영구히 남아 인덱스가 계속 커집니다.
+ * 매일 run-at에 notification_id 구간(window-size) 단위로 테이블을 앞에서부터 훑으며 구간마다 짧은 트랜잭션으로 정리하고,
+ * 구간 사이에 chunk-pause만큼 쉬어 요청 처리에 커넥션과 I/O를 양보합니다.
+ *
+ * 구간마다 (한 트랜잭션):
+ * 1. 영구 삭제: purge-after 이전에 생성된 DELETED 알림을 (archive-enabled이면 보관 파일에 먼저 기록 후) DELETE
+ * 2. soft delete: 만료된 알림, read-retention 이전에 읽은 알림을 DELETED로 변경
+ * 구간 정리 후 ingest-event-retention이 지난 이벤트 중복 제거 기록(notification_ingest_events)을 같은 방식으로 삭제합니다.
+ *
+ * 보관 파일: {archive-dir}/dt={생성일}/notifications-{실행시각}-{인스턴스}.jsonl.gz (행당 JSON 한 줄)
+ * - 구간마다 flush 후 DELETE를 커밋하므로 보관되지 않은 행은 삭제되지 않음
+ *   (DELETE가 롤백되면 다음 실행에서 다시 기록될 수 있으므로 notification_id로 중복 제거)
+ *
+ * 인스턴스 여러 개 중 하나만 실행하도록 MySQL GET_LOCK으로 잠금을 잡습니다. (전용 커넥션을 실행 동안 유지)
+ *
+ * 미터:
+ * - notification.retention.progress      현재 실행 진행률 (0~1, 구간 기준)
+ * - notification.retention.run           전체 실행 시간
+ * - notification.retention.soft-deleted  DELETED로 변경한 알림 수
+ * - notification.retention.purged        영구 삭제한 알림 수
+ * - notification.retention.archived      보관 파일에 기록한 알림 수
+ */
+@Slf4j
+@Service
+public class NotificationRetentionService implements DisposableBean {
+
+    private static final String LOCK_NAME = "scms.notification.retention";
+
+    private static final String ID_RANGE_SQL =
+            "SELECT MIN(notification_id), MAX(notification_id) FROM notifications";
+
+    private static final String SELECT_PURGE_SQL =
+            "SELECT * FROM notifications WHERE notification_id > ? AND notification_id <= ? "
+                    + "AND status = 'DELETED' AND created_at < ? ORDER BY notification_id";
+
+    private static final String DELETE_PURGE_SQL =
+            "DELETE FROM notifications WHERE notification_id > ? AND notification_id <= ? "
+                    + "AND status = 'DELETED' AND created_at < ?";
+
+    private static final String DELETE_ARCHIVED_SQL =
+            "DELETE FROM notifications WHERE notification_id IN (:ids) AND status = 'DELETED'";
+
+    private static final String SOFT_DELETE_SQL =
+            "UPDATE notifications SET status = 'DELETED' WHERE notification_id > ? AND notification_id <= ? "
+                    + "AND status <> 'DELETED' "
+                    + "AND ((expires_at IS NOT NULL AND expires_at < ?) OR (status = 'READ' AND read_at < ?))";
+
+    private static final String DELETE_INGEST_EVENTS_SQL =
+            "DELETE FROM notification_ingest_events WHERE processed_at < ? ORDER BY processed_at LIMIT ?";
+
+    private static final DateTimeFormatter RUN_ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+    private final UnreadCountCache unreadCountCache;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final String instanceId = UUID.randomUUID().toString().substring(0, 8);
+
+    private final Duration readRetention;
+    private final Duration purgeAfter;
+    private final Duration ingestEventRetention;
+    private final int windowSize;
+    private final long chunkPauseMillis;
+    private final boolean archiveEnabled;
+    private final Path archiveDir;
+
+    private final Timer runTimer;
+    private final Counter softDeleted;
+    private final Counter purged;
+    private final Counter archived;
+    private volatile double progress;
+
+    public NotificationRetentionService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            DataSource dataSource,
+            ObjectMapper objectMapper,
+            UnreadCountCache unreadCountCache,
+            MeterRegistry meterRegistry,
+            @Value("${app.retention.enabled:true}") boolean enabled,
+            @Value("${app.retention.run-at:03:30}") String runAt,
+            @Value("${app.retention.read-retention:30d}") Duration readRetention,
+            @Value("${app.retention.purge-after:90d}") Duration purgeAfter,
+            @Value("${app.retention.ingest-event-retention:7d}") Duration ingestEventRetention,
+            @Value("${app.retention.window-size:5000}") int windowSize,
+            @Value("${app.retention.chunk-pause:100ms}") Duration chunkPause,
+            @Value("${app.retention.archive-enabled:false}") boolean archiveEnabled,
+            @Value("${app.retention.archive-dir:./archive/notifications}") String archiveDir
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dataSource = dataSource;
+        this.objectMapper = objectMapper;
+        this.unreadCountCache = unreadCountCache;
+        this.readRetention = readRetention;
+        this.purgeAfter = purgeAfter;
+        this.ingestEventRetention = ingestEventRetention;
+        this.windowSize = windowSize;
+        this.chunkPauseMillis = chunkPause.toMillis();
+        this.archiveEnabled = archiveEnabled;
+        this.archiveDir = Paths.get(archiveDir);
+
+        Gauge.builder("notification.retention.progress", this, service -> service.progress)
+                .description("알림 보관 기간 정리 진행률 (0~1)")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("notification.retention.run")
+                .description("알림 보관 기간 정리 실행 시간")
+                .register(meterRegistry);
+        this.softDeleted = Counter.builder("notification.retention.soft-deleted").register(meterRegistry);
+        this.purged = Counter.builder("notification.retention.purged").register(meterRegistry);
+        this.archived = Counter.builder("notification.retention.archived").register(meterRegistry);
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-retention");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (enabled) {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime next = now.toLocalDate().atTime(LocalTime.parse(runAt));
+            if (!next.isAfter(now)) {
+                next = next.plusDays(1);
+            }
+            long initialDelay = Duration.between(now, next).toMillis();
+            this.scheduler.scheduleAtFixedRate(this::run, initialDelay, TimeUnit.DAYS.toMillis(1), TimeUnit.MILLISECONDS);
+            log.info("알림 보관 기간 정리 예약: 다음 실행={}", next);
+        }
+    }
+
+    /**
+     * 보관 기간 정리 1회 실행 (다른 인스턴스가 실행 중이면 건너뜀)
+     */
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try (Connection lockConnection = dataSource.getConnection()) {
+            if (!acquireLock(lockConnection)) {
+                log.info("알림 보관 기간 정리: 다른 인스턴스에서 실행 중이므로 건너뜀");
+                return;
+            }
+            try {
+                runTimer.record(this::purge);
+            } finally {
+                releaseLock(lockConnection);
+            }
+        } catch (Exception e) {
+            log.error("알림 보관 기간 정리 실패", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private void purge() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        Timestamp now = Timestamp.valueOf(startedAt);
+        Timestamp readBefore = Timestamp.valueOf(startedAt.minus(readRetention));
+        Timestamp purgeBefore = Timestamp.valueOf(startedAt.minus(purgeAfter));
+
+        long[] range = jdbcTemplate.queryForObject(ID_RANGE_SQL,
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)});
+        long totalSoftDeleted = 0;
+        long totalPurged = 0;
+        progress = 0.0;
+
+        if (range != null && range[1] > 0) {
+            long minId = range[0] - 1;
+            long maxId = range[1];
+            String runId = startedAt.format(RUN_ID_FORMAT) + "-" + instanceId;
+            try (ArchiveWriter archive = archiveEnabled ? new ArchiveWriter(archiveDir, runId) : null) {
+                for (long from = minId; from < maxId && !Thread.currentThread().isInterrupted(); from += windowSize) {
+                    long to = Math.min(from + windowSize, maxId);
+                    long[] result = processWindow(from, to, now, readBefore, purgeBefore, archive);
+                    totalSoftDeleted += result[0];
+                    totalPurged += result[1];
+                    progress = (double) (to - minId) / (maxId - minId);
+                    pause();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        long ingestEvents = purgeIngestEvents(Timestamp.valueOf(startedAt.minus(ingestEventRetention)));
+        progress = 1.0;
+
+        if (totalSoftDeleted > 0) {
+            // 읽지 않은 알림이 만료되어 DELETED가 되었을 수 있으므로 카운터를 다시 적재
+            unreadCountCache.evictAll();
+        }
+        log.info("알림 보관 기간 정리 완료: softDeleted={}, purged={}, ingestEvents={}, elapsed={}ms",
+                totalSoftDeleted, totalPurged, ingestEvents,
+                Duration.between(startedAt, LocalDateTime.now()).toMillis());
+    }
+
+    /**
+     * notification_id 구간 (from, to] 정리
+     *
+     * @return [soft delete 수, 영구 삭제 수]
+     */
+    private long[] processWindow(long from, long to, Timestamp now, Timestamp readBefore, Timestamp purgeBefore,
+                                 ArchiveWriter archive) {
+        return transactionTemplate.execute(status -> {
+            int deleted;
+            if (archive != null) {
+                List<Map<String, Object>> rows = jdbcTemplate.queryForList(SELECT_PURGE_SQL, from, to, purgeBefore);
+                if (rows.isEmpty()) {
+                    deleted = 0;
+                } else {
+                    archive.write(rows, objectMapper);
+                    archived.increment(rows.size());
+                    deleted = namedJdbcTemplate.update(DELETE_ARCHIVED_SQL, new MapSqlParameterSource("ids",
+                            rows.stream().map(row -> ((Number) row.get("notification_id")).longValue()).toList()));
+                }
+            } else {
+                deleted = jdbcTemplate.update(DELETE_PURGE_SQL, from, to, purgeBefore);
+            }
+            int updated = jdbcTemplate.update(SOFT_DELETE_SQL, from, to, now, readBefore);
+
+            purged.increment(deleted);
+            softDeleted.increment(updated);
+            return new long[]{updated, deleted};
+        });
+    }
+
+    private long purgeIngestEvents(Timestamp before) {
+        long total = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            int deleted = jdbcTemplate.update(DELETE_INGEST_EVENTS_SQL, before, windowSize);
+            total += deleted;
+            if (deleted < windowSize) {
+                break;
+            }
+            pause();
+        }
+        return total;
+    }
+
+    private void pause() {
+        if (chunkPauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(chunkPauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean acquireLock(Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+            ps.setString(1, LOCK_NAME);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private static void releaseLock(Connection connection) {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.execute();
+        } catch (SQLException e) {
+            // 커넥션이 닫히면 잠금도 해제됨
+            log.warn("알림 보관 기간 정리 잠금 해제 실패", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 생성일별 gzip JSON Lines 보관 파일 (실행 한 번에 날짜별 파일 하나)
+     */
+    private static final class ArchiveWriter implements Closeable {
+
+        private final Path baseDir;
+        private final String runId;
+        private final Map<LocalDate, Writer> writers = new HashMap<>();
+
+        ArchiveWriter(Path baseDir, String runId) {
+            this.baseDir = baseDir;
+            this.runId = runId;
+        }
+
+        /**
+         * 행 기록 후 flush (DELETE 커밋 전에 파일에 남도록)
+         */
+        void write(List<Map<String, Object>> rows, ObjectMapper objectMapper) {
+            try {
+                for (Map<String, Object> row : rows) {
+                    Writer writer = writerFor(createdDate(row.get("created_at")));
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+                for (Writer writer : writers.values()) {
+                    writer.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("알림 보관 파일 기록 실패", e);
+            }
+        }
+
+        private Writer writerFor(LocalDate date) throws IOException {
+            Writer writer = writers.get(date);
+            if (writer == null) {
+                Path dir = baseDir.resolve("dt=" + date);
+                Files.createDirectories(dir);
+                Path file = dir.resolve("notifications-" + runId + ".jsonl.gz");
+                // syncFlush: flush()가 압축 스트림까지 내려가도록
+                writer = new BufferedWriter(new OutputStreamWriter(
+                        new GZIPOutputStream(Files.newOutputStream(file), true), StandardCharsets.UTF_8));
+                writers.put(date, writer);
+            }
+            return writer;
+        }
+
+        private static LocalDate createdDate(Object createdAt) {
+            if (createdAt instanceof LocalDateTime dateTime) {
+                return dateTime.toLocalDate();
+            }
+            if (createdAt instanceof Timestamp timestamp) {
+                return timestamp.toLocalDateTime().toLocalDate();
+            }
+            return LocalDate.now();
+        }
+
+        @Override
+        public void close() throws IOException {
+            IOException failure = null;
+            for (Writer writer : writers.values()) {
+                try {
+                    writer.close();
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+}
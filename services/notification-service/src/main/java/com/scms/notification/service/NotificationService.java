@@ -1,5 +1,8 @@
 package com.scms.notification.service;
 
+import com.scms.common.dto.CursorCodec;
+import com.scms.common.dto.CursorPage;
+import com.scms.common.dto.KeysetCursor;
 import com.scms.common.exception.ApiException;
 import com.scms.common.exception.ErrorCode;
 import com.scms.notification.domain.entity.Notification;
@@ -9,6 +12,7 @@ import com.scms.notification.dto.response.NotificationResponse;
 import com.scms.notification.repository.NotificationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,7 +26,8 @@ import java.util.stream.Collectors;
  * 주요 기능:
  * - 알림 생성, 조회, 읽음 처리, 삭제
  * - 사용자별 알림 관리
- * - 읽지 않은 알림 수 조회
+ * - 읽지 않은 알림 수 조회 (UnreadCountCache - 생성/읽음/삭제 시 커밋 후 증감)
+ * - 생성된 알림 실시간 푸시 (NotificationPushService - 커밋 후 SSE 전송)
  */
 @Slf4j
 @Service
@@ -31,9 +36,13 @@ import java.util.stream.Collectors;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final CursorCodec cursorCodec;
+    private final UnreadCountCache unreadCountCache;
+    private final NotificationPushService notificationPushService;
+    private final NotificationCoalescer notificationCoalescer;
 
     /**
-     * 알림 생성
+     * 알림 생성 (같은 대상의 최근 읽지 않은 알림이 있으면 그 알림에 합침 - NotificationCoalescer)
      */
     @Transactional
     public NotificationResponse createNotification(NotificationCreateRequest request) {
@@ -49,25 +58,35 @@ public class NotificationService {
                 .expiresAt(request.getExpiresAt())
                 .templateId(request.getTemplateId())
                 .metadata(request.getMetadata())
+                .recipientEmail(request.getRecipientEmail())
                 .status(NotificationStatus.UNREAD)
                 .emailSent(false)
                 .build();
 
-        Notification saved = notificationRepository.save(notification);
-        log.info("알림 생성 완료: notificationId={}, userId={}, type={}",
-                saved.getNotificationId(), saved.getUserId(), saved.getType());
+        NotificationCoalescer.Saved result = notificationCoalescer.saveAll(List.of(notification)).get(0);
+        Notification saved = result.notification();
+        if (!result.merged()) {
+            unreadCountCache.adjustAfterCommit(saved.getUserId(), 1);
+        }
+        log.info("알림 생성 완료: notificationId={}, userId={}, type={}, merged={}",
+                saved.getNotificationId(), saved.getUserId(), saved.getType(), result.merged());
 
-        return NotificationResponse.from(saved);
+        NotificationResponse response = NotificationResponse.from(saved);
+        notificationPushService.publishAfterCommit(response);
+        return response;
     }
 
     /**
-     * 사용자의 모든 알림 조회
+     * 사용자의 모든 알림 조회 (최신순 커서 페이지)
      */
-    public List<NotificationResponse> getUserNotifications(Long userId) {
-        return notificationRepository.findByUserId(userId)
-                .stream()
-                .map(NotificationResponse::from)
-                .collect(Collectors.toList());
+    public CursorPage<NotificationResponse> getUserNotifications(Long userId, String cursor, Integer size) {
+        String scope = "notifications:" + userId;  // 다른 사용자의 커서 재사용 방지
+        int pageSize = CursorPage.pageSize(size);
+        KeysetCursor after = cursorCodec.decode(scope, cursor);
+        List<Notification> notifications = notificationRepository.findPageByUserId(
+                userId, after.at(), after.id(), PageRequest.ofSize(pageSize + 1));
+        return CursorPage.of(notifications, pageSize, NotificationResponse::from,
+                n -> new KeysetCursor(n.getCreatedAt(), n.getNotificationId()), cursorCodec, scope);
     }
 
     /**
@@ -108,6 +127,9 @@ public class NotificationService {
             throw new ApiException(ErrorCode.FORBIDDEN);
         }
 
+        if (notification.getStatus() == NotificationStatus.UNREAD) {
+            unreadCountCache.adjustAfterCommit(userId, -1);
+        }
         notification.markAsRead();
         notificationRepository.save(notification);
         log.info("알림 읽음 처리: notificationId={}", notificationId);
@@ -119,6 +141,7 @@ public class NotificationService {
     @Transactional
     public int markAllAsRead(Long userId) {
         int count = notificationRepository.markAllAsRead(userId, LocalDateTime.now());
+        unreadCountCache.adjustAfterCommit(userId, -count);
         log.info("모든 알림 읽음 처리: userId={}, count={}", userId, count);
         return count;
     }
@@ -136,16 +159,19 @@ public class NotificationService {
             throw new ApiException(ErrorCode.FORBIDDEN);
         }
 
+        if (notification.getStatus() == NotificationStatus.UNREAD) {
+            unreadCountCache.adjustAfterCommit(userId, -1);
+        }
         notification.markAsDeleted();
         notificationRepository.save(notification);
         log.info("알림 삭제: notificationId={}", notificationId);
     }
 
     /**
-     * 읽지 않은 알림 수 조회
+     * 읽지 않은 알림 수 조회 (사용자별 카운터 캐시)
      */
     public long getUnreadCount(Long userId) {
-        return notificationRepository.countByUserIdAndStatus(userId, NotificationStatus.UNREAD);
+        return unreadCountCache.get(userId);
     }
 
     /**
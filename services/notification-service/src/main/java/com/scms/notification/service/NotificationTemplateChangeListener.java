@@ -0,0 +1,75 @@
+package com.scms.notification.service;
+
+import com.scms.notification.domain.entity.NotificationTemplate;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 템플릿 변경 감지 (Hibernate 이벤트 리스너)
+ *
+ * 템플릿 행이 저장/수정/삭제되면 커밋 후 NotificationTemplateEngine 캐시를 비웁니다.
+ * 엔티티(@EntityListeners)가 서비스 계층을 참조하지 않도록 시작 시 서비스 쪽에서 EntityManagerFactory에 직접 등록합니다.
+ */
+@Component
+public class NotificationTemplateChangeListener
+        implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final NotificationTemplateEngine templateEngine;
+
+    public NotificationTemplateChangeListener(EntityManagerFactory entityManagerFactory,
+                                              NotificationTemplateEngine templateEngine) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.templateEngine = templateEngine;
+    }
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        onChange(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        onChange(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        onChange(event.getEntity());
+    }
+
+    /**
+     * 커밋 후에만 처리할 필요 없음 (무효화 자체를 afterCommit으로 등록)
+     */
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void onChange(Object entity) {
+        if (entity instanceof NotificationTemplate) {
+            templateEngine.invalidateAfterCommit();
+        }
+    }
+}
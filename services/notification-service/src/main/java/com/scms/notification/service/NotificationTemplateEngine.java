@@ -0,0 +1,129 @@
+package com.scms.notification.service;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.scms.notification.domain.entity.NotificationTemplate;
+import com.scms.notification.repository.NotificationTemplateRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 알림 템플릿 엔진 (컴파일된 템플릿 캐시)
+ *
+ * 이벤트/일괄 알림마다 템플릿을 조회하고 변수마다 String.replace로 전체 문자열을 다시 만드는 대신,
+ * 활성 템플릿을 코드별로 한 번 컴파일(CompiledTemplate)하여 캐시하고 렌더링만 반복합니다.
+ *
+ * 캐시 무효화:
+ * - 이 인스턴스에서 템플릿 행이 저장/삭제되면 커밋 후 전체 무효화 (NotificationTemplateChangeListener - Hibernate 이벤트)
+ * - refresh-after가 지나면 다음 조회 때 백그라운드로 행을 다시 읽어, 버전(updated_at)이 같으면 컴파일 결과를 그대로 사용
+ *   (다른 인스턴스나 DB에서 직접 변경한 경우 refresh-after 안에 반영)
+ * - 비활성화/삭제된 템플릿은 빈 값으로 캐시 (없는 코드로 반복 조회해도 DB를 매번 읽지 않음)
+ *
+ * 설정 (app.notification-template.*):
+ * - max-size       캐시할 최대 템플릿 수
+ * - refresh-after  DB 버전 확인 주기
+ *
+ * 미터:
+ * - cache.gets{cache=notification.template, result=hit|miss} 등 (CaffeineCacheMetrics)
+ * - notification.template.compiled  템플릿 컴파일 횟수
+ */
+@Slf4j
+@Component
+public class NotificationTemplateEngine {
+
+    private final NotificationTemplateRepository templateRepository;
+    private final LoadingCache<String, Optional<CompiledTemplate>> templates;
+    private final Counter compiled;
+
+    public NotificationTemplateEngine(
+            NotificationTemplateRepository templateRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.notification-template.max-size:1000}") long maxSize,
+            @Value("${app.notification-template.refresh-after:1m}") Duration refreshAfter
+    ) {
+        this.templateRepository = templateRepository;
+        this.templates = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .refreshAfterWrite(refreshAfter)
+                .recordStats()
+                .build(new TemplateLoader());
+
+        CaffeineCacheMetrics.monitor(meterRegistry, templates, "notification.template");
+        this.compiled = Counter.builder("notification.template.compiled")
+                .description("알림 템플릿 컴파일 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 활성 템플릿 조회 (컴파일된 캐시 값)
+     *
+     * @return 템플릿 (없거나 비활성화된 경우 empty)
+     */
+    public Optional<CompiledTemplate> find(String templateCode) {
+        if (templateCode == null) {
+            return Optional.empty();
+        }
+        return templates.get(templateCode);
+    }
+
+    /**
+     * 템플릿 캐시 전체 무효화 (트랜잭션 안에서 호출되면 커밋 후 적용)
+     *
+     * 코드 자체가 바뀔 수도 있으므로 코드별이 아니라 전체를 비웁니다. (템플릿 수가 적어 다시 적재하는 비용이 작음)
+     */
+    public void invalidateAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    templates.invalidateAll();
+                }
+            });
+            return;
+        }
+        templates.invalidateAll();
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private CompiledTemplate compile(NotificationTemplate template) {
+        compiled.increment();
+        log.debug("알림 템플릿 컴파일: templateCode={}, version={}", template.getTemplateCode(),
+                CompiledTemplate.versionOf(template));
+        return CompiledTemplate.compile(template);
+    }
+
+    private class TemplateLoader implements CacheLoader<String, Optional<CompiledTemplate>> {
+
+        @Override
+        public Optional<CompiledTemplate> load(String templateCode) {
+            return templateRepository.findByTemplateCodeAndActiveTrue(templateCode)
+                    .map(NotificationTemplateEngine.this::compile);
+        }
+
+        /**
+         * 갱신 시 행의 버전이 같으면 기존 컴파일 결과 재사용
+         */
+        @Override
+        public Optional<CompiledTemplate> reload(String templateCode, Optional<CompiledTemplate> previous) {
+            Optional<NotificationTemplate> template = templateRepository.findByTemplateCodeAndActiveTrue(templateCode);
+            if (template.isPresent() && previous.isPresent()
+                    && Objects.equals(template.get().getTemplateId(), previous.get().templateId())
+                    && Objects.equals(CompiledTemplate.versionOf(template.get()), previous.get().version())) {
+                return previous;
+            }
+            return template.map(NotificationTemplateEngine.this::compile);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.scms.notification.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.scms.notification.domain.enums.NotificationStatus;
+import com.scms.notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자별 읽지 않은 알림 수 카운터 캐시
+ *
+ * 알림 배지는 화면마다 unread-count를 호출하므로, 매번 COUNT 쿼리를 실행하는 대신
+ * 사용자별 카운터를 메모리에 두고 알림 생성/읽음/삭제 시 증감합니다.
+ *
+ * - 적재: 처음 조회될 때 COUNT 쿼리로 한 번 적재 (lazy)
+ * - 증감: 트랜잭션 커밋 후 적용 (롤백된 변경은 반영하지 않음), 캐시에 없는 사용자는 무시
+ * - 보정: reconcile-interval마다 캐시에 있는 사용자의 값을 DB와 다시 맞춤
+ *   (다른 인스턴스의 변경, 일괄 UPDATE 등으로 생긴 오차 제거 - 보정 중 증감된 카운터는 덮어쓰지 않음)
+ * - 제거: expire-after-access 동안 조회되지 않은 사용자는 캐시에서 제거
+ *
+ * 설정 (app.unread-count.*):
+ * - max-size             캐시할 최대 사용자 수
+ * - expire-after-access  미사용 카운터 제거 시간
+ * - reconcile-interval   DB 보정 주기
+ * - reconcile-batch-size 보정 시 IN 쿼리 한 번에 포함할 사용자 수
+ *
+ * 미터:
+ * - cache.gets{cache=notification.unread, result=hit|miss} 등 (CaffeineCacheMetrics)
+ * - notification.unread.reconcile            보정 소요 시간
+ * - notification.unread.reconcile.corrected  DB 값과 달라 보정된 카운터 수
+ */
+@Slf4j
+@Component
+public class UnreadCountCache implements DisposableBean {
+
+    private final NotificationRepository notificationRepository;
+    private final Cache<Long, Entry> counters;
+    private final int reconcileBatchSize;
+    private final ScheduledExecutorService scheduler;
+
+    private final Timer reconcileTimer;
+    private final Counter corrected;
+
+    public UnreadCountCache(
+            NotificationRepository notificationRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.unread-count.max-size:50000}") long maxSize,
+            @Value("${app.unread-count.expire-after-access:30m}") Duration expireAfterAccess,
+            @Value("${app.unread-count.reconcile-interval:5m}") Duration reconcileInterval,
+            @Value("${app.unread-count.reconcile-batch-size:500}") int reconcileBatchSize
+    ) {
+        this.notificationRepository = notificationRepository;
+        this.reconcileBatchSize = reconcileBatchSize;
+        this.counters = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, counters, "notification.unread");
+        this.reconcileTimer = Timer.builder("notification.unread.reconcile")
+                .description("읽지 않은 알림 수 DB 보정 시간")
+                .register(meterRegistry);
+        this.corrected = Counter.builder("notification.unread.reconcile.corrected")
+                .description("DB 값과 달라 보정된 읽지 않은 알림 수 카운터")
+                .register(meterRegistry);
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "unread-count-reconciler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = reconcileInterval.toMillis();
+        this.scheduler.scheduleWithFixedDelay(this::reconcile, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 읽지 않은 알림 수 조회 (캐시에 없으면 DB에서 적재)
+     */
+    public long get(Long userId) {
+        return counters.get(userId, this::load).value();
+    }
+
+    /**
+     * 읽지 않은 알림 수 증감 (트랜잭션 안에서 호출되면 커밋 후 적용)
+     */
+    public void adjustAfterCommit(Long userId, long delta) {
+        if (userId == null || delta == 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    adjust(userId, delta);
+                }
+            });
+            return;
+        }
+        adjust(userId, delta);
+    }
+
+    /**
+     * 여러 사용자의 읽지 않은 알림 수를 같은 값만큼 증감 (일괄 발송 청크, 커밋 후 적용)
+     */
+    public void adjustAfterCommit(Collection<Long> userIds, long delta) {
+        if (userIds.isEmpty() || delta == 0) {
+            return;
+        }
+        Runnable apply = () -> userIds.forEach(userId -> adjust(userId, delta));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+            return;
+        }
+        apply.run();
+    }
+
+    /**
+     * 사용자 카운터 무효화 (다음 조회 시 DB에서 다시 적재)
+     */
+    public void evict(Long userId) {
+        if (userId != null) {
+            counters.invalidate(userId);
+        }
+    }
+
+    /**
+     * 전체 카운터 무효화 (여러 사용자의 상태를 바꾸는 일괄 UPDATE 후)
+     */
+    public void evictAll() {
+        counters.invalidateAll();
+    }
+
+    // ==================== Reconciliation ====================
+
+    /**
+     * 캐시에 있는 사용자의 카운터를 DB 값으로 보정
+     */
+    void reconcile() {
+        try {
+            reconcileTimer.record(() -> {
+                List<Long> userIds = new ArrayList<>(counters.asMap().keySet());
+                for (int from = 0; from < userIds.size(); from += reconcileBatchSize) {
+                    reconcileBatch(userIds.subList(from, Math.min(from + reconcileBatchSize, userIds.size())));
+                }
+            });
+        } catch (Exception e) {
+            log.error("읽지 않은 알림 수 보정 실패", e);
+        }
+    }
+
+    private void reconcileBatch(List<Long> userIds) {
+        // 쿼리 전 카운터를 기록해 두고, 쿼리 중에 증감된 카운터는 덮어쓰지 않음 (다음 보정에서 다시 확인)
+        // 보정 조회가 접근 시간을 갱신하면 미사용 카운터가 만료되지 않으므로 quietly 조회
+        Map<Long, Entry> snapshot = new HashMap<>();
+        for (Long userId : userIds) {
+            Entry entry = counters.policy().getIfPresentQuietly(userId);
+            if (entry != null) {
+                snapshot.put(userId, entry);
+            }
+        }
+        if (snapshot.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> actual = new HashMap<>();
+        for (Object[] row : notificationRepository.countUnreadByUserIds(snapshot.keySet())) {
+            actual.put((Long) row[0], (Long) row[1]);
+        }
+
+        snapshot.forEach((userId, seen) -> {
+            long value = actual.getOrDefault(userId, 0L);
+            if (seen.value() == value) {
+                return;
+            }
+            counters.asMap().computeIfPresent(userId, (key, entry) -> {
+                if (entry.version() != seen.version()) {
+                    return entry;
+                }
+                corrected.increment();
+                log.debug("읽지 않은 알림 수 보정: userId={}, cached={}, actual={}", userId, entry.value(), value);
+                return new Entry(value, entry.version() + 1);
+            });
+        });
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private Entry load(Long userId) {
+        return new Entry(notificationRepository.countByUserIdAndStatus(userId, NotificationStatus.UNREAD), 0L);
+    }
+
+    private void adjust(Long userId, long delta) {
+        counters.asMap().computeIfPresent(userId,
+                (key, entry) -> new Entry(Math.max(0L, entry.value() + delta), entry.version() + 1));
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 카운터 값과 변경 버전 (증감/보정마다 버전 증가)
+     */
+    private record Entry(long value, long version) {
+    }
+}
@@ -0,0 +1,175 @@
+package com.scms.notification.service;
+
+import com.scms.notification.domain.entity.Notification;
+import com.scms.notification.domain.enums.NotificationPriority;
+import com.scms.notification.domain.enums.NotificationStatus;
+import com.scms.notification.domain.enums.NotificationType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * NotificationCoalescer 통합 테스트 (MySQL 8.0 - Testcontainers, Docker가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class NotificationCoalescerTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(10);
+    private static final String DAILY_AT = "08:00";
+
+    @Container
+    static final MySQLContainer<?> MYSQL = NotificationTestDatabase.container();
+
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = NotificationTestDatabase.dataSource(MYSQL);
+        NotificationTestDatabase.resetSchema(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new NotificationCoalescer(new NotificationBatchWriter(jdbcTemplate), jdbcTemplate, meterRegistry,
+                WINDOW, true, DAILY_AT, Set.of(NotificationPriority.LOW));
+    }
+
+    @Test
+    void mergesIntoRecentUnreadNotificationForSameTarget() {
+        NotificationCoalescer.Saved first = coalescer.saveAll(List.of(
+                notification(NotificationType.SYSTEM, NotificationPriority.NORMAL, "신청 접수"))).get(0);
+        NotificationCoalescer.Saved second = coalescer.saveAll(List.of(
+                notification(NotificationType.SYSTEM, NotificationPriority.NORMAL, "신청 승인"))).get(0);
+
+        assertThat(first.merged()).isFalse();
+        assertThat(second.merged()).isTrue();
+        assertThat(second.notification().getNotificationId()).isEqualTo(first.notification().getNotificationId());
+        assertThat(second.notification().getDigestCount()).isEqualTo(2);
+
+        Map<String, Object> row = jdbcTemplate.queryForMap("SELECT COUNT(*) AS cnt, MAX(title) AS title, "
+                + "MAX(digest_count) AS digest_count FROM notifications");
+        assertThat(((Number) row.get("cnt")).intValue()).isEqualTo(1);
+        assertThat(row.get("title")).isEqualTo("신청 승인");
+        assertThat(((Number) row.get("digest_count")).intValue()).isEqualTo(2);
+        assertThat(meterRegistry.get("notification.coalesced").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void foldsDuplicatesWithinOneBatch() {
+        List<NotificationCoalescer.Saved> saved = coalescer.saveAll(List.of(
+                notification(NotificationType.SYSTEM, NotificationPriority.NORMAL, "D-3"),
+                notification(NotificationType.SYSTEM, NotificationPriority.NORMAL, "D-2"),
+                notification(NotificationType.SYSTEM, NotificationPriority.NORMAL, "D-1")));
+
+        assertThat(saved).hasSize(1);
+        assertThat(saved.get(0).merged()).isFalse();
+        assertThat(saved.get(0).notification().getTitle()).isEqualTo("D-1");
+        assertThat(saved.get(0).notification().getDigestCount()).isEqualTo(3);
+        assertThat(count()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotMergeUrgentOrReadNotifications() {
+        coalescer.saveAll(List.of(notification(NotificationType.SYSTEM, NotificationPriority.URGENT, "긴급 1")));
+        coalescer.saveAll(List.of(notification(NotificationType.SYSTEM, NotificationPriority.URGENT, "긴급 2")));
+        assertThat(count()).isEqualTo(2);
+
+        jdbcTemplate.update("UPDATE notifications SET status = 'READ'");
+        NotificationCoalescer.Saved saved = coalescer.saveAll(List.of(
+                notification(NotificationType.SYSTEM, NotificationPriority.NORMAL, "읽은 뒤 알림"))).get(0);
+        assertThat(saved.merged()).isFalse();
+        assertThat(count()).isEqualTo(3);
+    }
+
+    @Test
+    void delaysCoalescibleEmailUntilWindowEndsAndDefersDailyPriorities() {
+        Notification normal = coalescer.saveAll(List.of(
+                notification(NotificationType.EMAIL, NotificationPriority.NORMAL, "일반"))).get(0).notification();
+        assertThat(normal.getEmailDigest()).isFalse();
+        assertThat(normal.getEmailNextAttemptAt()).isCloseTo(LocalDateTime.now().plus(WINDOW), within(Duration.ofSeconds(10)));
+
+        Notification low = notification(NotificationType.EMAIL, NotificationPriority.LOW, "요약 대상");
+        low.setRelatedEntityId(200L);
+        coalescer.saveAll(List.of(low));
+        assertThat(low.getEmailDigest()).isTrue();
+        assertThat(low.getEmailNextAttemptAt().toLocalTime()).isEqualTo(LocalTime.parse(DAILY_AT));
+        assertThat(low.getEmailNextAttemptAt()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    void mergingNonDigestNotificationIntoDigestRowPullsEmailForward() {
+        NotificationCoalescer.Saved low = coalescer.saveAll(List.of(
+                notification(NotificationType.EMAIL, NotificationPriority.LOW, "요약 대상"))).get(0);
+        long notificationId = low.notification().getNotificationId();
+        assertThat(emailDigest(notificationId)).isTrue();
+
+        NotificationCoalescer.Saved high = coalescer.saveAll(List.of(
+                notification(NotificationType.EMAIL, NotificationPriority.HIGH, "중요 변경"))).get(0);
+
+        assertThat(high.merged()).isTrue();
+        assertThat(emailDigest(notificationId)).isFalse();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT priority FROM notifications WHERE notification_id = ?", String.class, notificationId))
+                .isEqualTo("HIGH");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT email_next_attempt_at FROM notifications WHERE notification_id = ?",
+                LocalDateTime.class, notificationId))
+                .isCloseTo(LocalDateTime.now().plus(WINDOW), within(Duration.ofSeconds(10)));
+    }
+
+    @Test
+    void mergingDigestNotificationKeepsEarlierIndividualEmail() {
+        NotificationCoalescer.Saved normal = coalescer.saveAll(List.of(
+                notification(NotificationType.EMAIL, NotificationPriority.NORMAL, "일반"))).get(0);
+        long notificationId = normal.notification().getNotificationId();
+
+        coalescer.saveAll(List.of(notification(NotificationType.EMAIL, NotificationPriority.LOW, "요약 대상")));
+
+        assertThat(emailDigest(notificationId)).isFalse();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT email_next_attempt_at FROM notifications WHERE notification_id = ?",
+                LocalDateTime.class, notificationId))
+                .isCloseTo(LocalDateTime.now().plus(WINDOW), within(Duration.ofSeconds(10)));
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static Notification notification(NotificationType type, NotificationPriority priority, String title) {
+        return Notification.builder()
+                .userId(1L)
+                .title(title)
+                .content(title + " 내용")
+                .type(type)
+                .priority(priority)
+                .relatedEntityType("PROGRAM_APPLICATION")
+                .relatedEntityId(100L)
+                .recipientEmail("student@scms.test")
+                .status(NotificationStatus.UNREAD)
+                .emailSent(false)
+                .build();
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notifications", Integer.class);
+    }
+
+    private boolean emailDigest(long notificationId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT email_digest FROM notifications WHERE notification_id = ?", Boolean.class, notificationId));
+    }
+}
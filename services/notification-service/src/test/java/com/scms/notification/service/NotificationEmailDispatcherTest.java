@@ -0,0 +1,268 @@
+package com.scms.notification.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * NotificationEmailDispatcher 통합 테스트
+ *
+ * MySQL 8.0(Testcontainers)에서 선점(FOR UPDATE SKIP LOCKED)과 결과 기록을,
+ * GreenMail(프로세스 내 SMTP)로 실제 발송을 확인합니다. Docker가 없으면 건너뜁니다.
+ * 폴링 스레드 대신 pollAndDispatch()를 직접 호출합니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class NotificationEmailDispatcherTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Duration RETRY_BACKOFF = Duration.ofMinutes(1);
+    private static final String FAILING_DOMAIN = "@fail.test";
+
+    @Container
+    static final MySQLContainer<?> MYSQL = NotificationTestDatabase.container();
+
+    @RegisterExtension
+    static final GreenMailExtension GREEN_MAIL = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private JdbcTemplate jdbcTemplate;
+    private DataSource dataSource;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationEmailDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = NotificationTestDatabase.dataSource(MYSQL);
+        NotificationTestDatabase.resetSchema(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        meterRegistry = new SimpleMeterRegistry();
+
+        PartiallyFailingMailSender mailSender = new PartiallyFailingMailSender();
+        mailSender.setHost("localhost");
+        mailSender.setPort(GREEN_MAIL.getSmtp().getPort());
+
+        dispatcher = new NotificationEmailDispatcher(
+                mailSender,
+                jdbcTemplate,
+                new DataSourceTransactionManager(dataSource),
+                meterRegistry,
+                "noreply@scms.com",
+                "http://localhost:3000",
+                Duration.ofHours(1),   // 폴링은 테스트에서 직접 호출
+                50,
+                2,                     // SMTP 연결 하나로 2통씩
+                2,
+                0,                     // 속도 제한 없음
+                MAX_ATTEMPTS,
+                RETRY_BACKOFF,
+                Duration.ofHours(1),
+                Duration.ofMinutes(5),
+                Duration.ofDays(3));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.destroy();
+    }
+
+    @Test
+    void sendsEmailChannelNotificationsInConnectionBatchesAndMarksThemSent() {
+        List<Long> emailIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            emailIds.add(NotificationTestDatabase.insertEmail(jdbcTemplate, i, "EMAIL", "user" + i + "@scms.test", "알림 " + i));
+        }
+        long systemOnly = NotificationTestDatabase.insertEmail(jdbcTemplate, 10, "SYSTEM", "system@scms.test", "인앱 알림");
+        long noRecipient = NotificationTestDatabase.insertEmail(jdbcTemplate, 11, "EMAIL", null, "수신 이메일 없음");
+
+        dispatcher.pollAndDispatch();
+
+        assertThat(GREEN_MAIL.getReceivedMessages()).hasSize(5);
+        for (Long id : emailIds) {
+            assertThat(emailSent(id)).isTrue();
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT email_sent_at FROM notifications WHERE notification_id = ?", LocalDateTime.class, id))
+                    .isNotNull();
+        }
+        // 5통 / 연결당 2통 = SMTP 세션 3회
+        assertThat(meterRegistry.get("notification.email.session").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("notification.email.sent").counter().count()).isEqualTo(5);
+
+        assertThat(emailSent(systemOnly)).isFalse();
+        assertThat(attempts(systemOnly)).isZero();
+        assertThat(emailSent(noRecipient)).isFalse();
+        assertThat(attempts(noRecipient)).isEqualTo(MAX_ATTEMPTS);
+        assertThat(meterRegistry.get("notification.email.skipped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void skipsRowsLockedByAnotherTransaction() throws Exception {
+        long locked = NotificationTestDatabase.insertEmail(jdbcTemplate, 1, "EMAIL", "locked@scms.test", "잠긴 알림");
+        long free = NotificationTestDatabase.insertEmail(jdbcTemplate, 2, "EMAIL", "free@scms.test", "잠기지 않은 알림");
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement ps = connection.prepareStatement(
+                    "SELECT notification_id FROM notifications WHERE notification_id = ? FOR UPDATE")) {
+                ps.setLong(1, locked);
+                ps.executeQuery().close();
+            }
+
+            // 다른 인스턴스가 선점 중인 행은 기다리지 않고 건너뜀
+            dispatcher.pollAndDispatch();
+
+            assertThat(emailSent(free)).isTrue();
+            assertThat(emailSent(locked)).isFalse();
+            assertThat(attempts(locked)).isZero();
+            connection.rollback();
+        }
+
+        dispatcher.pollAndDispatch();
+
+        assertThat(emailSent(locked)).isTrue();
+        assertThat(GREEN_MAIL.getReceivedMessages()).hasSize(2);
+    }
+
+    @Test
+    void backsOffOnlyMessagesReportedAsFailed() {
+        long ok = NotificationTestDatabase.insertEmail(jdbcTemplate, 1, "ALL", "ok@scms.test", "정상 발송");
+        long failing = NotificationTestDatabase.insertEmail(jdbcTemplate, 2, "ALL", "user" + FAILING_DOMAIN, "발송 실패");
+
+        dispatcher.pollAndDispatch();
+
+        assertThat(emailSent(ok)).isTrue();
+        assertThat(emailSent(failing)).isFalse();
+        assertThat(attempts(failing)).isEqualTo(1);
+        assertThat(nextAttemptAt(failing)).isCloseTo(LocalDateTime.now().plus(RETRY_BACKOFF), within(Duration.ofSeconds(10)));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT email_error FROM notifications WHERE notification_id = ?", String.class, failing))
+                .contains("550");
+        assertThat(meterRegistry.get("notification.email.failed").counter().count()).isEqualTo(1);
+
+        // 재시도 시각 전에는 다시 선점하지 않음
+        dispatcher.pollAndDispatch();
+        assertThat(attempts(failing)).isEqualTo(1);
+
+        // 두 번째 실패는 대기 시간이 두 배
+        jdbcTemplate.update("UPDATE notifications SET email_next_attempt_at = ? WHERE notification_id = ?",
+                LocalDateTime.now().minusSeconds(1), failing);
+        dispatcher.pollAndDispatch();
+        assertThat(attempts(failing)).isEqualTo(2);
+        assertThat(nextAttemptAt(failing)).isCloseTo(
+                LocalDateTime.now().plus(RETRY_BACKOFF.multipliedBy(2)), within(Duration.ofSeconds(10)));
+        assertThat(GREEN_MAIL.getReceivedMessages()).hasSize(1);
+    }
+
+    @Test
+    void groupsDailyDigestNotificationsByRecipient() throws Exception {
+        List<Long> digestIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            digestIds.add(NotificationTestDatabase.insertEmail(jdbcTemplate, 1, "EMAIL", "student@scms.test", "요약 " + i));
+        }
+        digestIds.add(NotificationTestDatabase.insertEmail(jdbcTemplate, 2, "EMAIL", "other@scms.test", "다른 수신자 요약"));
+        jdbcTemplate.update("UPDATE notifications SET email_digest = true");
+        long merged = NotificationTestDatabase.insertEmail(jdbcTemplate, 1, "EMAIL", "student@scms.test", "일정 변경");
+        jdbcTemplate.update("UPDATE notifications SET digest_count = 2 WHERE notification_id = ?", merged);
+
+        dispatcher.pollAndDispatch();
+
+        MimeMessage[] received = GREEN_MAIL.getReceivedMessages();
+        assertThat(received).hasSize(3);
+        Map<String, String> subjectByRecipient = new LinkedHashMap<>();
+        List<String> subjects = new ArrayList<>();
+        for (MimeMessage message : received) {
+            subjects.add(message.getSubject());
+            subjectByRecipient.merge(message.getAllRecipients()[0].toString(), message.getSubject(), (a, b) -> a + "|" + b);
+        }
+        assertThat(subjects).containsExactlyInAnyOrder(
+                "[SCMS] 오늘의 알림 3건",
+                "[SCMS] 다른 수신자 요약",
+                "[SCMS] 일정 변경 (2건)");
+        assertThat(subjectByRecipient.get("other@scms.test")).isEqualTo("[SCMS] 다른 수신자 요약");
+
+        for (Long id : digestIds) {
+            assertThat(emailSent(id)).isTrue();
+        }
+        assertThat(emailSent(merged)).isTrue();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private boolean emailSent(long notificationId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT email_sent FROM notifications WHERE notification_id = ?", Boolean.class, notificationId));
+    }
+
+    private int attempts(long notificationId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT email_attempts FROM notifications WHERE notification_id = ?", Integer.class, notificationId);
+    }
+
+    private LocalDateTime nextAttemptAt(long notificationId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT email_next_attempt_at FROM notifications WHERE notification_id = ?",
+                LocalDateTime.class, notificationId);
+    }
+
+    /**
+     * FAILING_DOMAIN 수신자 메시지만 실패로 보고하는 SMTP 클라이언트
+     * (메일 서버가 일부 수신자를 거부했을 때처럼 MailSendException.getFailedMessages에 담아 던짐)
+     */
+    private static final class PartiallyFailingMailSender extends JavaMailSenderImpl {
+
+        @Override
+        public void send(MimeMessage... mimeMessages) {
+            Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+            List<MimeMessage> accepted = new ArrayList<>();
+            for (MimeMessage message : mimeMessages) {
+                if (isFailing(message)) {
+                    failedMessages.put(message, new MessagingException("550 mailbox unavailable"));
+                } else {
+                    accepted.add(message);
+                }
+            }
+            if (!accepted.isEmpty()) {
+                super.send(accepted.toArray(MimeMessage[]::new));
+            }
+            if (!failedMessages.isEmpty()) {
+                throw new MailSendException(failedMessages);
+            }
+        }
+
+        private static boolean isFailing(MimeMessage message) {
+            try {
+                Address[] recipients = message.getAllRecipients();
+                return recipients != null && Arrays.stream(recipients)
+                        .anyMatch(address -> address.toString().endsWith(FAILING_DOMAIN));
+            } catch (MessagingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
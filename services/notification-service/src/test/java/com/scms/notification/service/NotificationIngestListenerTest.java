@@ -0,0 +1,223 @@
+package com.scms.notification.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scms.common.dto.NotificationEvent;
+import com.scms.notification.config.NotificationIngestConfig;
+import com.scms.notification.domain.entity.Notification;
+import com.scms.notification.domain.entity.NotificationTemplate;
+import com.scms.notification.domain.enums.NotificationType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Exchange;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.junit.RabbitAvailable;
+import org.springframework.amqp.rabbit.junit.RabbitAvailableCondition;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * NotificationIngestListener 브로커 연동 테스트
+ *
+ * 실제 RabbitMQ(localhost:5672, guest/guest 또는 RABBITMQ_* 환경 변수)에 연결하여
+ * 설정 클래스와 같은 큐/DLQ 토폴로지와 리스너 컨테이너로 ack/nack/reject 동작을 확인합니다.
+ * 브로커가 없으면 @RabbitAvailable이 테스트를 건너뜁니다. DB는 목(mock)으로 대체합니다.
+ */
+@RabbitAvailable
+class NotificationIngestListenerTest {
+
+    private static final String QUEUE = "notification.ingest.test";
+    private static final String DLQ = QUEUE + ".dlq";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private CachingConnectionFactory connectionFactory;
+    private RabbitAdmin admin;
+    private RabbitTemplate rabbitTemplate;
+    private SimpleMessageListenerContainer container;
+
+    private NotificationTemplateEngine templateEngine;
+    private NotificationCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new CachingConnectionFactory(RabbitAvailableCondition.getBrokerRunning().getConnectionFactory());
+        admin = new RabbitAdmin(connectionFactory);
+        rabbitTemplate = new RabbitTemplate(connectionFactory);
+
+        NotificationIngestConfig config = new NotificationIngestConfig();
+        ReflectionTestUtils.setField(config, "queueName", QUEUE);
+        for (Declarable declarable : config.notificationIngestTopology().getDeclarables()) {
+            if (declarable instanceof Exchange exchange) {
+                admin.declareExchange(exchange);
+            } else if (declarable instanceof Queue queue) {
+                admin.declareQueue(queue);
+            } else if (declarable instanceof Binding binding) {
+                admin.declareBinding(binding);
+            }
+        }
+        admin.purgeQueue(QUEUE, false);
+        admin.purgeQueue(DLQ, false);
+
+        templateEngine = mock(NotificationTemplateEngine.class);
+        when(templateEngine.find("PROGRAM_APPROVED")).thenReturn(Optional.of(CompiledTemplate.compile(
+                NotificationTemplate.builder()
+                        .templateId(1L)
+                        .templateCode("PROGRAM_APPROVED")
+                        .type(NotificationType.SYSTEM)
+                        .titleTemplate("[{{programName}}] 승인")
+                        .contentTemplate("{{programName}} 프로그램이 승인되었습니다.")
+                        .build())));
+
+        coalescer = mock(NotificationCoalescer.class);
+        when(coalescer.saveAll(anyList())).thenAnswer(invocation -> saved(invocation.getArgument(0)));
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        NotificationIngestListener listener = new NotificationIngestListener(
+                objectMapper,
+                templateEngine,
+                coalescer,
+                mock(UnreadCountCache.class),
+                mock(NotificationPushService.class),
+                mock(JdbcTemplate.class),
+                transactionManager,
+                new SimpleMeterRegistry(),
+                Duration.ofMillis(10));
+
+        // 미리 발행한 메시지가 한 배치로 전달되도록 배치 크기를 넉넉하게
+        container = config.notificationIngestContainer(connectionFactory, listener, 1, 10, Duration.ofMillis(500), 20);
+    }
+
+    @AfterEach
+    void tearDown() {
+        container.stop();
+        admin.deleteQueue(QUEUE);
+        admin.deleteQueue(DLQ);
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void acksPersistedMessagesWhenLastMessageIsRejected() throws Exception {
+        publish(event("PROGRAM_APPROVED"));
+        publish(event("PROGRAM_APPROVED"));
+        publish("{not json".getBytes(StandardCharsets.UTF_8));
+
+        container.start();
+
+        verify(coalescer, timeout(5000)).saveAll(anyList());
+        awaitMessageCount(DLQ, 1);
+        // 채널이 닫혔다면 두 메시지가 다시 전달되어 한 번 더 저장됨
+        verify(coalescer, after(1000).times(1)).saveAll(anyList());
+
+        container.stop();
+        assertThat(messageCount(QUEUE)).isZero();
+        assertThat(messageCount(DLQ)).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsOnlyMessageWhoseTemplateFailsToRender() throws Exception {
+        CompiledTemplate broken = mock(CompiledTemplate.class);
+        when(broken.renderTitle(any())).thenThrow(new IllegalStateException("render failed"));
+        when(templateEngine.find("BROKEN")).thenReturn(Optional.of(broken));
+
+        publish(event("PROGRAM_APPROVED"));
+        publish(event("BROKEN"));
+
+        container.start();
+
+        verify(coalescer, timeout(5000)).saveAll(anyList());
+        awaitMessageCount(DLQ, 1);
+        verify(coalescer, after(1000).times(1)).saveAll(anyList());
+
+        container.stop();
+        assertThat(messageCount(QUEUE)).isZero();
+    }
+
+    @Test
+    void requeuesPersistedMessagesOnTransientFailure() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        when(coalescer.saveAll(anyList())).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new TransientDataAccessResourceException("connection reset");
+            }
+            return saved(invocation.getArgument(0));
+        });
+
+        publish(event("PROGRAM_APPROVED"));
+        publish(event("UNKNOWN_TEMPLATE"));
+
+        container.start();
+
+        // 첫 저장은 일시 실패 → nack(requeue) 후 다시 전달되어 저장
+        verify(coalescer, timeout(5000).times(2)).saveAll(anyList());
+        awaitMessageCount(DLQ, 1);
+
+        container.stop();
+        assertThat(messageCount(QUEUE)).isZero();
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static List<NotificationCoalescer.Saved> saved(List<Notification> notifications) {
+        return notifications.stream().map(notification -> new NotificationCoalescer.Saved(notification, false)).toList();
+    }
+
+    private byte[] event(String templateCode) throws Exception {
+        return objectMapper.writeValueAsBytes(NotificationEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .eventType(templateCode)
+                .userId(1L)
+                .variables(Map.of("programName", "Java 특강"))
+                .build());
+    }
+
+    private void publish(byte[] body) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        rabbitTemplate.send(NotificationEvent.EXCHANGE, "program.approved", new Message(body, properties));
+    }
+
+    private int messageCount(String queue) {
+        return admin.getQueueInfo(queue).getMessageCount();
+    }
+
+    private void awaitMessageCount(String queue, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (messageCount(queue) != expected && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(messageCount(queue)).isEqualTo(expected);
+    }
+}
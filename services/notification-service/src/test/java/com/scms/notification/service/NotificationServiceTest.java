@@ -0,0 +1,94 @@
+package com.scms.notification.service;
+
+import com.scms.common.dto.CursorCodec;
+import com.scms.notification.domain.entity.Notification;
+import com.scms.notification.domain.enums.NotificationType;
+import com.scms.notification.dto.request.NotificationCreateRequest;
+import com.scms.notification.dto.response.NotificationResponse;
+import com.scms.notification.repository.NotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * NotificationService 알림 생성 단위 테스트 (합쳐진 알림의 읽지 않은 수/푸시 처리)
+ */
+class NotificationServiceTest {
+
+    private UnreadCountCache unreadCountCache;
+    private NotificationPushService notificationPushService;
+    private NotificationCoalescer notificationCoalescer;
+    private NotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        unreadCountCache = mock(UnreadCountCache.class);
+        notificationPushService = mock(NotificationPushService.class);
+        notificationCoalescer = mock(NotificationCoalescer.class);
+        notificationService = new NotificationService(
+                mock(NotificationRepository.class),
+                mock(CursorCodec.class),
+                unreadCountCache,
+                notificationPushService,
+                notificationCoalescer);
+    }
+
+    @Test
+    void newNotificationIncrementsUnreadCount() {
+        when(notificationCoalescer.saveAll(anyList())).thenAnswer(invocation -> {
+            Notification notification = invocation.<List<Notification>>getArgument(0).get(0);
+            notification.setNotificationId(10L);
+            notification.setCreatedAt(LocalDateTime.now());
+            return List.of(new NotificationCoalescer.Saved(notification, false));
+        });
+
+        notificationService.createNotification(request("신청 접수"));
+
+        verify(unreadCountCache).adjustAfterCommit(7L, 1);
+        verify(notificationPushService).publishAfterCommit(any(NotificationResponse.class));
+    }
+
+    @Test
+    void mergedNotificationKeepsUnreadCountButIsPushedAgain() {
+        when(notificationCoalescer.saveAll(anyList())).thenAnswer(invocation -> {
+            Notification notification = invocation.<List<Notification>>getArgument(0).get(0);
+            notification.setNotificationId(10L);
+            notification.setDigestCount(3);
+            notification.setCreatedAt(LocalDateTime.now().minusMinutes(5));
+            return List.of(new NotificationCoalescer.Saved(notification, true));
+        });
+
+        NotificationResponse response = notificationService.createNotification(request("신청 승인"));
+
+        verify(unreadCountCache, never()).adjustAfterCommit(anyLong(), anyLong());
+        ArgumentCaptor<NotificationResponse> pushed = ArgumentCaptor.forClass(NotificationResponse.class);
+        verify(notificationPushService).publishAfterCommit(pushed.capture());
+        assertThat(pushed.getValue().getNotificationId()).isEqualTo(10L);
+        assertThat(pushed.getValue().getDigestCount()).isEqualTo(3);
+        assertThat(pushed.getValue().getTitle()).isEqualTo("신청 승인");
+        assertThat(response.getDigestCount()).isEqualTo(3);
+    }
+
+    private static NotificationCreateRequest request(String title) {
+        return NotificationCreateRequest.builder()
+                .userId(7L)
+                .title(title)
+                .content(title + " 내용")
+                .type(NotificationType.SYSTEM)
+                .relatedEntityType("PROGRAM_APPLICATION")
+                .relatedEntityId(100L)
+                .build();
+    }
+}
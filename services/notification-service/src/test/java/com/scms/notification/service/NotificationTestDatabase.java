@@ -0,0 +1,47 @@
+package com.scms.notification.service;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.MySQLContainer;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * JDBC 기반 서비스 테스트용 MySQL 준비 (Testcontainers)
+ *
+ * FOR UPDATE SKIP LOCKED 등 MySQL 문법을 그대로 검증하기 위해 실제 MySQL 8.0 컨테이너를 사용합니다.
+ */
+final class NotificationTestDatabase {
+
+    private NotificationTestDatabase() {
+    }
+
+    static MySQLContainer<?> container() {
+        return new MySQLContainer<>("mysql:8.0")
+                .withUrlParam("rewriteBatchedStatements", "true");
+    }
+
+    static DataSource dataSource(MySQLContainer<?> mysql) {
+        return new DriverManagerDataSource(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword());
+    }
+
+    static void resetSchema(DataSource dataSource) {
+        new ResourceDatabasePopulator(new ClassPathResource("notifications-schema.sql")).execute(dataSource);
+    }
+
+    /**
+     * 이메일 발송 대상 알림 행 추가
+     *
+     * @return notification_id
+     */
+    static long insertEmail(JdbcTemplate jdbcTemplate, long userId, String type, String recipient, String title) {
+        jdbcTemplate.update("INSERT INTO notifications (user_id, title, content, type, status, priority, email_sent, "
+                        + "recipient_email, created_at) VALUES (?, ?, ?, ?, 'UNREAD', 'NORMAL', false, ?, ?)",
+                userId, title, title + " 내용", type, recipient, Timestamp.valueOf(LocalDateTime.now()));
+        return jdbcTemplate.queryForObject("SELECT MAX(notification_id) FROM notifications", Long.class);
+    }
+}
@@ -0,0 +1,31 @@
+-- 테스트용 notifications 테이블 (Notification 엔티티와 같은 컬럼, 운영 스키마는 JPA ddl-auto로 생성)
+DROP TABLE IF EXISTS notifications;
+
+CREATE TABLE notifications (
+    notification_id       BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    user_id               BIGINT       NOT NULL,
+    title                 VARCHAR(200) NOT NULL,
+    content               TEXT         NOT NULL,
+    type                  VARCHAR(20)  NOT NULL,
+    status                VARCHAR(20)  NOT NULL,
+    priority              VARCHAR(20)  NOT NULL,
+    related_entity_type   VARCHAR(50),
+    related_entity_id     BIGINT,
+    link_url              VARCHAR(500),
+    email_sent            BOOLEAN      NOT NULL,
+    email_sent_at         DATETIME(6),
+    recipient_email       VARCHAR(100),
+    email_attempts        INT          NOT NULL DEFAULT 0,
+    email_next_attempt_at DATETIME(6),
+    email_error           VARCHAR(500),
+    email_digest          BOOLEAN      NOT NULL DEFAULT FALSE,
+    digest_count          INT          NOT NULL DEFAULT 1,
+    read_at               DATETIME(6),
+    expires_at            DATETIME(6),
+    created_at            DATETIME(6)  NOT NULL,
+    template_id           BIGINT,
+    metadata              TEXT,
+    INDEX idx_user_status (user_id, status),
+    INDEX idx_email_pending (email_sent, type, created_at),
+    INDEX idx_user_related (user_id, related_entity_type, related_entity_id)
+);
@@ -15,7 +15,8 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 @SpringBootApplication(
         scanBasePackages = {
                 "com.scms.portfolio",
-                "com.scms.common.exception"  // Common 모듈의 예외 처리
+                "com.scms.common.exception",  // Common 모듈의 예외 처리
+                "com.scms.common.dto.config"  // 공통 커서 페이지네이션 설정
         }
 )
 public class PortfolioServiceApplication {
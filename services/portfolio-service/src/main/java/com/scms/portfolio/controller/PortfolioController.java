@@ -1,6 +1,7 @@
 package com.scms.portfolio.controller;
 
 import com.scms.common.dto.ApiResponse;
+import com.scms.common.dto.CursorPage;
 import com.scms.portfolio.domain.enums.PortfolioStatus;
 import com.scms.portfolio.domain.enums.VisibilityLevel;
 import com.scms.portfolio.dto.request.PortfolioCreateRequest;
@@ -105,8 +106,11 @@ public class PortfolioController {
      * 공개 포트폴리오 목록 조회
      */
     @GetMapping("/public")
-    public ApiResponse<List<PortfolioResponse>> getPublicPortfolios() {
-        List<PortfolioResponse> responses = portfolioService.getPublicPortfolios();
+    public ApiResponse<CursorPage<PortfolioResponse>> getPublicPortfolios(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        CursorPage<PortfolioResponse> responses = portfolioService.getPublicPortfolios(cursor, size);
         return ApiResponse.success(responses);
     }
 
@@ -19,7 +19,9 @@ import java.util.List;
  * 각 포트폴리오는 여러 개의 포트폴리오 항목(PortfolioItem)을 가질 수 있습니다.
  */
 @Entity
-@Table(name = "portfolios")
+@Table(name = "portfolios", indexes = {
+        @Index(name = "idx_published_at_id", columnList = "published_at,portfolio_id")  // 공개 목록 키셋 페이지네이션
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -3,6 +3,7 @@ package com.scms.portfolio.repository;
 import com.scms.portfolio.domain.entity.Portfolio;
 import com.scms.portfolio.domain.enums.PortfolioStatus;
 import com.scms.portfolio.domain.enums.VisibilityLevel;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -32,6 +33,20 @@ public interface PortfolioRepository extends JpaRepository<Portfolio, Long> {
             PortfolioStatus status
     );
 
+    /**
+     * 공개 포트폴리오 키셋 페이지 조회 (게시일 최신순, (publishedAt, portfolioId) 이후)
+     */
+    @Query("SELECT p FROM Portfolio p WHERE p.status = 'PUBLISHED' " +
+            "AND p.visibilityLevel = 'PUBLIC' " +
+            "AND p.deletedAt IS NULL " +
+            "AND (p.publishedAt < :publishedAt OR (p.publishedAt = :publishedAt AND p.portfolioId < :portfolioId)) " +
+            "ORDER BY p.publishedAt DESC, p.portfolioId DESC")
+    List<Portfolio> findPublicPage(
+            @Param("publishedAt") LocalDateTime publishedAt,
+            @Param("portfolioId") Long portfolioId,
+            Pageable pageable
+    );
+
     /**
      * 공개 포트폴리오 목록 (최신순)
      */
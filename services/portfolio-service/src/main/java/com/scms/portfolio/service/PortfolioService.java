@@ -1,5 +1,8 @@
 package com.scms.portfolio.service;
 
+import com.scms.common.dto.CursorCodec;
+import com.scms.common.dto.CursorPage;
+import com.scms.common.dto.KeysetCursor;
 import com.scms.common.exception.ApiException;
 import com.scms.common.exception.ErrorCode;
 import com.scms.portfolio.domain.entity.Portfolio;
@@ -11,6 +14,7 @@ import com.scms.portfolio.dto.response.PortfolioResponse;
 import com.scms.portfolio.repository.PortfolioRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,7 +37,10 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class PortfolioService {
 
+    private static final String PUBLIC_CURSOR_SCOPE = "portfolios:public";
+
     private final PortfolioRepository portfolioRepository;
+    private final CursorCodec cursorCodec;
 
     /**
      * 포트폴리오 생성
@@ -148,13 +155,15 @@ public class PortfolioService {
     }
 
     /**
-     * 공개 포트폴리오 목록 조회 (최신순)
+     * 공개 포트폴리오 목록 조회 (게시일 최신순 커서 페이지)
      */
-    public List<PortfolioResponse> getPublicPortfolios() {
-        return portfolioRepository.findPublicPortfolios()
-                .stream()
-                .map(PortfolioResponse::fromWithoutItems)
-                .collect(Collectors.toList());
+    public CursorPage<PortfolioResponse> getPublicPortfolios(String cursor, Integer size) {
+        int pageSize = CursorPage.pageSize(size);
+        KeysetCursor after = cursorCodec.decode(PUBLIC_CURSOR_SCOPE, cursor);
+        List<Portfolio> portfolios = portfolioRepository.findPublicPage(
+                after.at(), after.id(), PageRequest.ofSize(pageSize + 1));
+        return CursorPage.of(portfolios, pageSize, PortfolioResponse::fromWithoutItems,
+                p -> new KeysetCursor(p.getPublishedAt(), p.getPortfolioId()), cursorCodec, PUBLIC_CURSOR_SCOPE);
     }
 
     /**
@@ -10,7 +10,9 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 @SpringBootApplication(
         scanBasePackages = {
                 "com.scms.program",
-                "com.scms.common.exception"
+                "com.scms.common.exception",
+                "com.scms.common.dto.config",  // 공통 커서 페이지네이션 설정
+                "com.scms.common.util.identity"  // 게이트웨이 서명 신뢰 헤더 검증
         }
 )
 public class ProgramServiceApplication {
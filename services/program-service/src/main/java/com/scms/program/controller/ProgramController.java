@@ -1,5 +1,8 @@
 package com.scms.program.controller;
 
+import com.scms.common.dto.CursorPage;
+import com.scms.common.exception.ApiException;
+import com.scms.common.exception.ErrorCode;
 import com.scms.program.dto.request.ProgramCreateRequest;
 import com.scms.program.dto.response.ProgramResponse;
 import com.scms.program.service.ProgramService;
@@ -16,10 +19,11 @@ import java.util.Map;
  * 프로그램 컨트롤러
  *
  * 엔드포인트:
- * - GET /api/programs - 전체 프로그램 목록
+ * - GET /api/programs?cursor=&size= - 전체 프로그램 목록 (커서 페이지)
  * - GET /api/programs/approved - 승인된 프로그램
  * - GET /api/programs/available - 신청 가능한 프로그램
  * - GET /api/programs/{id} - 프로그램 상세
+ * - GET /api/programs/{id}/participants - 참여자 사용자 ID 목록 (ADMIN, 일괄 알림 대상 확장용)
  * - POST /api/programs - 프로그램 생성
  * - DELETE /api/programs/{id} - 프로그램 삭제
  * - POST /api/programs/{id}/approve - 프로그램 승인 (ADMIN)
@@ -30,11 +34,16 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class ProgramController {
 
+    private static final String ADMIN_ROLE = "ADMIN";
+
     private final ProgramService programService;
 
     @GetMapping
-    public ResponseEntity<List<ProgramResponse>> getAllPrograms() {
-        List<ProgramResponse> programs = programService.getAllPrograms();
+    public ResponseEntity<CursorPage<ProgramResponse>> getAllPrograms(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        CursorPage<ProgramResponse> programs = programService.getAllPrograms(cursor, size);
         return ResponseEntity.ok(programs);
     }
 
@@ -56,6 +65,23 @@ public class ProgramController {
         return ResponseEntity.ok(program);
     }
 
+    /**
+     * 참여자 사용자 ID 목록 (ADMIN)
+     *
+     * 상담 등 참여 여부 자체가 민감한 프로그램이 있으므로 관리자만 조회할 수 있습니다.
+     * notification-service는 일괄 알림을 요청한 관리자의 신원을 서명하여 호출합니다.
+     */
+    @GetMapping("/{id}/participants")
+    public ResponseEntity<List<Long>> getParticipantUserIds(
+            @PathVariable Long id,
+            @RequestAttribute(value = "userRole", required = false) String role
+    ) {
+        if (!ADMIN_ROLE.equals(role)) {
+            throw new ApiException(ErrorCode.FORBIDDEN, "관리자만 프로그램 참여자를 조회할 수 있습니다.");
+        }
+        return ResponseEntity.ok(programService.getParticipantUserIds(id));
+    }
+
     @PostMapping
     public ResponseEntity<ProgramResponse> createProgram(
             @Valid @RequestBody ProgramCreateRequest request,
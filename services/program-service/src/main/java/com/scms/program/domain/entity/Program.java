@@ -28,7 +28,8 @@ import java.time.LocalDateTime;
         @Index(name = "idx_status", columnList = "status"),
         @Index(name = "idx_category_id", columnList = "category_id"),
         @Index(name = "idx_start_date", columnList = "start_date"),
-        @Index(name = "idx_created_by", columnList = "created_by")
+        @Index(name = "idx_created_by", columnList = "created_by"),
+        @Index(name = "idx_created_at_id", columnList = "created_at,program_id")  // 키셋 페이지네이션
 })
 @EntityListeners(AuditingEntityListener.class)
 @Data
@@ -60,6 +60,14 @@ public interface ProgramApplicationRepository extends JpaRepository<ProgramAppli
             "AND a.deletedAt IS NULL ORDER BY a.createdAt ASC")
     List<ProgramApplication> findApprovedApplications(@Param("programId") Long programId);
 
+    /**
+     * 참여자(승인/출석/이수) 사용자 ID 목록 (userId 오름차순)
+     */
+    @Query("SELECT DISTINCT a.userId FROM ProgramApplication a WHERE a.programId = :programId " +
+            "AND a.status IN ('APPROVED', 'ATTENDED', 'COMPLETED') " +
+            "AND a.deletedAt IS NULL ORDER BY a.userId ASC")
+    List<Long> findParticipantUserIds(@Param("programId") Long programId);
+
     /**
      * 출석자 목록
      */
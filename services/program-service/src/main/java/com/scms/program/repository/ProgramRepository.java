@@ -3,6 +3,7 @@ package com.scms.program.repository;
 import com.scms.program.domain.entity.Program;
 import com.scms.program.domain.enums.ProgramStatus;
 import com.scms.program.domain.enums.ProgramType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -24,6 +25,18 @@ public interface ProgramRepository extends JpaRepository<Program, Long> {
      */
     Optional<Program> findByProgramIdAndDeletedAtIsNull(Long programId);
 
+    /**
+     * 프로그램 키셋 페이지 조회 (삭제되지 않은, 최신순, (createdAt, programId) 이후)
+     */
+    @Query("SELECT p FROM Program p WHERE p.deletedAt IS NULL " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.programId < :programId)) " +
+            "ORDER BY p.createdAt DESC, p.programId DESC")
+    List<Program> findPage(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("programId") Long programId,
+            Pageable pageable
+    );
+
     /**
      * 상태별 프로그램 목록
      */
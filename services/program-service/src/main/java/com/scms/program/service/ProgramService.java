@@ -1,14 +1,19 @@
 package com.scms.program.service;
 
+import com.scms.common.dto.CursorCodec;
+import com.scms.common.dto.CursorPage;
+import com.scms.common.dto.KeysetCursor;
 import com.scms.common.exception.ApiException;
 import com.scms.common.exception.ErrorCode;
 import com.scms.program.domain.entity.Program;
 import com.scms.program.domain.enums.ProgramStatus;
 import com.scms.program.dto.request.ProgramCreateRequest;
 import com.scms.program.dto.response.ProgramResponse;
+import com.scms.program.repository.ProgramApplicationRepository;
 import com.scms.program.repository.ProgramRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,7 +27,11 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ProgramService {
 
+    private static final String PROGRAMS_CURSOR_SCOPE = "programs";
+
     private final ProgramRepository programRepository;
+    private final ProgramApplicationRepository programApplicationRepository;
+    private final CursorCodec cursorCodec;
 
     @Transactional
     public ProgramResponse createProgram(ProgramCreateRequest request, Long userId) {
@@ -58,11 +67,25 @@ public class ProgramService {
         return ProgramResponse.from(program);
     }
 
-    public List<ProgramResponse> getAllPrograms() {
-        return programRepository.findAll().stream()
-                .filter(p -> p.getDeletedAt() == null)
-                .map(ProgramResponse::from)
-                .collect(Collectors.toList());
+    /**
+     * 프로그램 참여자(승인/출석/이수) 사용자 ID 조회 (일괄 알림 대상 확장용)
+     */
+    public List<Long> getParticipantUserIds(Long programId) {
+        if (programRepository.findByProgramIdAndDeletedAtIsNull(programId).isEmpty()) {
+            throw new ApiException(ErrorCode.PROGRAM_NOT_FOUND);
+        }
+        return programApplicationRepository.findParticipantUserIds(programId);
+    }
+
+    /**
+     * 전체 프로그램 목록 (삭제되지 않은, 최신순 커서 페이지)
+     */
+    public CursorPage<ProgramResponse> getAllPrograms(String cursor, Integer size) {
+        int pageSize = CursorPage.pageSize(size);
+        KeysetCursor after = cursorCodec.decode(PROGRAMS_CURSOR_SCOPE, cursor);
+        List<Program> programs = programRepository.findPage(after.at(), after.id(), PageRequest.ofSize(pageSize + 1));
+        return CursorPage.of(programs, pageSize, ProgramResponse::from,
+                p -> new KeysetCursor(p.getCreatedAt(), p.getProgramId()), cursorCodec, PROGRAMS_CURSOR_SCOPE);
     }
 
     public List<ProgramResponse> getApprovedPrograms() {
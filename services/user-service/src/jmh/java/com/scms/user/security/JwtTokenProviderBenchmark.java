@@ -0,0 +1,75 @@
+package com.scms.user.security;
+
+import com.scms.user.domain.entity.User;
+import com.scms.user.domain.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 경로 벤치마크
+ *
+ * 인증된 요청 1건당 JwtAuthenticationFilter가 수행하는 작업을 비교합니다.
+ * - legacyFourParses: validateToken + getStudentNum + getUserId + getRole (토큰 4회 파싱)
+ * - parseAndValidateUncached: parseAndValidate 1회 파싱 (캐시 미사용)
+ * - parseAndValidateCached: parseAndValidate 캐시 적중
+ *
+ * 실행: ./gradlew :services:user-service:jmh
+ * (gc 프로파일러의 gc.alloc.rate.norm 값으로 요청당 할당량 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET =
+            "scms-secret-key-for-jwt-token-generation-minimum-256-bits-required-for-hs256-algorithm";
+
+    private JwtTokenProvider uncachedProvider;
+    private JwtTokenProvider cachedProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncachedProvider = new JwtTokenProvider(SECRET, 86400000L, 604800000L, 0L);
+        cachedProvider = new JwtTokenProvider(SECRET, 86400000L, 604800000L, 1024L);
+
+        User user = User.builder()
+                .userId(20240001)
+                .studentNum(20240001)
+                .email("student@scms.ac.kr")
+                .name("홍길동")
+                .role(UserRole.STUDENT)
+                .build();
+        token = cachedProvider.createAccessToken(user);
+
+        // 캐시 적중 경로 준비
+        cachedProvider.parseAndValidate(token);
+    }
+
+    @Benchmark
+    public void legacyFourParses(Blackhole bh) {
+        if (uncachedProvider.validateToken(token)) {
+            bh.consume(uncachedProvider.getStudentNum(token));
+            bh.consume(uncachedProvider.getUserId(token));
+            bh.consume(uncachedProvider.getRole(token));
+        }
+    }
+
+    @Benchmark
+    public void parseAndValidateUncached(Blackhole bh) {
+        bh.consume(uncachedProvider.parseAndValidate(token));
+    }
+
+    @Benchmark
+    public void parseAndValidateCached(Blackhole bh) {
+        bh.consume(cachedProvider.parseAndValidate(token));
+    }
+}
@@ -21,7 +21,8 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 @SpringBootApplication(
         scanBasePackages = {
                 "com.scms.user",
-                "com.scms.common.exception"  // 공통 예외 핸들러 스캔
+                "com.scms.common.exception",  // 공통 예외 핸들러 스캔
+                "com.scms.common.dto.config"  // 공통 커서 페이지네이션 설정
         }
 )
 public class UserServiceApplication {
@@ -4,6 +4,7 @@ import com.scms.user.security.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -67,6 +68,12 @@ public class SecurityConfig {
                                 "/error"
                         ).permitAll()
 
+                        // 내 정보 조회 (본인만 조회하므로 역할 무관)
+                        .requestMatchers(HttpMethod.GET, "/api/users/me").authenticated()
+
+                        // 사용자 일괄 조회 (서비스 간 표시 정보 보강, 관리자가 아니면 이름/삭제 여부만 반환 - UserController)
+                        .requestMatchers(HttpMethod.POST, "/api/users/batch").authenticated()
+
                         // ADMIN 권한 필요
                         .requestMatchers(
                                 "/api/users/**"
@@ -1,15 +1,22 @@
 package com.scms.user.controller;
 
+import com.scms.common.dto.CursorPage;
+import com.scms.common.dto.UserSummary;
 import com.scms.user.domain.enums.UserRole;
+import com.scms.user.dto.request.UserBatchRequest;
 import com.scms.user.dto.request.UserCreateRequest;
 import com.scms.user.dto.request.UserUpdateRequest;
+import com.scms.user.dto.response.StudentImportResponse;
 import com.scms.user.dto.response.UserResponse;
+import com.scms.user.service.StudentImportService;
 import com.scms.user.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 import java.util.Map;
@@ -19,9 +26,14 @@ import java.util.Map;
  *
  * 엔드포인트:
  * - POST /api/users - 사용자 생성
+ * - GET /api/users/me - 내 정보 조회 (로그인 사용자 본인, 관리자 권한 불필요)
  * - GET /api/users/{userId} - 사용자 조회
- * - GET /api/users - 전체 사용자 조회
+ * - POST /api/users/batch - 사용자 일괄 조회 (서비스 간 호출용 요약 정보, 관리자가 아니면 표시 정보만)
+ * - POST /api/users/import/students - 학생 일괄 등록 (CSV/XLSX 업로드, 비동기)
+ * - GET /api/users/import/{jobId} - 학생 일괄 등록 진행 상황/오류 리포트
+ * - GET /api/users?cursor=&size= - 전체 사용자 조회 (커서 페이지)
  * - GET /api/users/role/{role} - 역할별 사용자 조회
+ * - GET /api/users/ids?role=&after=&size= - 역할별 사용자 ID 키셋 조회 (일괄 알림 대상 확장용)
  * - GET /api/users/student-num/{studentNum} - 학번으로 조회
  * - GET /api/users/email/{email} - 이메일로 조회
  * - PUT /api/users/{userId} - 사용자 수정
@@ -39,7 +51,10 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class UserController {
 
+    private static final String ADMIN_ROLE = "ADMIN";
+
     private final UserService userService;
+    private final StudentImportService studentImportService;
 
     /**
      * 사용자 생성 (관리자 권한 필요)
@@ -55,6 +70,17 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 내 정보 조회 (로그인 사용자 본인)
+     */
+    @GetMapping("/me")
+    public ResponseEntity<UserResponse> getMe(
+            @RequestAttribute("userId") Long userId  // JWT 필터에서 주입
+    ) {
+        UserResponse response = userService.getUserById(userId);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 사용자 조회 (ID)
      */
@@ -64,13 +90,49 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 사용자 일괄 조회 (ID → 요약 정보)
+     *
+     * 로그인한 누구나 호출할 수 있으므로 임의 ID로 사용자 테이블을 훑지 못하도록
+     * 관리자가 아니면 표시 정보(이름, 삭제 여부)만 반환합니다.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<Map<Long, UserSummary>> getUsersBatch(
+            @Valid @RequestBody UserBatchRequest request,
+            @RequestAttribute(value = "role", required = false) String role
+    ) {
+        Map<Long, UserSummary> users = userService.getUserSummaries(request.getUserIds(), ADMIN_ROLE.equals(role));
+        log.debug("사용자 일괄 조회: requested={}, found={}", request.getUserIds().size(), users.size());
+        return ResponseEntity.ok(users);
+    }
+
+    /**
+     * 학생 일괄 등록 (CSV/XLSX) - 작업 접수 후 바로 202 반환
+     */
+    @PostMapping(value = "/import/students", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<StudentImportResponse> importStudents(@RequestParam("file") MultipartFile file) {
+        StudentImportResponse response = studentImportService.submit(file);
+        return ResponseEntity.accepted().body(response);
+    }
+
+    /**
+     * 학생 일괄 등록 진행 상황 조회
+     */
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<StudentImportResponse> getImportJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(studentImportService.getJob(jobId));
+    }
+
     /**
      * 전체 사용자 조회
      */
     @GetMapping
-    public ResponseEntity<List<UserResponse>> getAllUsers() {
-        List<UserResponse> users = userService.getAllUsers();
-        log.info("전체 사용자 조회: count={}", users.size());
+    public ResponseEntity<CursorPage<UserResponse>> getAllUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        CursorPage<UserResponse> users = userService.getAllUsers(cursor, size);
+        log.info("전체 사용자 조회: count={}, hasNext={}", users.getContent().size(), users.isHasNext());
         return ResponseEntity.ok(users);
     }
 
@@ -201,4 +263,16 @@ public class UserController {
         long count = userService.countByRole(role);
         return ResponseEntity.ok(Map.of("count", count));
     }
+
+    /**
+     * 역할별 사용자 ID 조회 (userId 오름차순 키셋 페이지, 최대 1000개)
+     */
+    @GetMapping("/ids")
+    public ResponseEntity<List<Long>> getUserIdsByRole(
+            @RequestParam UserRole role,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(userService.getUserIdsByRole(role, after, size));
+    }
 }
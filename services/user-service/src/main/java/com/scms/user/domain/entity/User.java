@@ -20,7 +20,9 @@ import java.time.LocalDateTime;
 @Table(name = "users", indexes = {
     @Index(name = "idx_user_email", columnList = "email"),
     @Index(name = "idx_user_student_num", columnList = "student_num"),
-    @Index(name = "idx_user_deleted_at", columnList = "deleted_at")
+    @Index(name = "idx_user_deleted_at", columnList = "deleted_at"),
+    @Index(name = "idx_user_created_at_id", columnList = "created_at, user_id"),  // 키셋 페이지네이션
+    @Index(name = "idx_user_role_id", columnList = "role, user_id")  // 역할별 ID 키셋 조회 (일괄 알림 대상)
 })
 @Data
 @NoArgsConstructor
@@ -0,0 +1,30 @@
+package com.scms.user.dto.request;
+
+import com.scms.common.dto.UserSummary;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 사용자 일괄 조회 요청 DTO
+ * - 서비스 간 호출에서 목록 행의 사용자 이름 등을 한 번에 채울 때 사용
+ * - 최대 UserSummary.MAX_BATCH_SIZE개 (초과분은 호출 측에서 나눠서 요청)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserBatchRequest {
+
+    /**
+     * 조회할 사용자 ID 목록 (중복 허용)
+     */
+    @NotEmpty(message = "사용자 ID 목록은 필수입니다")
+    @Size(max = UserSummary.MAX_BATCH_SIZE, message = "한 번에 최대 " + UserSummary.MAX_BATCH_SIZE + "명까지 조회할 수 있습니다")
+    private List<Long> userIds;
+}
@@ -0,0 +1,106 @@
+package com.scms.user.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 학생 일괄 등록 진행 상황 응답 DTO
+ * - 청크(배치) 단위로 갱신되는 진행률
+ * - 행 단위 오류 리포트 (최대 개수 초과 시 errorsTruncated = true)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentImportResponse {
+
+    /**
+     * 작업 ID
+     */
+    private String jobId;
+
+    /**
+     * 업로드 파일명
+     */
+    private String fileName;
+
+    /**
+     * 상태 (QUEUED, RUNNING, COMPLETED, FAILED)
+     */
+    private String status;
+
+    /**
+     * 읽은 데이터 행 수 (헤더 제외)
+     */
+    private int processedRows;
+
+    /**
+     * 등록된 학생 수
+     */
+    private int insertedRows;
+
+    /**
+     * 실패한 행 수
+     */
+    private int failedRows;
+
+    /**
+     * 커밋된 청크 수
+     */
+    private int committedChunks;
+
+    /**
+     * 작업 전체 실패 사유 (FAILED인 경우)
+     */
+    private String message;
+
+    /**
+     * 시작일시
+     */
+    private LocalDateTime startedAt;
+
+    /**
+     * 종료일시
+     */
+    private LocalDateTime finishedAt;
+
+    /**
+     * 행 단위 오류 목록
+     */
+    private List<RowError> errors;
+
+    /**
+     * 오류 목록이 잘렸는지 여부
+     */
+    private boolean errorsTruncated;
+
+    /**
+     * 행 단위 오류
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RowError {
+
+        /**
+         * 파일상의 행 번호 (헤더 = 1)
+         */
+        private int row;
+
+        /**
+         * 학번 (파싱된 경우)
+         */
+        private String studentNum;
+
+        /**
+         * 오류 사유
+         */
+        private String message;
+    }
+}
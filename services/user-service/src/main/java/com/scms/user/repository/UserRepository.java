@@ -2,11 +2,14 @@ package com.scms.user.repository;
 
 import com.scms.user.domain.entity.User;
 import com.scms.user.domain.enums.UserRole;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -49,12 +52,35 @@ public interface UserRepository extends JpaRepository<User, Integer> {
     @Query("SELECT COUNT(u) FROM User u WHERE u.role = :role AND u.deletedAt IS NULL")
     long countByRole(@Param("role") UserRole role);
 
+    /**
+     * 역할별 사용자 ID 키셋 조회 (삭제되지 않은, userId 오름차순, afterUserId 이후)
+     */
+    @Query("SELECT u.userId FROM User u WHERE u.role = :role AND u.deletedAt IS NULL " +
+            "AND u.userId > :afterUserId ORDER BY u.userId ASC")
+    List<Integer> findIdsByRole(
+            @Param("role") UserRole role,
+            @Param("afterUserId") Integer afterUserId,
+            Pageable pageable
+    );
+
     /**
      * 삭제되지 않은 모든 사용자 조회
      */
     @Query("SELECT u FROM User u WHERE u.deletedAt IS NULL ORDER BY u.createdAt DESC")
     List<User> findAllActive();
 
+    /**
+     * 삭제되지 않은 사용자 키셋 페이지 조회 (최신순, (createdAt, userId) 이후)
+     */
+    @Query("SELECT u FROM User u WHERE u.deletedAt IS NULL " +
+            "AND (u.createdAt < :createdAt OR (u.createdAt = :createdAt AND u.userId < :userId)) " +
+            "ORDER BY u.createdAt DESC, u.userId DESC")
+    List<User> findActivePage(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("userId") Integer userId,
+            Pageable pageable
+    );
+
     /**
      * 잠긴 계정 목록 조회 (삭제되지 않은 사용자만)
      */
@@ -97,6 +123,12 @@ public interface UserRepository extends JpaRepository<User, Integer> {
     @Query("SELECT u FROM User u WHERE u.userId = :userId AND u.deletedAt IS NULL")
     Optional<User> findByIdAndNotDeleted(@Param("userId") Integer userId);
 
+    /**
+     * 사용자 ID 목록으로 일괄 조회 (삭제된 사용자 포함, IN 쿼리 1회)
+     */
+    @Query("SELECT u FROM User u WHERE u.userId IN :userIds")
+    List<User> findAllByUserIdIn(@Param("userIds") Collection<Integer> userIds);
+
     /**
      * 역할과 학과로 사용자 조회
      */
@@ -17,13 +17,14 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * JWT 인증 필터
  *
  * 주요 기능:
  * - Authorization 헤더에서 JWT 토큰 추출
- * - 토큰 검증
+ * - 토큰 검증 (JwtTokenProvider.parseAndValidate로 1회 파싱)
  * - 인증 정보를 SecurityContext에 설정
  * - 사용자 ID를 request attribute로 전달
  */
@@ -32,6 +33,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    /**
+     * 검증된 JwtPrincipal을 보관하는 request attribute 키
+     */
+    public static final String PRINCIPAL_ATTRIBUTE = "jwtPrincipal";
+
     private final JwtTokenProvider jwtTokenProvider;
 
     @Override
@@ -45,13 +51,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 1. Authorization 헤더에서 JWT 토큰 추출
             String jwt = getJwtFromRequest(request);
 
-            // 2. 토큰 검증
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
+            // 2. 토큰 검증 및 사용자 정보 추출 (1회 파싱)
+            Optional<JwtPrincipal> principal = StringUtils.hasText(jwt)
+                    ? jwtTokenProvider.parseAndValidate(jwt)
+                    : Optional.empty();
 
+            if (principal.isPresent()) {
                 // 3. 토큰에서 사용자 정보 추출
-                String studentNum = jwtTokenProvider.getStudentNum(jwt);
-                Long userId = jwtTokenProvider.getUserId(jwt);
-                String role = jwtTokenProvider.getRole(jwt);
+                String studentNum = principal.get().studentNum();
+                Long userId = principal.get().userId();
+                String role = principal.get().role();
 
                 // 4. 권한 설정
                 List<SimpleGrantedAuthority> authorities = Collections.singletonList(
@@ -66,7 +75,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 // 6. SecurityContext에 인증 정보 설정
                 SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                // 7. Request Attribute에 userId 저장 (Controller에서 사용)
+                // 7. Request Attribute에 사용자 정보 저장 (Controller에서 사용, 요청 내 재파싱 방지)
+                request.setAttribute(PRINCIPAL_ATTRIBUTE, principal.get());
                 request.setAttribute("userId", userId);
                 request.setAttribute("studentNum", studentNum);
                 request.setAttribute("role", role);
@@ -0,0 +1,48 @@
+package com.scms.user.security;
+
+/**
+ * 검증된 JWT 토큰의 사용자 정보
+ *
+ * JwtTokenProvider.parseAndValidate()가 토큰을 한 번 파싱해 만든 불변 객체입니다.
+ * getStudentNum/getUserId/getRole을 따로 호출할 때마다 토큰을 다시 파싱하지 않도록
+ * 필요한 클레임을 한 번에 담습니다.
+ *
+ * @param userId          User ID (userId 클레임)
+ * @param studentNum      학번 (subject)
+ * @param email           이메일 (access 토큰에만 존재)
+ * @param name            이름 (access 토큰에만 존재)
+ * @param role            사용자 역할 (access 토큰에만 존재)
+ * @param tokenType       토큰 유형 (access / refresh)
+ * @param expiresAtMillis 토큰 만료 시각 (epoch millis)
+ */
+public record JwtPrincipal(
+        Long userId,
+        String studentNum,
+        String email,
+        String name,
+        String role,
+        String tokenType,
+        long expiresAtMillis
+) {
+
+    /**
+     * Access Token 여부
+     */
+    public boolean isAccessToken() {
+        return "access".equals(tokenType);
+    }
+
+    /**
+     * Refresh Token 여부
+     */
+    public boolean isRefreshToken() {
+        return "refresh".equals(tokenType);
+    }
+
+    /**
+     * 주어진 시각 기준 만료 여부
+     */
+    public boolean isExpired(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+}
@@ -1,5 +1,7 @@
 package com.scms.user.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.scms.user.domain.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
@@ -12,6 +14,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * JWT 토큰 생성 및 검증 유틸리티
@@ -21,23 +24,39 @@ import java.util.Map;
  * - Refresh Token 생성 (7일 유효)
  * - 토큰 검증 및 파싱
  * - 사용자 정보 추출
+ * - 최근 검증된 토큰 캐시 (parseAndValidate)
  */
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final long accessTokenValidityInMilliseconds;
     private final long refreshTokenValidityInMilliseconds;
 
+    /**
+     * 최근 검증된 토큰 → JwtPrincipal (LRU에 가까운 크기 제한 캐시, 최대 크기 0이면 비활성화)
+     */
+    private final Cache<String, JwtPrincipal> verifiedTokens;
+    private final boolean verifiedCacheEnabled;
+
     public JwtTokenProvider(
             @Value("${jwt.secret:scms-secret-key-for-jwt-token-generation-minimum-256-bits-required-for-hs256-algorithm}") String secret,
             @Value("${jwt.access-token-validity:86400000}") long accessTokenValidity,  // 1일
-            @Value("${jwt.refresh-token-validity:604800000}") long refreshTokenValidity  // 7일
+            @Value("${jwt.refresh-token-validity:604800000}") long refreshTokenValidity,  // 7일
+            @Value("${jwt.verified-cache.max-size:1024}") long verifiedCacheMaxSize
     ) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
         this.accessTokenValidityInMilliseconds = accessTokenValidity;
         this.refreshTokenValidityInMilliseconds = refreshTokenValidity;
+        this.verifiedCacheEnabled = verifiedCacheMaxSize > 0;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(Math.max(verifiedCacheMaxSize, 0))
+                .build();
     }
 
     /**
@@ -84,6 +103,56 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * 토큰 검증 및 사용자 정보 추출 (1회 파싱)
+     *
+     * 서명 검증과 클레임 추출을 한 번에 수행합니다.
+     * 최근 검증된 토큰은 캐시에서 바로 반환하며, 만료 시각이 지난 항목은 다시 검증합니다.
+     *
+     * @return 유효한 토큰이면 JwtPrincipal, 아니면 Optional.empty()
+     */
+    public Optional<JwtPrincipal> parseAndValidate(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+
+        JwtPrincipal cached = verifiedCacheEnabled ? verifiedTokens.getIfPresent(token) : null;
+        if (cached != null) {
+            if (!cached.isExpired(System.currentTimeMillis())) {
+                return Optional.of(cached);
+            }
+            verifiedTokens.invalidate(token);
+        }
+
+        try {
+            Claims claims = getClaims(token);
+            Date expiration = claims.getExpiration();
+
+            JwtPrincipal principal = new JwtPrincipal(
+                    claims.get("userId", Long.class),
+                    claims.getSubject(),
+                    claims.get("email", String.class),
+                    claims.get("name", String.class),
+                    claims.get("role", String.class),
+                    claims.get("type", String.class),
+                    expiration != null ? expiration.getTime() : Long.MAX_VALUE
+            );
+            if (verifiedCacheEnabled) {
+                verifiedTokens.put(token, principal);
+            }
+            return Optional.of(principal);
+        } catch (SecurityException | MalformedJwtException e) {
+            log.error("잘못된 JWT 서명입니다.");
+        } catch (ExpiredJwtException e) {
+            log.error("만료된 JWT 토큰입니다.");
+        } catch (UnsupportedJwtException e) {
+            log.error("지원되지 않는 JWT 토큰입니다.");
+        } catch (JwtException | IllegalArgumentException e) {
+            log.error("JWT 토큰이 잘못되었습니다.");
+        }
+        return Optional.empty();
+    }
+
     /**
      * 토큰에서 사용자 ID(학번) 추출
      */
@@ -110,10 +179,7 @@ public class JwtTokenProvider {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token);
+            jwtParser.parseClaimsJws(token);
             return true;
         } catch (SecurityException | MalformedJwtException e) {
             log.error("잘못된 JWT 서명입니다.");
@@ -131,11 +197,7 @@ public class JwtTokenProvider {
      * 토큰에서 Claims 추출
      */
     private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
     /**
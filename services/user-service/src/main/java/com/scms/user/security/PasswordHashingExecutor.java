@@ -0,0 +1,175 @@
+package com.scms.user.security;
+
+import com.scms.common.exception.ErrorCode;
+import com.scms.common.exception.RetryableApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해싱 전용 실행기
+ *
+ * BCrypt encode/matches는 요청 하나에 수십~수백 ms의 CPU를 쓰므로,
+ * 서블릿 요청 스레드에서 바로 실행하면 로그인 피크 때 톰캣 스레드 전체가 해싱에 묶이고
+ * 가벼운 요청(조회 등)까지 함께 느려집니다.
+ * CPU 코어 수만큼의 스레드와 크기가 제한된 큐에서만 해싱하고, 넘치는 요청은 바로 거절합니다.
+ *
+ * - 큐가 가득 참: 429 TOO_MANY_REQUESTS + Retry-After
+ * - max-wait 안에 해싱이 끝나지 않음: 503 SERVICE_UNAVAILABLE + Retry-After
+ *
+ * 설정 (app.password-hashing.*):
+ * - threads         해싱 스레드 수 (0이면 CPU 코어 수)
+ * - queue-capacity  대기 큐 크기
+ * - max-wait        대기 + 해싱 최대 시간
+ * - retry-after     거절 응답의 Retry-After
+ *
+ * 미터:
+ * - password.hash.time{operation}    해싱 시간 (encode/matches)
+ * - password.hash.wait               큐 대기 시간
+ * - password.hash.queue.size         대기 중인 해싱 작업 수
+ * - password.hash.active             실행 중인 해싱 작업 수
+ * - password.hash.rejected{reason}   거절된 요청 수 (queue_full/timeout)
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitNanos;
+    private final Duration retryAfter;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer waitTimer;
+    private final Counter queueFull;
+    private final Counter timedOut;
+
+    public PasswordHashingExecutor(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${app.password-hashing.threads:0}") int threads,
+            @Value("${app.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${app.password-hashing.max-wait:2s}") Duration maxWait,
+            @Value("${app.password-hashing.retry-after:1s}") Duration retryAfter
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.retryAfter = retryAfter;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.prestartAllCoreThreads();
+
+        Gauge.builder("password.hash.queue.size", executor.getQueue(), BlockingQueue::size)
+                .description("대기 중인 비밀번호 해싱 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 비밀번호 해싱 작업 수")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("password.hash.time")
+                .description("비밀번호 해싱 시간")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash.time")
+                .description("비밀번호 해싱 시간")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("password.hash.wait")
+                .description("비밀번호 해싱 큐 대기 시간")
+                .register(meterRegistry);
+        this.queueFull = Counter.builder("password.hash.rejected")
+                .description("과부하로 거절된 비밀번호 해싱 요청 수")
+                .tag("reason", "queue_full")
+                .register(meterRegistry);
+        this.timedOut = Counter.builder("password.hash.rejected")
+                .description("과부하로 거절된 비밀번호 해싱 요청 수")
+                .tag("reason", "timeout")
+                .register(meterRegistry);
+
+        log.info("비밀번호 해싱 실행기 초기화: threads={}, queueCapacity={}, maxWait={}", poolSize, queueCapacity, maxWait);
+    }
+
+    /**
+     * 비밀번호 암호화
+     *
+     * @throws RetryableApiException 해싱 실행기가 과부하 상태인 경우 (429/503)
+     */
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    /**
+     * 비밀번호 일치 여부 확인
+     *
+     * @throws RetryableApiException 해싱 실행기가 과부하 상태인 경우 (429/503)
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> matchesTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    private <T> T execute(Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return task.call();
+            });
+        } catch (RejectedExecutionException e) {
+            queueFull.increment();
+            throw new RetryableApiException(ErrorCode.TOO_MANY_REQUESTS, retryAfter);
+        }
+
+        try {
+            return future.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 아직 큐에 있다면 실행되지 않도록 제거 (이미 실행 중인 해싱은 끝까지 진행)
+            future.cancel(false);
+            timedOut.increment();
+            throw new RetryableApiException(ErrorCode.SERVICE_UNAVAILABLE, retryAfter);
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new RetryableApiException(ErrorCode.SERVICE_UNAVAILABLE, retryAfter);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해싱 실패", e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -8,14 +8,18 @@ import com.scms.user.dto.request.*;
 import com.scms.user.dto.response.LoginResponse;
 import com.scms.user.dto.response.UserResponse;
 import com.scms.user.repository.*;
+import com.scms.user.security.JwtPrincipal;
 import com.scms.user.security.JwtTokenProvider;
+import com.scms.user.security.PasswordHashingExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -25,8 +29,12 @@ import java.util.UUID;
  * - 로그인/로그아웃
  * - 비밀번호 변경/재설정
  * - JWT 토큰 발급 및 검증
- * - 로그인 히스토리 기록
+ * - 로그인 히스토리 기록 (LoginHistoryWriter - Write-Behind 배치 저장)
  * - 계정 잠금 관리
+ *
+ * 비밀번호 해싱(PasswordHashingExecutor)은 트랜잭션 밖에서 기다립니다.
+ * 해싱 대기 중에 DB 커넥션을 잡고 있으면 로그인 피크 때 커넥션 풀(기본 10개)이 해싱 큐(64개)보다 먼저 고갈되어
+ * 429 거절 전에 DB를 쓰는 모든 요청이 멈추므로, 조회는 짧은 읽기로 끝내고 결과 기록은 별도의 짧은 트랜잭션에서 합니다.
  */
 @Slf4j
 @Service
@@ -36,18 +44,20 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final ExternalUserRepository externalUserRepository;
-    private final LoginHistoryRepository loginHistoryRepository;
+    private final LoginHistoryWriter loginHistoryWriter;
     private final PasswordResetTokenRepository passwordResetTokenRepository;
     private final JwtTokenProvider jwtTokenProvider;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
     private final EmailService emailService;
+    private final UserCache userCache;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 일반 사용자 로그인 (내부 사용자)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)  // 해싱 대기 중 DB 커넥션 미사용
     public LoginResponse loginInternal(LoginRequest request, String ipAddress, String userAgent) {
-        // 1. 사용자 조회 (학번 또는 이메일)
+        // 1. 사용자 조회 (학번 또는 이메일, 짧은 읽기)
         User user = userRepository.findByStudentNumAndDeletedAtIsNull(request.getLoginId())
                 .or(() -> userRepository.findByEmailAndDeletedAtIsNull(request.getLoginId()))
                 .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다."));
@@ -55,13 +65,13 @@ public class AuthService {
         // 2. 계정 상태 확인
         validateUserAccount(user);
 
-        // 3. 비밀번호 검증
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        // 3. 비밀번호 검증 (트랜잭션 밖)
+        if (!passwordHashingExecutor.matches(request.getPassword(), user.getPassword())) {
             handleLoginFailure(user, ipAddress, userAgent);
             throw new ApiException(ErrorCode.INVALID_PASSWORD, "비밀번호가 일치하지 않습니다.");
         }
 
-        // 4. 로그인 성공 처리
+        // 4. 로그인 성공 처리 (변경이 있을 때만 짧은 쓰기 트랜잭션)
         handleLoginSuccess(user, ipAddress, userAgent);
 
         // 5. JWT 토큰 생성
@@ -82,7 +92,7 @@ public class AuthService {
     /**
      * 외부 사용자 로그인
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)  // 해싱 대기 중 DB 커넥션 미사용
     public LoginResponse loginExternal(LoginRequest request, String ipAddress, String userAgent) {
         // 1. 외부 사용자 조회
         ExternalUser externalUser = externalUserRepository.findByEmailAndDeletedAtIsNull(request.getLoginId())
@@ -93,7 +103,7 @@ public class AuthService {
 
         // 3. 비밀번호 검증 (로컬 가입자만)
         if (externalUser.getProvider() == null) {  // 로컬 가입
-            if (!passwordEncoder.matches(request.getPassword(), externalUser.getPassword())) {
+            if (!passwordHashingExecutor.matches(request.getPassword(), externalUser.getPassword())) {
                 handleExternalLoginFailure(externalUser, ipAddress, userAgent);
                 throw new ApiException(ErrorCode.INVALID_PASSWORD, "비밀번호가 일치하지 않습니다.");
             }
@@ -120,23 +130,26 @@ public class AuthService {
     /**
      * 비밀번호 변경
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)  // 해싱 대기 중 DB 커넥션 미사용
     public void changePassword(Long userId, PasswordChangeRequest request) {
-        // 1. 사용자 조회
+        // 1. 사용자 조회 (짧은 읽기)
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
 
-        // 2. 현재 비밀번호 확인
-        if (!passwordEncoder.matches(request.getCurrentPassword(), user.getPassword())) {
+        // 2. 현재 비밀번호 확인 및 새 비밀번호 암호화 (트랜잭션 밖)
+        if (!passwordHashingExecutor.matches(request.getCurrentPassword(), user.getPassword())) {
             throw new ApiException(ErrorCode.INVALID_PASSWORD, "현재 비밀번호가 일치하지 않습니다.");
         }
-
-        // 3. 새 비밀번호 암호화 및 저장
-        String encodedPassword = passwordEncoder.encode(request.getNewPassword());
-        user.setPassword(encodedPassword);
-        user.setPasswordUpdatedAt(LocalDateTime.now());
-
-        userRepository.save(user);
+        String encodedPassword = passwordHashingExecutor.encode(request.getNewPassword());
+
+        // 3. 저장 (짧은 쓰기 트랜잭션)
+        transactionTemplate.executeWithoutResult(status -> {
+            User managed = userRepository.findById(userId)
+                    .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
+            managed.setPassword(encodedPassword);
+            managed.setPasswordUpdatedAt(LocalDateTime.now());
+        });
+        userCache.evict(user);
         log.info("비밀번호 변경 완료: userId={}", userId);
     }
 
@@ -181,65 +194,69 @@ public class AuthService {
     /**
      * 비밀번호 재설정 (토큰 사용)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)  // 해싱 대기 중 DB 커넥션 미사용
     public void resetPassword(String token, PasswordResetConfirmRequest request) {
-        // 1. 토큰 조회 및 검증
-        PasswordResetToken resetToken = passwordResetTokenRepository.findByTokenAndUsedFalse(token)
-                .orElseThrow(() -> new ApiException(ErrorCode.INVALID_TOKEN, "유효하지 않은 토큰입니다."));
-
-        if (!resetToken.isValid()) {
-            throw new ApiException(ErrorCode.EXPIRED_TOKEN, "만료된 토큰입니다.");
-        }
+        // 1. 토큰 조회 및 검증 (짧은 읽기)
+        validateResetToken(passwordResetTokenRepository.findByTokenAndUsedFalse(token));
+
+        // 2. 새 비밀번호 암호화 (트랜잭션 밖)
+        String encodedPassword = passwordHashingExecutor.encode(request.getNewPassword());
+
+        // 3. 토큰 재검증 후 비밀번호 업데이트 및 토큰 사용 처리 (짧은 쓰기 트랜잭션 - 해싱 중 다른 요청이 쓴 토큰은 거절)
+        User updatedUser = transactionTemplate.execute(status -> {
+            PasswordResetToken resetToken = validateResetToken(passwordResetTokenRepository.findByTokenAndUsedFalse(token));
+
+            User user = null;
+            if (resetToken.getTokenType() == TokenType.INTERNAL && resetToken.getUser() != null) {
+                user = resetToken.getUser();
+                user.setPassword(encodedPassword);
+                user.setPasswordUpdatedAt(LocalDateTime.now());
+            } else if (resetToken.getTokenType() == TokenType.EXTERNAL && resetToken.getExternalUser() != null) {
+                resetToken.getExternalUser().setPassword(encodedPassword);
+            }
+            resetToken.use();
 
-        // 2. 새 비밀번호 암호화
-        String encodedPassword = passwordEncoder.encode(request.getNewPassword());
-
-        // 3. 사용자 타입에 따라 비밀번호 업데이트
-        if (resetToken.getTokenType() == TokenType.INTERNAL && resetToken.getUser() != null) {
-            User user = resetToken.getUser();
-            user.setPassword(encodedPassword);
-            user.setPasswordUpdatedAt(LocalDateTime.now());
-            userRepository.save(user);
-        } else if (resetToken.getTokenType() == TokenType.EXTERNAL && resetToken.getExternalUser() != null) {
-            ExternalUser externalUser = resetToken.getExternalUser();
-            externalUser.setPassword(encodedPassword);
-            externalUserRepository.save(externalUser);
+            log.info("비밀번호 재설정 완료: email={}", resetToken.getEmail());
+            return user;
+        });
+        if (updatedUser != null) {
+            userCache.evict(updatedUser);
         }
-
-        // 4. 토큰 사용 처리
-        resetToken.use();
-        passwordResetTokenRepository.save(resetToken);
-
-        log.info("비밀번호 재설정 완료: email={}", resetToken.getEmail());
     }
 
     /**
      * JWT 토큰 검증
      */
     public boolean validateToken(String token) {
-        return jwtTokenProvider.validateToken(token);
+        return jwtTokenProvider.parseAndValidate(token).isPresent();
     }
 
     /**
      * 토큰 갱신 (Refresh Token 사용)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)  // 캐시 적중 시 DB 커넥션 미사용
     public LoginResponse refreshToken(String refreshToken) {
-        // 1. 토큰 검증
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw new ApiException(ErrorCode.INVALID_TOKEN, "유효하지 않은 Refresh Token입니다.");
-        }
+        // 1. 토큰 검증 및 사용자 정보 추출 (1회 파싱)
+        JwtPrincipal principal = jwtTokenProvider.parseAndValidate(refreshToken)
+                .orElseThrow(() -> new ApiException(ErrorCode.INVALID_TOKEN, "유효하지 않은 Refresh Token입니다."));
 
         // 2. 사용자 정보 추출
-        String studentNum = jwtTokenProvider.getStudentNum(refreshToken);
+        String studentNum = principal.studentNum();
 
-        // 3. 사용자 조회
-        User user = userRepository.findByStudentNumAndDeletedAtIsNull(studentNum)
+        // 3. 사용자 조회 (캐시)
+        UserResponse user = userCache.findByStudentNum(studentNum)
                 .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
 
-        // 4. 새 토큰 발급
-        String newAccessToken = jwtTokenProvider.createAccessToken(user);
-        String newRefreshToken = jwtTokenProvider.createRefreshToken(user);
+        // 4. 새 토큰 발급 (토큰 클레임에 필요한 값만 채운 User 사용)
+        User tokenUser = User.builder()
+                .userId(user.getUserId())
+                .studentNum(user.getStudentNum())
+                .email(user.getEmail())
+                .name(user.getName())
+                .role(user.getRole())
+                .build();
+        String newAccessToken = jwtTokenProvider.createAccessToken(tokenUser);
+        String newRefreshToken = jwtTokenProvider.createRefreshToken(tokenUser);
 
         return LoginResponse.builder()
                 .accessToken(newAccessToken)
@@ -247,12 +264,24 @@ public class AuthService {
                 .tokenType("Bearer")
                 .expiresIn(jwtTokenProvider.getAccessTokenValidityInSeconds())
                 .userType("INTERNAL")
-                .user(UserResponse.from(user))
+                .user(user)
                 .build();
     }
 
     // ==================== Private Helper Methods ====================
 
+    /**
+     * 비밀번호 재설정 토큰 검증
+     */
+    private PasswordResetToken validateResetToken(Optional<PasswordResetToken> found) {
+        PasswordResetToken resetToken = found
+                .orElseThrow(() -> new ApiException(ErrorCode.INVALID_TOKEN, "유효하지 않은 토큰입니다."));
+        if (!resetToken.isValid()) {
+            throw new ApiException(ErrorCode.EXPIRED_TOKEN, "만료된 토큰입니다.");
+        }
+        return resetToken;
+    }
+
     /**
      * 내부 사용자 계정 상태 검증
      */
@@ -288,19 +317,16 @@ public class AuthService {
      * 로그인 성공 처리
      */
     private void handleLoginSuccess(User user, String ipAddress, String userAgent) {
-        // 실패 횟수 초기화
-        user.setFailCnt(0);
-        userRepository.save(user);
+        // 실패 횟수 초기화 (변경이 있을 때만 짧은 쓰기 트랜잭션)
+        if (user.getFailCnt() != null && user.getFailCnt() != 0) {
+            transactionTemplate.executeWithoutResult(status -> userRepository.findById(user.getUserId())
+                    .ifPresent(managed -> managed.setFailCnt(0)));
+            userCache.evict(user);
+        }
 
-        // 로그인 히스토리 기록
-        LoginHistory history = LoginHistory.builder()
-                .user(user)
-                .ipAddress(ipAddress)
-                .userAgent(userAgent)
-                .success(true)
-                .loginAt(LocalDateTime.now())
-                .build();
-        loginHistoryRepository.save(history);
+        // 로그인 히스토리 기록 (Write-Behind 배치 저장)
+        loginHistoryWriter.record(
+                LoginHistoryWriter.Entry.success(user.getUserId(), ipAddress, userAgent));
 
         log.info("로그인 성공: userId={}, ip={}", user.getUserId(), ipAddress);
     }
@@ -309,32 +335,32 @@ public class AuthService {
      * 로그인 실패 처리
      */
     private void handleLoginFailure(User user, String ipAddress, String userAgent) {
-        // 실패 횟수 증가
-        user.incrementFailCount();
-        userRepository.save(user);
-
-        // 로그인 히스토리 기록
-        LoginHistory history = LoginHistory.builder()
-                .user(user)
-                .ipAddress(ipAddress)
-                .userAgent(userAgent)
-                .success(false)
-                .failureReason("Invalid password")
-                .loginAt(LocalDateTime.now())
-                .build();
-        loginHistoryRepository.save(history);
+        // 실패 횟수 증가 (짧은 쓰기 트랜잭션, 최신 행 기준)
+        Integer failCount = transactionTemplate.execute(status -> userRepository.findById(user.getUserId())
+                .map(managed -> {
+                    managed.incrementFailCount();
+                    return managed.getFailCnt();
+                })
+                .orElse(null));
+        userCache.evict(user);
+
+        // 로그인 히스토리 기록 (즉시 큐에 추가)
+        loginHistoryWriter.record(
+                LoginHistoryWriter.Entry.failure(user.getUserId(), ipAddress, userAgent, "Invalid password"));
 
         log.warn("로그인 실패: userId={}, ip={}, failCount={}",
-                user.getUserId(), ipAddress, user.getFailCnt());
+                user.getUserId(), ipAddress, failCount);
     }
 
     /**
      * 외부 사용자 로그인 성공 처리
      */
     private void handleExternalLoginSuccess(ExternalUser user, String ipAddress, String userAgent) {
-        // 마지막 로그인 시간 업데이트
-        user.setLastLoginAt(LocalDateTime.now());
-        externalUserRepository.save(user);
+        // 마지막 로그인 시간 업데이트 (짧은 쓰기 트랜잭션)
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> externalUserRepository.findById(user.getExternalUserId())
+                .ifPresent(managed -> managed.setLastLoginAt(now)));
+        user.setLastLoginAt(now);
 
         log.info("외부 사용자 로그인 성공: externalUserId={}, ip={}", user.getExternalUserId(), ipAddress);
     }
@@ -1,11 +1,25 @@
 package com.scms.user.service;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 이메일 발송 서비스
@@ -14,19 +28,77 @@ import org.springframework.stereotype.Service;
  * - 비밀번호 재설정 이메일 발송
  * - 회원가입 환영 이메일 발송
  * - 이메일 인증 코드 발송
+ *
+ * SMTP 왕복(수백 ms ~ 수 초)이 요청 지연과 트랜잭션 시간에 포함되지 않도록,
+ * 메시지만 만들어 트랜잭션 커밋 후 발송 스레드(크기가 제한된 큐)에 넘기고 바로 반환합니다.
+ * (롤백된 요청의 이메일은 발송하지 않음)
+ *
+ * 비밀번호 재설정/인증 이메일은 버리면 안 되므로:
+ * - 큐가 가득 차면 호출 스레드에서 직접 발송 (CallerRunsPolicy - 요청이 느려지는 대신 유실 없음)
+ * - 종료 시 shutdown-timeout 동안 큐를 비우고, 그래도 남은 이메일은 종료 스레드에서 직접 발송
+ *
+ * 설정 (app.email.*):
+ * - threads           발송 스레드 수 (동시 SMTP 연결 수)
+ * - queue-capacity    발송 대기 큐 크기
+ * - shutdown-timeout  종료 시 발송 스레드가 큐를 비우기를 기다리는 시간
+ *
+ * 미터:
+ * - email.send             발송 시간 (SMTP 왕복)
+ * - email.failed           발송 실패 수
+ * - email.caller-runs      대기 큐 초과로 호출 스레드에서 직접 발송한 수
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class EmailService {
+public class EmailService implements DisposableBean {
 
     private final JavaMailSender mailSender;
+    private final String fromEmail;
+    private final String frontendUrl;
+    private final ThreadPoolExecutor executor;
+    private final Duration shutdownTimeout;
+
+    private final Timer sendTimer;
+    private final Counter failed;
+    private final Counter callerRuns;
 
-    @Value("${spring.mail.username:noreply@scms.com}")
-    private String fromEmail;
+    public EmailService(
+            JavaMailSender mailSender,
+            MeterRegistry meterRegistry,
+            @Value("${spring.mail.username:noreply@scms.com}") String fromEmail,
+            @Value("${app.frontend.url:http://localhost:3000}") String frontendUrl,
+            @Value("${app.email.threads:2}") int threads,
+            @Value("${app.email.queue-capacity:1000}") int queueCapacity,
+            @Value("${app.email.shutdown-timeout:30s}") Duration shutdownTimeout
+    ) {
+        this.mailSender = mailSender;
+        this.fromEmail = fromEmail;
+        this.frontendUrl = frontendUrl;
+        this.shutdownTimeout = shutdownTimeout;
 
-    @Value("${app.frontend.url:http://localhost:3000}")
-    private String frontendUrl;
+        this.sendTimer = Timer.builder("email.send")
+                .description("이메일 발송 시간 (SMTP 왕복)")
+                .register(meterRegistry);
+        this.failed = Counter.builder("email.failed").register(meterRegistry);
+        this.callerRuns = Counter.builder("email.caller-runs")
+                .description("발송 대기 큐 초과로 호출 스레드에서 직접 발송한 이메일 수")
+                .register(meterRegistry);
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "email-sender-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // 큐가 가득 찼거나 종료 중이면 호출 스레드에서 직접 발송 (CallerRunsPolicy와 같되 종료 중에도 버리지 않음)
+                (runnable, pool) -> {
+                    callerRuns.increment();
+                    runnable.run();
+                });
+    }
 
     /**
      * 비밀번호 재설정 이메일 발송
@@ -50,8 +122,7 @@ public class EmailService {
                             "SCMS 팀"
             );
 
-            mailSender.send(message);
-            log.info("비밀번호 재설정 이메일 발송 성공: {}", toEmail);
+            sendAfterCommit(message, "비밀번호 재설정 이메일");
 
         } catch (Exception e) {
             log.error("비밀번호 재설정 이메일 발송 실패: {}", toEmail, e);
@@ -79,8 +150,7 @@ public class EmailService {
                             "SCMS 팀"
             );
 
-            mailSender.send(message);
-            log.info("환영 이메일 발송 성공: {}", toEmail);
+            sendAfterCommit(message, "환영 이메일");
 
         } catch (Exception e) {
             log.error("환영 이메일 발송 실패: {}", toEmail, e);
@@ -110,8 +180,7 @@ public class EmailService {
                             "SCMS 팀"
             );
 
-            mailSender.send(message);
-            log.info("이메일 인증 코드 발송 성공: {}", toEmail);
+            sendAfterCommit(message, "이메일 인증 코드");
 
         } catch (Exception e) {
             log.error("이메일 인증 코드 발송 실패: {}", toEmail, e);
@@ -137,8 +206,7 @@ public class EmailService {
                             "SCMS 팀"
             );
 
-            mailSender.send(message);
-            log.info("프로그램 승인 이메일 발송 성공: {}", toEmail);
+            sendAfterCommit(message, "프로그램 승인 이메일");
 
         } catch (Exception e) {
             log.error("프로그램 승인 이메일 발송 실패: {}", toEmail, e);
@@ -169,11 +237,57 @@ public class EmailService {
                             "SCMS 팀"
             );
 
-            mailSender.send(message);
-            log.info("상담 예약 확인 이메일 발송 성공: {}", toEmail);
+            sendAfterCommit(message, "상담 예약 확인 이메일");
 
         } catch (Exception e) {
             log.error("상담 예약 확인 이메일 발송 실패: {}", toEmail, e);
         }
     }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * 트랜잭션 커밋 후 발송 스레드에 전달 (트랜잭션 밖에서 호출되면 바로 전달)
+     */
+    private void sendAfterCommit(SimpleMailMessage message, String description) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(message, description);
+                }
+            });
+            return;
+        }
+        submit(message, description);
+    }
+
+    private void submit(SimpleMailMessage message, String description) {
+        executor.execute(() -> send(message, description));
+    }
+
+    private void send(SimpleMailMessage message, String description) {
+        try {
+            sendTimer.record(() -> mailSender.send(message));
+            log.info("{} 발송 성공: {}", description, Arrays.toString(message.getTo()));
+        } catch (Exception e) {
+            failed.increment();
+            log.error("{} 발송 실패: {}", description, Arrays.toString(message.getTo()), e);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        // 대기 중인 이메일은 drain 후 종료
+        executor.shutdown();
+        if (executor.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            return;
+        }
+        // 시간 안에 비우지 못한 이메일은 버리지 않고 종료 스레드에서 직접 발송
+        List<Runnable> pending = new ArrayList<>();
+        executor.getQueue().drainTo(pending);
+        log.warn("이메일 발송 대기 시간 초과, 남은 {}건을 종료 스레드에서 직접 발송", pending.size());
+        pending.forEach(Runnable::run);
+        executor.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
 }
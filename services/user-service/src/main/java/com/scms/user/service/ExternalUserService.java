@@ -7,10 +7,11 @@ import com.scms.user.domain.enums.AccountStatus;
 import com.scms.user.dto.request.ExternalUserCreateRequest;
 import com.scms.user.dto.response.UserResponse;
 import com.scms.user.repository.ExternalUserRepository;
+import com.scms.user.security.PasswordHashingExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -34,13 +35,15 @@ import java.util.stream.Collectors;
 public class ExternalUserService {
 
     private final ExternalUserRepository externalUserRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
     private final EmailService emailService;
 
     /**
      * 외부 사용자 회원가입 (로컬)
+     *
+     * 비밀번호 해싱을 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행합니다. (저장은 리포지토리 호출 단위 트랜잭션)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse registerExternalUser(ExternalUserCreateRequest request) {
         // 1. 이메일 중복 체크
         if (externalUserRepository.existsByEmail(request.getEmail())) {
@@ -48,8 +51,8 @@ public class ExternalUserService {
                     "이미 사용 중인 이메일입니다: " + request.getEmail());
         }
 
-        // 2. 비밀번호 암호화
-        String encodedPassword = passwordEncoder.encode(request.getPassword());
+        // 2. 비밀번호 암호화 (트랜잭션 밖)
+        String encodedPassword = passwordHashingExecutor.encode(request.getPassword());
 
         // 3. 이메일 인증 코드 생성
         String verificationCode = UUID.randomUUID().toString();
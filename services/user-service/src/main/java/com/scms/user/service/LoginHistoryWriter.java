@@ -0,0 +1,247 @@
+package com.scms.user.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 이력 Write-Behind 기록기
+ *
+ * 로그인 요청 스레드는 이력을 메모리 큐에 넣기만 하고,
+ * 백그라운드 스레드가 JDBC 배치 INSERT로 모아서 저장합니다.
+ * (로그인 트랜잭션에서 login_history INSERT 제거 → 로그인 피크 시 DB 커넥션 점유 시간 감소)
+ *
+ * - 큐 크기 제한: app.login-history.queue-capacity (가득 차면 이력을 버리고 dropped 카운트 증가)
+ * - 플러시 조건: batch-size개가 모이거나 flush-interval 경과
+ * - 종료 시: 큐에 남은 이력을 drain-timeout 안에 모두 저장 후 종료
+ *
+ * 미터:
+ * - login.history.queue.size  큐에 대기 중인 이력 수
+ * - login.history.enqueued    큐에 넣은 이력 수
+ * - login.history.dropped     큐가 가득 차서 버린 이력 수 (backpressure)
+ * - login.history.written     저장된 이력 수
+ * - login.history.failed      배치 INSERT 실패로 유실된 이력 수
+ * - login.history.flush       배치 INSERT 시간
+ */
+@Slf4j
+@Component
+public class LoginHistoryWriter implements SmartLifecycle {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO login_history (user_id, login_at, ip_address, user_agent, is_success, fail_reason) "
+                    + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<Entry> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Duration drainTimeout;
+
+    private final Counter enqueued;
+    private final Counter dropped;
+    private final Counter written;
+    private final Counter failed;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public LoginHistoryWriter(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.login-history.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.login-history.batch-size:200}") int batchSize,
+            @Value("${app.login-history.flush-interval:1s}") Duration flushInterval,
+            @Value("${app.login-history.drain-timeout:10s}") Duration drainTimeout
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.drainTimeout = drainTimeout;
+
+        Gauge.builder("login.history.queue.size", queue, BlockingQueue::size)
+                .description("저장 대기 중인 로그인 이력 수")
+                .register(meterRegistry);
+        this.enqueued = Counter.builder("login.history.enqueued").register(meterRegistry);
+        this.dropped = Counter.builder("login.history.dropped")
+                .description("큐가 가득 차서 버린 로그인 이력 수")
+                .register(meterRegistry);
+        this.written = Counter.builder("login.history.written").register(meterRegistry);
+        this.failed = Counter.builder("login.history.failed")
+                .description("배치 INSERT 실패로 유실된 로그인 이력 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("login.history.flush")
+                .description("로그인 이력 배치 INSERT 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 로그인 이력 기록
+     *
+     * 트랜잭션 안에서 호출되면 커밋 후에 큐에 넣습니다. (롤백된 로그인 성공은 기록하지 않음)
+     */
+    public void recordAfterCommit(Entry entry) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(entry);
+                }
+            });
+            return;
+        }
+        record(entry);
+    }
+
+    /**
+     * 로그인 이력 즉시 큐에 추가 (호출 트랜잭션의 커밋/롤백과 무관)
+     */
+    public void record(Entry entry) {
+        if (queue.offer(entry)) {
+            enqueued.increment();
+            return;
+        }
+        dropped.increment();
+        log.warn("로그인 이력 큐가 가득 차 이력을 버립니다: userId={}", entry.userId());
+    }
+
+    // ==================== Background Writer ====================
+
+    private void runLoop() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        long lastFlush = System.nanoTime();
+
+        while (running) {
+            try {
+                long waitNanos = Math.max(0, flushIntervalNanos - (System.nanoTime() - lastFlush));
+                Entry first = queue.poll(waitNanos, TimeUnit.NANOSECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+                if (batch.size() >= batchSize || System.nanoTime() - lastFlush >= flushIntervalNanos) {
+                    flush(batch);
+                    lastFlush = System.nanoTime();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        // 종료: 남은 이력 모두 저장
+        do {
+            queue.drainTo(batch, batchSize - batch.size());
+            flush(batch);
+        } while (!queue.isEmpty());
+    }
+
+    private void flush(List<Entry> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            flushTimer.record(() -> jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, entry) -> {
+                ps.setObject(1, entry.userId());
+                ps.setTimestamp(2, Timestamp.valueOf(entry.loginAt()));
+                ps.setString(3, entry.ipAddress());
+                ps.setString(4, entry.userAgent());
+                ps.setBoolean(5, entry.success());
+                if (entry.failReason() != null) {
+                    ps.setString(6, entry.failReason());
+                } else {
+                    ps.setNull(6, Types.VARCHAR);
+                }
+            }));
+            written.increment(batch.size());
+        } catch (Exception e) {
+            failed.increment(batch.size());
+            log.error("로그인 이력 배치 저장 실패: size={}", batch.size(), e);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    // ==================== Lifecycle ====================
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::runLoop, "login-history-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            worker.join(drainTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            log.warn("로그인 이력 drain 시간 초과: 남은 이력 {}건", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버(graceful shutdown 포함)보다 늦게 종료되어 마지막 요청의 이력까지 저장
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    /**
+     * 로그인 이력 1건
+     */
+    public record Entry(
+            Integer userId,
+            LocalDateTime loginAt,
+            String ipAddress,
+            String userAgent,
+            boolean success,
+            String failReason
+    ) {
+
+        public static Entry success(Integer userId, String ipAddress, String userAgent) {
+            return new Entry(userId, LocalDateTime.now(), ipAddress, truncate(userAgent), true, null);
+        }
+
+        public static Entry failure(Integer userId, String ipAddress, String userAgent, String failReason) {
+            return new Entry(userId, LocalDateTime.now(), ipAddress, truncate(userAgent), false, failReason);
+        }
+
+        /**
+         * user_agent 컬럼 길이(255)에 맞춤
+         */
+        private static String truncate(String userAgent) {
+            return userAgent != null && userAgent.length() > 255 ? userAgent.substring(0, 255) : userAgent;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.scms.user.service;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 학생 일괄 등록 파일 스트리밍 리더 (CSV / XLSX)
+ *
+ * 파일 전체를 메모리에 올리지 않고 한 행씩 RowHandler로 전달합니다.
+ * - CSV: UTF-8 (BOM 허용), 첫 행은 헤더
+ * - XLSX: 첫 번째 시트를 SAX(XSSFSheetXMLHandler)로 읽음 - 셀 값은 표시 형식 그대로의 문자열
+ */
+final class StudentImportReader {
+
+    private StudentImportReader() {
+    }
+
+    /**
+     * 행 단위 콜백 (rowNum은 1부터 시작, 헤더 행 포함)
+     */
+    @FunctionalInterface
+    interface RowHandler {
+        void row(int rowNum, List<String> cells);
+    }
+
+    static void read(Path file, String fileName, RowHandler handler) throws Exception {
+        String lowerName = fileName != null ? fileName.toLowerCase() : "";
+        if (lowerName.endsWith(".xlsx")) {
+            readXlsx(file, handler);
+        } else if (lowerName.endsWith(".csv")) {
+            readCsv(file, handler);
+        } else {
+            throw new IllegalArgumentException("CSV 또는 XLSX 파일만 지원합니다: " + fileName);
+        }
+    }
+
+    private static void readCsv(Path file, RowHandler handler) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+             CSVParser parser = CSVFormat.DEFAULT.builder().setTrim(true).build().parse(reader)) {
+            for (CSVRecord record : parser) {
+                List<String> cells = new ArrayList<>(record.size());
+                for (String value : record) {
+                    cells.add(value);
+                }
+                if (record.getRecordNumber() == 1 && !cells.isEmpty()) {
+                    cells.set(0, stripBom(cells.get(0)));
+                }
+                handler.row((int) record.getRecordNumber(), cells);
+            }
+        }
+    }
+
+    private static void readXlsx(Path file, RowHandler handler) throws Exception {
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            XSSFReader xssfReader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = xssfReader.getStylesTable();
+
+            Iterator<InputStream> sheets = xssfReader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return;
+            }
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        styles, null, strings, new SheetRowCollector(handler), new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        }
+    }
+
+    private static String stripBom(String value) {
+        return value != null && value.startsWith("\uFEFF") ? value.substring(1) : value;
+    }
+
+    /**
+     * XLSX 행 수집기 (빈 셀은 빈 문자열로 채움)
+     */
+    private static class SheetRowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final RowHandler handler;
+        private List<String> cells;
+
+        SheetRowCollector(RowHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells = new ArrayList<>();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            handler.row(rowNum + 1, cells);
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = columnIndex(cellReference, cells.size());
+            while (cells.size() < column) {
+                cells.add("");
+            }
+            cells.add(formattedValue != null ? formattedValue.trim() : "");
+        }
+
+        /**
+         * "C12" → 2 (셀 참조가 없으면 다음 열)
+         */
+        private static int columnIndex(String cellReference, int next) {
+            if (cellReference == null) {
+                return next;
+            }
+            int column = 0;
+            for (int i = 0; i < cellReference.length(); i++) {
+                char c = cellReference.charAt(i);
+                if (!Character.isLetter(c)) {
+                    break;
+                }
+                column = column * 26 + (Character.toUpperCase(c) - 'A' + 1);
+            }
+            return column - 1;
+        }
+    }
+}
@@ -0,0 +1,530 @@
+package com.scms.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.scms.common.exception.ApiException;
+import com.scms.common.exception.ErrorCode;
+import com.scms.common.exception.RetryableApiException;
+import com.scms.user.domain.enums.UserRole;
+import com.scms.user.dto.response.StudentImportResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+
+/**
+ * 학생 일괄 등록 서비스 (CSV / XLSX 스트리밍)
+ *
+ * 레거시 bulkCreateStudents는 행마다 중복 조회 2회 + BCrypt + save를 하나의 거대한 트랜잭션에서 실행하여
+ * 5,000명 등록에 수 분이 걸리고 그동안 락을 잡고 있었습니다. 이 서비스는:
+ *
+ * 1. 업로드 파일을 임시 파일로 받은 뒤 백그라운드 작업으로 처리 (POST는 바로 jobId 반환)
+ * 2. 기존 학번/이메일을 한 번에 메모리 Set으로 적재하여 중복 검사 (파일 내 중복 포함)
+ * 3. 파일을 한 행씩 읽어 chunk-size 단위로 모음
+ * 4. 청크의 초기 비밀번호(생년월일 YYMMDD)를 전용 해싱 풀에서 병렬 해싱
+ *    (로그인용 PasswordHashingExecutor 큐를 채우지 않도록 별도 풀, 기본 CPU 코어의 절반)
+ * 5. 청크를 JDBC 배치 INSERT로 저장하고 청크마다 커밋
+ *    (배치가 실패하면 해당 청크만 행 단위로 다시 저장하여 실패 행을 찾아냄)
+ * 6. 청크마다 진행 상황 갱신 → GET /api/users/import/{jobId}
+ *
+ * 일괄 등록은 한 번에 하나만 실행하며, 대기 중인 작업이 가득 차면 429 + Retry-After로 거절합니다.
+ */
+@Slf4j
+@Service
+public class StudentImportService implements DisposableBean {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO users (student_num, name, email, phone, password, birth_date, department, grade, "
+                    + "role, locked, fail_cnt, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final DateTimeFormatter INITIAL_PASSWORD_FORMAT = DateTimeFormatter.ofPattern("yyMMdd");
+    private static final List<DateTimeFormatter> BIRTH_DATE_FORMATS = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.ofPattern("yyyy.MM.dd"),
+            DateTimeFormatter.ofPattern("yyyy/MM/dd"),
+            DateTimeFormatter.ofPattern("yyyyMMdd"),
+            // XLSX 기본 날짜 표시 형식 (m/d/yy) - 두 자리 연도는 1950~2049로 해석
+            new DateTimeFormatterBuilder()
+                    .appendPattern("M/d/")
+                    .appendValueReduced(ChronoField.YEAR, 2, 2, 1950)
+                    .toFormatter()
+    );
+
+    private static final Map<String, String> HEADER_ALIASES = Map.ofEntries(
+            Map.entry("학번", "studentNum"), Map.entry("studentnum", "studentNum"), Map.entry("student_num", "studentNum"),
+            Map.entry("이름", "name"), Map.entry("name", "name"),
+            Map.entry("이메일", "email"), Map.entry("email", "email"),
+            Map.entry("전화번호", "phone"), Map.entry("phone", "phone"),
+            Map.entry("생년월일", "birthDate"), Map.entry("birthdate", "birthDate"), Map.entry("birth_date", "birthDate"),
+            Map.entry("학과", "department"), Map.entry("department", "department"),
+            Map.entry("학년", "grade"), Map.entry("grade", "grade")
+    );
+    private static final List<String> REQUIRED_COLUMNS = List.of("studentNum", "name", "email", "birthDate");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor importExecutor;
+    private final ThreadPoolExecutor hashingPool;
+    private final Cache<String, Job> jobs;
+    private final int chunkSize;
+    private final int maxErrors;
+    private final Timer chunkTimer;
+
+    public StudentImportService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${app.student-import.chunk-size:500}") int chunkSize,
+            @Value("${app.student-import.hash-threads:0}") int hashThreads,
+            @Value("${app.student-import.max-queued-jobs:2}") int maxQueuedJobs,
+            @Value("${app.student-import.max-errors:1000}") int maxErrors,
+            @Value("${app.student-import.job-retention:24h}") Duration jobRetention
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+
+        this.importExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxQueuedJobs), daemonThreads("student-import"));
+
+        int threads = hashThreads > 0 ? hashThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        // 큐가 차면 import 스레드가 직접 해싱 (자연스러운 backpressure)
+        this.hashingPool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(chunkSize), daemonThreads("student-import-hash"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        this.jobs = Caffeine.newBuilder()
+                .maximumSize(100)
+                .expireAfterWrite(jobRetention)
+                .build();
+        this.chunkTimer = Timer.builder("student.import.chunk")
+                .description("학생 일괄 등록 청크 처리 시간 (해싱 + 배치 INSERT)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 일괄 등록 작업 접수
+     *
+     * @throws RetryableApiException 이미 대기 중인 작업이 가득 찬 경우 (429)
+     */
+    public StudentImportResponse submit(MultipartFile file) {
+        String fileName = file.getOriginalFilename();
+        if (file.isEmpty() || fileName == null
+                || !(fileName.toLowerCase().endsWith(".csv") || fileName.toLowerCase().endsWith(".xlsx"))) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "CSV 또는 XLSX 파일을 업로드해주세요.");
+        }
+
+        Path tempFile;
+        try {
+            tempFile = Files.createTempFile("student-import-", fileName.substring(fileName.lastIndexOf('.')));
+            file.transferTo(tempFile);
+        } catch (IOException e) {
+            throw new ApiException(ErrorCode.INTERNAL_SERVER_ERROR, "업로드 파일 저장에 실패했습니다.", e);
+        }
+
+        Job job = new Job(UUID.randomUUID().toString(), fileName, maxErrors);
+        jobs.put(job.id, job);
+        try {
+            importExecutor.execute(() -> run(job, tempFile));
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(job.id);
+            deleteQuietly(tempFile);
+            throw new RetryableApiException(ErrorCode.TOO_MANY_REQUESTS,
+                    "다른 일괄 등록 작업이 진행 중입니다. 잠시 후 다시 시도해주세요.", Duration.ofSeconds(30));
+        }
+
+        log.info("학생 일괄 등록 접수: jobId={}, file={}, size={}", job.id, fileName, file.getSize());
+        return job.toResponse();
+    }
+
+    /**
+     * 일괄 등록 진행 상황 조회
+     */
+    public StudentImportResponse getJob(String jobId) {
+        Job job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new ApiException(ErrorCode.NOT_FOUND, "일괄 등록 작업을 찾을 수 없습니다: jobId=" + jobId);
+        }
+        return job.toResponse();
+    }
+
+    // ==================== Import Pipeline ====================
+
+    private void run(Job job, Path file) {
+        job.start();
+        try {
+            Set<Integer> existingStudentNums = new HashSet<>(
+                    jdbcTemplate.queryForList("SELECT student_num FROM users", Integer.class));
+            Set<String> existingEmails = new HashSet<>();
+            for (String email : jdbcTemplate.queryForList("SELECT email FROM users", String.class)) {
+                existingEmails.add(normalizeEmail(email));
+            }
+
+            List<ImportRow> chunk = new ArrayList<>(chunkSize);
+            AtomicReference<Map<String, Integer>> header = new AtomicReference<>();
+
+            StudentImportReader.read(file, job.fileName, (rowNum, cells) -> {
+                if (header.get() == null) {
+                    header.set(mapHeader(cells));
+                    return;
+                }
+                if (cells.stream().allMatch(String::isBlank)) {
+                    return;
+                }
+                job.processedRows.incrementAndGet();
+
+                ImportRow row;
+                try {
+                    row = parse(rowNum, cells, header.get());
+                } catch (IllegalArgumentException e) {
+                    job.fail(rowNum, cell(cells, header.get(), "studentNum"), e.getMessage());
+                    return;
+                }
+                if (!existingStudentNums.add(row.studentNum())) {
+                    job.fail(rowNum, String.valueOf(row.studentNum()), "이미 사용 중인 학번입니다");
+                    return;
+                }
+                if (!existingEmails.add(normalizeEmail(row.email()))) {
+                    job.fail(rowNum, String.valueOf(row.studentNum()), "이미 사용 중인 이메일입니다: " + row.email());
+                    return;
+                }
+
+                chunk.add(row);
+                if (chunk.size() >= chunkSize) {
+                    flushChunk(job, chunk);
+                }
+            });
+            flushChunk(job, chunk);
+
+            if (header.get() == null) {
+                throw new IllegalArgumentException("빈 파일입니다.");
+            }
+            job.complete();
+            log.info("학생 일괄 등록 완료: jobId={}, 처리 {}행, 성공 {}명, 실패 {}행",
+                    job.id, job.processedRows.get(), job.insertedRows.get(), job.failedRows.get());
+        } catch (Exception e) {
+            job.abort(e.getMessage());
+            log.error("학생 일괄 등록 실패: jobId={}", job.id, e);
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    /**
+     * 청크 저장: 병렬 해싱 → 배치 INSERT (청크 단위 커밋)
+     */
+    private void flushChunk(Job job, List<ImportRow> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        chunkTimer.record(() -> {
+            List<CompletableFuture<String>> hashes = new ArrayList<>(chunk.size());
+            for (ImportRow row : chunk) {
+                String initialPassword = row.birthDate().format(INITIAL_PASSWORD_FORMAT);
+                hashes.add(CompletableFuture.supplyAsync(() -> passwordEncoder.encode(initialPassword), hashingPool));
+            }
+            List<String> encoded = hashes.stream().map(CompletableFuture::join).toList();
+            LocalDateTime now = LocalDateTime.now();
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL,
+                        new BatchPreparedStatementSetter() {
+                            @Override
+                            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                                bind(ps, chunk.get(i), encoded.get(i), now);
+                            }
+
+                            @Override
+                            public int getBatchSize() {
+                                return chunk.size();
+                            }
+                        }));
+                job.insertedRows.addAndGet(chunk.size());
+            } catch (DataAccessException e) {
+                // 다른 요청이 같은 학번/이메일을 먼저 등록한 경우 등: 행 단위로 다시 저장하여 실패 행만 보고
+                log.warn("학생 일괄 등록 배치 실패, 행 단위로 재시도: jobId={}, size={}", job.id, chunk.size());
+                for (int i = 0; i < chunk.size(); i++) {
+                    ImportRow row = chunk.get(i);
+                    String password = encoded.get(i);
+                    try {
+                        jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, row, password, now));
+                        job.insertedRows.incrementAndGet();
+                    } catch (DataAccessException rowError) {
+                        job.fail(row.rowNum(), String.valueOf(row.studentNum()),
+                                "저장 실패: " + rowError.getMostSpecificCause().getMessage());
+                    }
+                }
+            }
+        });
+
+        job.committedChunks.incrementAndGet();
+        log.info("학생 일괄 등록 진행: jobId={}, 처리 {}행, 성공 {}명, 실패 {}행",
+                job.id, job.processedRows.get(), job.insertedRows.get(), job.failedRows.get());
+        chunk.clear();
+    }
+
+    private static void bind(PreparedStatement ps, ImportRow row, String encodedPassword, LocalDateTime now)
+            throws SQLException {
+        ps.setInt(1, row.studentNum());
+        ps.setString(2, row.name());
+        ps.setString(3, row.email());
+        ps.setString(4, row.phone());
+        ps.setString(5, encodedPassword);
+        ps.setDate(6, Date.valueOf(row.birthDate()));
+        ps.setString(7, row.department());
+        if (row.grade() != null) {
+            ps.setInt(8, row.grade());
+        } else {
+            ps.setNull(8, Types.INTEGER);
+        }
+        ps.setString(9, UserRole.STUDENT.name());
+        ps.setBoolean(10, false);
+        ps.setInt(11, 0);
+        ps.setTimestamp(12, Timestamp.valueOf(now));
+        ps.setTimestamp(13, Timestamp.valueOf(now));
+    }
+
+    // ==================== Parsing ====================
+
+    private static Map<String, Integer> mapHeader(List<String> cells) {
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < cells.size(); i++) {
+            String column = HEADER_ALIASES.get(cells.get(i).trim().toLowerCase(Locale.ROOT));
+            if (column != null) {
+                header.putIfAbsent(column, i);
+            }
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(column -> !header.containsKey(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("필수 열이 없습니다: " + missing
+                    + " (헤더: 학번, 이름, 이메일, 생년월일, [전화번호, 학과, 학년])");
+        }
+        return header;
+    }
+
+    private static ImportRow parse(int rowNum, List<String> cells, Map<String, Integer> header) {
+        String studentNumText = cell(cells, header, "studentNum");
+        String name = cell(cells, header, "name");
+        String email = cell(cells, header, "email");
+        String phone = cell(cells, header, "phone");
+        String birthDateText = cell(cells, header, "birthDate");
+        String department = cell(cells, header, "department");
+        String gradeText = cell(cells, header, "grade");
+
+        int studentNum;
+        try {
+            studentNum = Integer.parseInt(studentNumText);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("학번이 올바르지 않습니다: " + studentNumText);
+        }
+        if (studentNum < 1) {
+            throw new IllegalArgumentException("학번은 1 이상이어야 합니다");
+        }
+        if (name.isEmpty() || name.length() > 50) {
+            throw new IllegalArgumentException("이름은 1~50자여야 합니다");
+        }
+        if (email.length() > 100 || !EMAIL_PATTERN.matcher(email).matches()) {
+            throw new IllegalArgumentException("올바른 이메일 형식이 아닙니다: " + email);
+        }
+        if (phone.length() > 100) {
+            throw new IllegalArgumentException("전화번호는 100자 이하여야 합니다");
+        }
+        if (department.length() > 100) {
+            throw new IllegalArgumentException("학과는 100자 이하여야 합니다");
+        }
+
+        Integer grade = null;
+        if (!gradeText.isEmpty()) {
+            try {
+                grade = Integer.parseInt(gradeText);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("학년이 올바르지 않습니다: " + gradeText);
+            }
+            if (grade < 1 || grade > 6) {
+                throw new IllegalArgumentException("학년은 1~6이어야 합니다");
+            }
+        }
+
+        return new ImportRow(rowNum, studentNum, name, email, phone.isEmpty() ? null : phone,
+                parseBirthDate(birthDateText), department.isEmpty() ? null : department, grade);
+    }
+
+    private static LocalDate parseBirthDate(String text) {
+        for (DateTimeFormatter format : BIRTH_DATE_FORMATS) {
+            try {
+                return LocalDate.parse(text, format);
+            } catch (DateTimeParseException ignored) {
+                // 다음 형식 시도
+            }
+        }
+        throw new IllegalArgumentException("생년월일 형식이 올바르지 않습니다 (예: 2003-05-01): " + text);
+    }
+
+    private static String cell(List<String> cells, Map<String, Integer> header, String column) {
+        Integer index = header.get(column);
+        if (index == null || index >= cells.size() || cells.get(index) == null) {
+            return "";
+        }
+        return cells.get(index).trim();
+    }
+
+    private static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", file, e);
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @Override
+    public void destroy() {
+        importExecutor.shutdownNow();
+        hashingPool.shutdownNow();
+    }
+
+    /**
+     * 검증을 통과한 등록 대상 행
+     */
+    private record ImportRow(
+            int rowNum,
+            int studentNum,
+            String name,
+            String email,
+            String phone,
+            LocalDate birthDate,
+            String department,
+            Integer grade
+    ) {
+    }
+
+    /**
+     * 일괄 등록 작업 상태 (import 스레드가 갱신, 조회 요청이 읽음)
+     */
+    private static final class Job {
+
+        private final String id;
+        private final String fileName;
+        private final int maxErrors;
+        private final AtomicInteger processedRows = new AtomicInteger();
+        private final AtomicInteger insertedRows = new AtomicInteger();
+        private final AtomicInteger failedRows = new AtomicInteger();
+        private final AtomicInteger committedChunks = new AtomicInteger();
+        private final List<StudentImportResponse.RowError> errors = Collections.synchronizedList(new ArrayList<>());
+
+        private volatile String status = "QUEUED";
+        private volatile String message;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+
+        Job(String id, String fileName, int maxErrors) {
+            this.id = id;
+            this.fileName = fileName;
+            this.maxErrors = maxErrors;
+        }
+
+        void start() {
+            startedAt = LocalDateTime.now();
+            status = "RUNNING";
+        }
+
+        void complete() {
+            finishedAt = LocalDateTime.now();
+            status = "COMPLETED";
+        }
+
+        void abort(String reason) {
+            message = reason;
+            finishedAt = LocalDateTime.now();
+            status = "FAILED";
+        }
+
+        void fail(int row, String studentNum, String reason) {
+            if (failedRows.incrementAndGet() <= maxErrors) {
+                errors.add(new StudentImportResponse.RowError(row, studentNum, reason));
+            }
+        }
+
+        StudentImportResponse toResponse() {
+            List<StudentImportResponse.RowError> errorsCopy;
+            synchronized (errors) {
+                errorsCopy = new ArrayList<>(errors);
+            }
+            return StudentImportResponse.builder()
+                    .jobId(id)
+                    .fileName(fileName)
+                    .status(status)
+                    .processedRows(processedRows.get())
+                    .insertedRows(insertedRows.get())
+                    .failedRows(failedRows.get())
+                    .committedChunks(committedChunks.get())
+                    .message(message)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .errors(errorsCopy)
+                    .errorsTruncated(failedRows.get() > maxErrors)
+                    .build();
+        }
+    }
+}
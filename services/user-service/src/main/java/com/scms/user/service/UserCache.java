@@ -0,0 +1,189 @@
+package com.scms.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.scms.user.domain.entity.User;
+import com.scms.user.dto.response.UserResponse;
+import com.scms.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 사용자 조회 Read-Through 캐시
+ *
+ * 사용자 행은 조회에 비해 변경이 드물기 때문에, 조회 결과(UserResponse 스냅샷)를
+ * 크기/TTL 제한 로컬 캐시에 두고 ID·학번·이메일 세 가지 키로 찾습니다.
+ *
+ * - 본 캐시: userId → 스냅샷
+ * - 보조 인덱스: 학번 → userId, 이메일 → userId
+ *   (인덱스로 찾은 스냅샷의 학번/이메일이 키와 다르면 미스로 처리하므로, 무효화는 userId 하나로 충분)
+ * - 무효화: evict(userId) - 현재 즉시 + 트랜잭션 커밋 후 한 번 더
+ *   (커밋 전에 다른 요청이 이전 값을 다시 적재하는 경우 방지)
+ * - 다른 인스턴스의 변경은 TTL(app.user-cache.ttl) 이내에 반영됨
+ *
+ * 로그인처럼 엔티티를 수정해야 하는 경로는 캐시를 쓰지 않고 DB에서 조회합니다.
+ * 반환된 스냅샷은 여러 요청이 공유하므로 수정하지 않습니다.
+ *
+ * 미터: cache.gets{cache=user,index=id|studentNum|email, result=hit|miss} 등
+ * (CaffeineCacheMetrics - 적중률 = hit / (hit + miss))
+ */
+@Slf4j
+@Component
+public class UserCache {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, UserResponse> byId;
+    private final Cache<String, Long> byStudentNum;
+    private final Cache<String, Long> byEmail;
+
+    public UserCache(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.user-cache.max-size:10000}") long maxSize,
+            @Value("${app.user-cache.ttl:5m}") Duration ttl
+    ) {
+        this.userRepository = userRepository;
+        this.byId = newCache(maxSize, ttl);
+        this.byStudentNum = newCache(maxSize, ttl);
+        this.byEmail = newCache(maxSize, ttl);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "user", Tags.of("index", "id"));
+        CaffeineCacheMetrics.monitor(meterRegistry, byStudentNum, "user", Tags.of("index", "studentNum"));
+        CaffeineCacheMetrics.monitor(meterRegistry, byEmail, "user", Tags.of("index", "email"));
+    }
+
+    private static <K, V> Cache<K, V> newCache(long maxSize, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * ID로 조회 (삭제된 사용자 포함)
+     */
+    public Optional<UserResponse> findById(Long userId) {
+        UserResponse cached = byId.getIfPresent(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return userRepository.findById(userId).map(this::put);
+    }
+
+    /**
+     * ID 목록 일괄 조회 (삭제된 사용자 포함)
+     *
+     * 캐시에 있는 사용자는 그대로 쓰고, 나머지만 IN 쿼리 한 번으로 조회하여 캐시에 적재합니다.
+     *
+     * @return userId → 스냅샷 (존재하지 않는 ID는 포함되지 않음)
+     */
+    public Map<Long, UserResponse> findAllById(Collection<Long> userIds) {
+        Map<Long, UserResponse> result = new HashMap<>(byId.getAllPresent(userIds));
+        List<Integer> missing = userIds.stream()
+                .filter(userId -> !result.containsKey(userId))
+                .distinct()
+                .map(Long::intValue)
+                .toList();
+        if (!missing.isEmpty()) {
+            for (User user : userRepository.findAllByUserIdIn(missing)) {
+                UserResponse snapshot = put(user);
+                result.put(snapshot.getUserId().longValue(), snapshot);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 학번으로 조회 (삭제되지 않은 사용자만)
+     */
+    public Optional<UserResponse> findByStudentNum(String studentNum) {
+        UserResponse cached = fromIndex(byStudentNum, studentNum);
+        if (cached != null && Objects.equals(String.valueOf(cached.getStudentNum()), studentNum)) {
+            return Optional.of(cached);
+        }
+        return userRepository.findByStudentNumAndDeletedAtIsNull(studentNum).map(this::put);
+    }
+
+    /**
+     * 이메일로 조회 (삭제되지 않은 사용자만)
+     */
+    public Optional<UserResponse> findByEmail(String email) {
+        UserResponse cached = fromIndex(byEmail, email);
+        if (cached != null && Objects.equals(cached.getEmail(), email)) {
+            return Optional.of(cached);
+        }
+        return userRepository.findByEmailAndDeletedAtIsNull(email).map(this::put);
+    }
+
+    /**
+     * 사용자 캐시 무효화 (변경 직후 + 트랜잭션 커밋 후)
+     */
+    public void evict(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        byId.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    byId.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 사용자 캐시 무효화 (엔티티)
+     */
+    public void evict(User user) {
+        if (user != null && user.getUserId() != null) {
+            evict(user.getUserId().longValue());
+        }
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * 보조 인덱스로 스냅샷 조회 (삭제된 사용자 스냅샷은 미스로 처리)
+     */
+    private UserResponse fromIndex(Cache<String, Long> index, String key) {
+        if (key == null) {
+            return null;
+        }
+        Long userId = index.getIfPresent(key);
+        if (userId == null) {
+            return null;
+        }
+        UserResponse cached = byId.getIfPresent(userId);
+        return cached != null && !cached.isDeleted() ? cached : null;
+    }
+
+    private UserResponse put(User user) {
+        UserResponse snapshot = UserResponse.from(user);
+        Long userId = snapshot.getUserId().longValue();
+        byId.put(userId, snapshot);
+        if (snapshot.getStudentNum() != null) {
+            byStudentNum.put(String.valueOf(snapshot.getStudentNum()), userId);
+        }
+        if (snapshot.getEmail() != null) {
+            byEmail.put(snapshot.getEmail(), userId);
+        }
+        return snapshot;
+    }
+}
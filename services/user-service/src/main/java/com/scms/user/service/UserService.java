@@ -1,5 +1,9 @@
 package com.scms.user.service;
 
+import com.scms.common.dto.CursorCodec;
+import com.scms.common.dto.CursorPage;
+import com.scms.common.dto.KeysetCursor;
+import com.scms.common.dto.UserSummary;
 import com.scms.common.exception.ApiException;
 import com.scms.common.exception.ErrorCode;
 import com.scms.user.domain.entity.User;
@@ -8,14 +12,18 @@ import com.scms.user.dto.request.UserCreateRequest;
 import com.scms.user.dto.request.UserUpdateRequest;
 import com.scms.user.dto.response.UserResponse;
 import com.scms.user.repository.UserRepository;
+import com.scms.user.security.PasswordHashingExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -27,6 +35,7 @@ import java.util.stream.Collectors;
  * - 계정 활성화/비활성화
  * - 계정 잠금/잠금 해제
  * - 역할별 사용자 조회
+ * - 단건 조회 캐시 (UserCache - 변경 시 무효화)
  */
 @Slf4j
 @Service
@@ -35,12 +44,20 @@ import java.util.stream.Collectors;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final UserCache userCache;
+    private final CursorCodec cursorCodec;
+
+    private static final String USERS_CURSOR_SCOPE = "users";
+    private static final int MAX_ID_PAGE_SIZE = 1000;
 
     /**
      * 사용자 생성
+     *
+     * 비밀번호 해싱을 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행합니다.
+     * (중복 체크와 저장은 각각 리포지토리 호출 단위의 짧은 트랜잭션, 동시 가입 충돌은 UNIQUE 제약으로 거절)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse createUser(UserCreateRequest request) {
         // 1. 중복 체크
         if (userRepository.existsByStudentNum(request.getStudentNum())) {
@@ -53,8 +70,8 @@ public class UserService {
                     "이미 사용 중인 이메일입니다: " + request.getEmail());
         }
 
-        // 2. 비밀번호 암호화
-        String encodedPassword = passwordEncoder.encode(request.getPassword());
+        // 2. 비밀번호 암호화 (트랜잭션 밖)
+        String encodedPassword = passwordHashingExecutor.encode(request.getPassword());
 
         // 3. User 엔티티 생성
         User user = User.builder()
@@ -79,8 +96,9 @@ public class UserService {
     /**
      * 사용자 조회 (ID)
      */
+    @Transactional(propagation = Propagation.SUPPORTS)  // 캐시 적중 시 DB 커넥션 미사용
     public UserResponse getUserById(Long userId) {
-        User user = userRepository.findById(userId)
+        UserResponse user = userCache.findById(userId)
                 .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND,
                         "사용자를 찾을 수 없습니다: userId=" + userId));
 
@@ -88,39 +106,64 @@ public class UserService {
             throw new ApiException(ErrorCode.USER_DELETED, "삭제된 사용자입니다.");
         }
 
-        return UserResponse.from(user);
+        return user;
     }
 
     /**
      * 사용자 조회 (학번)
      */
+    @Transactional(propagation = Propagation.SUPPORTS)  // 캐시 적중 시 DB 커넥션 미사용
     public UserResponse getUserByStudentNum(String studentNum) {
-        User user = userRepository.findByStudentNumAndDeletedAtIsNull(studentNum)
+        return userCache.findByStudentNum(studentNum)
                 .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND,
                         "사용자를 찾을 수 없습니다: studentNum=" + studentNum));
-
-        return UserResponse.from(user);
     }
 
     /**
      * 사용자 조회 (이메일)
      */
+    @Transactional(propagation = Propagation.SUPPORTS)  // 캐시 적중 시 DB 커넥션 미사용
     public UserResponse getUserByEmail(String email) {
-        User user = userRepository.findByEmailAndDeletedAtIsNull(email)
+        return userCache.findByEmail(email)
                 .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND,
                         "사용자를 찾을 수 없습니다: email=" + email));
+    }
 
-        return UserResponse.from(user);
+    /**
+     * 사용자 일괄 조회 (서비스 간 표시 정보 보강용, 삭제된 사용자 포함)
+     *
+     * @param includeDetails 학번/학과/역할 포함 여부 (관리자만, 그 외에는 이름 등 표시 정보만)
+     * @return userId → 요약 정보 (존재하지 않는 ID는 포함되지 않음)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)  // 모두 캐시 적중 시 DB 커넥션 미사용
+    public Map<Long, UserSummary> getUserSummaries(List<Long> userIds, boolean includeDetails) {
+        Map<Long, UserSummary> summaries = new HashMap<>();
+        userCache.findAllById(userIds).forEach((userId, user) -> {
+            UserSummary.UserSummaryBuilder summary = UserSummary.builder()
+                    .userId(user.getUserId())
+                    .name(user.getName())
+                    .deleted(user.isDeleted());
+            if (includeDetails) {
+                summary.studentNum(user.getStudentNum())
+                        .department(user.getDepartment())
+                        .role(user.getRole() != null ? user.getRole().name() : null);
+            }
+            summaries.put(userId, summary.build());
+        });
+        return summaries;
     }
 
     /**
-     * 모든 사용자 조회 (삭제되지 않은)
+     * 모든 사용자 조회 (삭제되지 않은, 최신순 커서 페이지)
      */
-    public List<UserResponse> getAllUsers() {
-        return userRepository.findAllActive()
-                .stream()
-                .map(UserResponse::from)
-                .collect(Collectors.toList());
+    public CursorPage<UserResponse> getAllUsers(String cursor, Integer size) {
+        int pageSize = CursorPage.pageSize(size);
+        KeysetCursor after = cursorCodec.decode(USERS_CURSOR_SCOPE, cursor);
+        List<User> users = userRepository.findActivePage(
+                after.at(), (int) Math.min(after.id(), Integer.MAX_VALUE), PageRequest.ofSize(pageSize + 1));
+        return CursorPage.of(users, pageSize, UserResponse::from,
+                user -> new KeysetCursor(user.getCreatedAt(), user.getUserId().longValue()),
+                cursorCodec, USERS_CURSOR_SCOPE);
     }
 
     /**
@@ -168,6 +211,7 @@ public class UserService {
 
         // 4. 저장
         User updatedUser = userRepository.save(user);
+        userCache.evict(userId);
         log.info("사용자 정보 수정 완료: userId={}", userId);
 
         return UserResponse.from(updatedUser);
@@ -187,6 +231,7 @@ public class UserService {
 
         user.delete();
         userRepository.save(user);
+        userCache.evict(userId);
         log.info("사용자 삭제 완료 (Soft Delete): userId={}", userId);
     }
 
@@ -204,6 +249,7 @@ public class UserService {
 
         user.setDeletedAt(null);
         User restoredUser = userRepository.save(user);
+        userCache.evict(userId);
         log.info("사용자 복원 완료: userId={}", userId);
 
         return UserResponse.from(restoredUser);
@@ -219,6 +265,7 @@ public class UserService {
 
         user.lock();
         userRepository.save(user);
+        userCache.evict(userId);
         log.info("사용자 계정 잠금: userId={}", userId);
     }
 
@@ -232,6 +279,7 @@ public class UserService {
 
         user.unlock();
         userRepository.save(user);
+        userCache.evict(userId);
         log.info("사용자 계정 잠금 해제: userId={}", userId);
     }
 
@@ -256,6 +304,20 @@ public class UserService {
         return userRepository.countByRole(role);
     }
 
+    /**
+     * 역할별 사용자 ID 조회 (userId 오름차순 키셋 페이지, 일괄 알림 대상 확장용)
+     *
+     * @param afterUserId 이전 페이지의 마지막 userId (첫 페이지는 null)
+     */
+    public List<Long> getUserIdsByRole(UserRole role, Long afterUserId, Integer size) {
+        int pageSize = size == null || size <= 0 ? MAX_ID_PAGE_SIZE : Math.min(size, MAX_ID_PAGE_SIZE);
+        int after = afterUserId != null ? afterUserId.intValue() : 0;
+        return userRepository.findIdsByRole(role, after, PageRequest.ofSize(pageSize))
+                .stream()
+                .map(Integer::longValue)
+                .collect(Collectors.toList());
+    }
+
     /**
      * 잠긴 계정 목록 조회
      */